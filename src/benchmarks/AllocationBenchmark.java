@@ -0,0 +1,149 @@
+package benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import models.Cell;
+import models.MazeGrid;
+import solver.SearchCursor;
+import solver.SteppableMazeSolver;
+import solver.solverImpl.MazeSolverBFS;
+import solver.solverImpl.MazeSolverDFS;
+import solver.solverImpl.MazeSolverRecursivoCompleto;
+import solver.solverImpl.MazeSolverRecursivoCompletoBT;
+
+/**
+ * Medición de la memoria reservada por expansión en los algoritmos que trabajan con
+ * claves enteras de celda. Para cada algoritmo separa lo reservado al preparar la
+ * búsqueda (arreglos del tamaño del laberinto), lo reservado durante los pasos de
+ * búsqueda y lo reservado al materializar el resultado como celdas. Los pasos de
+ * búsqueda no crean objetos por expansión: solo reservan el crecimiento amortizado de
+ * colas y pilas y el camino al alcanzar el destino.
+ *
+ * Al final ejecuta muchas consultas BFS cortas sobre el mismo laberinto para mostrar el
+ * efecto de reutilizar el conjunto de visitadas entre llamadas a getPath.
+ *
+ * El recursivo básico no se incluye porque, al no marcar visitadas antes de entrar,
+ * su tiempo crece exponencialmente en laberintos grandes.
+ *
+ * Uso: {@code java benchmarks.AllocationBenchmark [lado] [densidad]}
+ * Valores por defecto: 1000 y 0.2
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class AllocationBenchmark {
+    /**
+     * Punto de entrada de la medición.
+     *
+     * @param args lado del laberinto cuadrado y densidad de paredes
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        double density = args.length > 1 ? Double.parseDouble(args[1]) : 0.2;
+        boolean[][] booleanGrid = ParallelBFSBenchmark.randomGrid(size, density, 42);
+        MazeGrid grid = MazeGrid.fromBooleanGrid(booleanGrid);
+        Cell start = new Cell(0, 0);
+        Cell end = new Cell(size - 1, size - 1);
+
+        SteppableMazeSolver[] solvers = {new MazeSolverBFS(), new MazeSolverDFS(),
+                new MazeSolverRecursivoCompleto(), new MazeSolverRecursivoCompletoBT()};
+        for (SteppableMazeSolver solver : solvers) {
+            solver.getPath(grid, start, end); // Calentamiento
+
+            long before = allocatedBytes();
+            SearchCursor cursor = solver.startSearch(grid, start, end);
+            long prepared = allocatedBytes();
+            long expansions = 0;
+            while (!cursor.isFinished()) {
+                expansions += cursor.step(SearchCursor.BATCH_EXPANSIONS);
+            }
+            long searched = allocatedBytes();
+            int visited = cursor.getResult().getVisited().size();
+            long materialized = allocatedBytes();
+
+            System.out.printf("%-30s expansiones=%8d  preparación=%9.1f KB  búsqueda=%8.1f KB (%.3f B/expansión)  resultado=%9.1f KB (%d celdas)%n",
+                    solver.getClass().getSimpleName(), expansions, (prepared - before) / 1024.0,
+                    (searched - prepared) / 1024.0, (double) (searched - prepared) / Math.max(1, expansions),
+                    (materialized - searched) / 1024.0, visited);
+        }
+
+        queryLoop(grid, booleanGrid, 2000);
+    }
+
+    /**
+     * Ejecuta muchas consultas BFS cortas sobre el mismo laberinto y compara la memoria
+     * reservada por consulta con getPath, que reutiliza el conjunto de visitadas del
+     * algoritmo, frente a un cursor nuevo por consulta, que lo reserva cada vez. Mide
+     * getPath con el laberinto empaquetado y con la matriz booleana, que es la variante
+     * que usa el controlador.
+     *
+     * @param grid Laberinto empaquetado
+     * @param booleanGrid El mismo laberinto como matriz booleana
+     * @param queries Número de consultas
+     */
+    private static void queryLoop(MazeGrid grid, boolean[][] booleanGrid, int queries) {
+        Random random = new Random(7);
+        Cell[] starts = new Cell[queries];
+        Cell[] ends = new Cell[queries];
+        int[][] moves = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+        for (int i = 0; i < queries; i++) {
+            int row;
+            int col;
+            do {
+                row = random.nextInt(grid.getRows());
+                col = random.nextInt(grid.getCols());
+            } while (!grid.isOpen(row, col));
+            starts[i] = new Cell(row, col);
+            // El destino se elige con una caminata corta, por lo que siempre es alcanzable
+            for (int step = 0; step < 8; step++) {
+                int[] move = moves[random.nextInt(moves.length)];
+                if (grid.isOpen(row + move[0], col + move[1])) {
+                    row += move[0];
+                    col += move[1];
+                }
+            }
+            ends[i] = new Cell(row, col);
+        }
+
+        MazeSolverBFS solver = new MazeSolverBFS();
+        for (int round = 0; round < 2; round++) { // La primera ronda es de calentamiento
+            long before = allocatedBytes();
+            long t0 = System.nanoTime();
+            for (int i = 0; i < queries; i++) solver.getPath(grid, starts[i], ends[i]);
+            long reusedTime = System.nanoTime() - t0;
+            long reused = allocatedBytes() - before;
+
+            before = allocatedBytes();
+            t0 = System.nanoTime();
+            for (int i = 0; i < queries; i++) solver.getPath(booleanGrid, starts[i], ends[i]);
+            long booleanTime = System.nanoTime() - t0;
+            long booleanReused = allocatedBytes() - before;
+
+            before = allocatedBytes();
+            t0 = System.nanoTime();
+            for (int i = 0; i < queries; i++) solver.startSearch(grid, starts[i], ends[i]).runToCompletion();
+            long freshTime = System.nanoTime() - t0;
+            long fresh = allocatedBytes() - before;
+
+            if (round == 1) {
+                System.out.printf("%d consultas BFS cortas: getPath=%9.1f KB/consulta (%6.1f ms)  getPath booleano=%9.1f KB/consulta (%6.1f ms)  cursor nuevo=%9.1f KB/consulta (%6.1f ms)%n",
+                        queries, reused / 1024.0 / queries, reusedTime / 1e6,
+                        booleanReused / 1024.0 / queries, booleanTime / 1e6,
+                        fresh / 1024.0 / queries, freshTime / 1e6);
+            }
+        }
+    }
+
+    /**
+     * Obtiene los bytes reservados hasta ahora por el hilo actual, si la JVM lo permite.
+     *
+     * @return Bytes reservados por el hilo, o 0 si no se pueden medir
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import models.AlgorithmResult;
+import models.Cell;
+import solver.solverImpl.MazeSolverDStarLite;
+
+/**
+ * Medición del costo de replanificar con D* Lite después de cambiar una sola celda.
+ * Resuelve un laberinto aleatorio desde cero y luego, varias veces, coloca una pared en
+ * medio del camino actual (o la retira) y vuelve a resolver, comparando las expansiones
+ * y el tiempo de cada reparación con los de la búsqueda inicial.
+ *
+ * Uso: {@code java benchmarks.DStarLiteBenchmark [lado] [densidad] [cambios]}
+ * Valores por defecto: 2000, 0.25, 10
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class DStarLiteBenchmark {
+    /**
+     * Punto de entrada de la medición.
+     *
+     * @param args lado del laberinto cuadrado, densidad de paredes y número de cambios
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        double density = args.length > 1 ? Double.parseDouble(args[1]) : 0.25;
+        int changes = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        boolean[][] grid = ParallelBFSBenchmark.randomGrid(size, density, 42);
+        Cell start = new Cell(0, 0);
+        Cell end = new Cell(size - 1, size - 1);
+        grid[start.row][start.col] = true;
+        grid[end.row][end.col] = true;
+
+        MazeSolverDStarLite solver = new MazeSolverDStarLite();
+        long t0 = System.nanoTime();
+        AlgorithmResult result = solver.getPath(grid, start, end);
+        long initialTime = System.nanoTime() - t0;
+        int initialExpansions = solver.getLastExpansions();
+        System.out.printf("inicial:   %10d expansiones  %8.1f ms  (camino %d)%n",
+                initialExpansions, initialTime / 1e6, result.getPath().size());
+        if (result.getPath().isEmpty()) return;
+
+        for (int i = 0; i < changes; i++) {
+            // Alternar: bloquear una celda del camino actual y luego desbloquearla
+            Cell cell = result.getPath().get(result.getPath().size() * (i + 1) / (changes + 1));
+            grid[cell.row][cell.col] = false;
+            solver.notifyCellChanged(cell.row, cell.col, false);
+
+            t0 = System.nanoTime();
+            result = solver.getPath(grid, start, end);
+            long blockTime = System.nanoTime() - t0;
+            int blockExpansions = solver.getLastExpansions();
+
+            grid[cell.row][cell.col] = true;
+            solver.notifyCellChanged(cell.row, cell.col, true);
+            t0 = System.nanoTime();
+            result = solver.getPath(grid, start, end);
+            long openTime = System.nanoTime() - t0;
+
+            System.out.printf("cambio %2d: bloquear %8d exp. %7.1f ms (%.3f%%)  liberar %8d exp. %7.1f ms%n",
+                    i + 1, blockExpansions, blockTime / 1e6, 100.0 * blockExpansions / initialExpansions,
+                    solver.getLastExpansions(), openTime / 1e6);
+            if (result.getPath().isEmpty()) return;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package benchmarks;
+
+import models.AlgorithmResult;
+import models.Cell;
+import solver.solverImpl.MazeSolverBFS;
+import solver.solverImpl.MazeSolverDirectionOptimizingBFS;
+
+/**
+ * Comparación entre la búsqueda en anchura clásica y la búsqueda con optimización de
+ * dirección en laberintos abiertos. Para cada densidad de paredes muestra el tiempo de
+ * ambos algoritmos, la longitud del camino, las conexiones revisadas y cuántos niveles
+ * se resolvieron en modo bottom-up.
+ * 
+ * Uso: {@code java benchmarks.DirectionOptimizingBFSBenchmark [lado]}
+ * Valor por defecto: 1024
+ * 
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class DirectionOptimizingBFSBenchmark {
+    /**
+     * Punto de entrada de la comparación.
+     * 
+     * @param args lado del laberinto cuadrado
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1024;
+        Cell start = new Cell(0, 0);
+        Cell end = new Cell(size - 1, size - 1);
+
+        for (double density : new double[] {0.0, 0.05, 0.15, 0.3}) {
+            boolean[][] grid = ParallelBFSBenchmark.randomGrid(size, density, 42);
+
+            long t0 = System.nanoTime();
+            AlgorithmResult classic = new MazeSolverBFS().getPath(grid, start, end);
+            long classicTime = System.nanoTime() - t0;
+
+            MazeSolverDirectionOptimizingBFS solver = new MazeSolverDirectionOptimizingBFS();
+            t0 = System.nanoTime();
+            AlgorithmResult optimized = solver.getPath(grid, start, end);
+            long optimizedTime = System.nanoTime() - t0;
+
+            System.out.printf("densidad=%.2f  BFS=%8.1f ms (camino %d)  DO-BFS=%8.1f ms (camino %d, conexiones %d, niveles bottom-up %d)%n",
+                    density, classicTime / 1e6, classic.getPath().size(),
+                    optimizedTime / 1e6, optimized.getPath().size(),
+                    solver.getEdgeChecks(), solver.getBottomUpLevels());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package benchmarks;
+
+import java.util.Random;
+
+import controllers.MazeController;
+import models.Cell;
+import solver.index.FlowField;
+import solver.solverImpl.MazeSolverAStar;
+
+/**
+ * Simulación de muchos agentes que avanzan hacia un mismo destino siguiendo un campo de
+ * flujo. Construye el campo una vez, coloca los agentes en celdas aleatorias que pueden
+ * llegar al destino y mide el tiempo de cada tick (un paso por agente). Como referencia,
+ * mide también cuánto cuesta que unos pocos agentes calculen su propio camino con A*.
+ *
+ * Uso: {@code java benchmarks.FlowFieldBenchmark [lado] [agentes] [ticks]}
+ * Valores por defecto: 1000, 100000, 200
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class FlowFieldBenchmark {
+    /**
+     * Punto de entrada de la simulación.
+     *
+     * @param args lado del laberinto cuadrado, número de agentes y número de ticks
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int agentCount = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+        int ticks = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+        boolean[][] grid = ParallelBFSBenchmark.randomGrid(size, 0.25, 42);
+        Cell goal = new Cell(size / 2, size / 2);
+        grid[goal.row][goal.col] = true;
+
+        MazeController controller = new MazeController();
+        long t0 = System.nanoTime();
+        FlowField field = controller.obtainFlowField(grid, goal);
+        System.out.printf("Laberinto %dx%d: campo de flujo en %.1f ms%n", size, size, (System.nanoTime() - t0) / 1e6);
+
+        // Colocar agentes en celdas con dirección hacia el destino
+        Random random = new Random(7);
+        int[] agents = new int[agentCount];
+        for (int i = 0; i < agentCount; i++) {
+            int index;
+            do {
+                index = random.nextInt(size * size);
+            } while (!field.hasDirection(index));
+            agents[i] = index;
+        }
+
+        int goalIndex = goal.row * size + goal.col;
+        long best = Long.MAX_VALUE;
+        long totalTime = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < agentCount; i++) {
+                agents[i] = field.next(agents[i]);
+            }
+            long elapsed = System.nanoTime() - start;
+            best = Math.min(best, elapsed);
+            totalTime += elapsed;
+        }
+        int arrived = 0;
+        for (int agent : agents) {
+            if (agent == goalIndex) arrived++;
+        }
+        System.out.printf("%d agentes, %d ticks: mejor tick %.2f ms, promedio %.2f ms (%.1f ns por agente), %d llegaron%n",
+                agentCount, ticks, best / 1e6, totalTime / 1e6 / ticks, (double) best / agentCount, arrived);
+
+        // Referencia: cada agente calculando su propio camino
+        int samples = 20;
+        MazeSolverAStar aStar = new MazeSolverAStar();
+        t0 = System.nanoTime();
+        for (int i = 0; i < samples; i++) {
+            int index = random.nextInt(size * size);
+            aStar.getPath(grid, new Cell(index / size, index % size), goal);
+        }
+        double perAgent = (System.nanoTime() - t0) / 1e6 / samples;
+        System.out.printf("A* por agente: %.2f ms (~%.0f s para %d agentes)%n",
+                perAgent, perAgent * agentCount / 1000, agentCount);
+    }
+}
@@ -0,0 +1,94 @@
+package benchmarks;
+
+import java.lang.management.ManagementFactory;
+
+import models.AlgorithmResult;
+import models.Cell;
+import solver.MazeSolver;
+import solver.solverImpl.MazeSolverAStar;
+import solver.solverImpl.MazeSolverBFS;
+import solver.solverImpl.MazeSolverDFS;
+import solver.solverImpl.MazeSolverIDAStar;
+
+/**
+ * Comparación de memoria entre IDA* y los algoritmos que guardan estado por celda.
+ * Para BFS, DFS y A* informa los bytes reservados por el hilo durante la búsqueda (cota
+ * superior de su pico de memoria, ya que sus estructuras crecen hasta el final). Para IDA*
+ * informa además el pico de sus estructuras de búsqueda con dos tamaños de tabla de
+ * transposición sin registrar las celdas visitadas, y con la tabla grande registrándolas
+ * (como lo usa el controlador para animar la búsqueda), lo que agrega un término O(V) al
+ * pico. IDA* sin tabla no se incluye: en laberintos con salas abiertas sus reexpansiones
+ * crecen de forma exponencial.
+ *
+ * Uso: {@code java benchmarks.IDAStarBenchmark [lado] [densidad] [tabla]}
+ * Valores por defecto: 300, 0.2, 4096
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class IDAStarBenchmark {
+    /**
+     * Punto de entrada de la comparación.
+     *
+     * @param args lado del laberinto cuadrado, densidad de paredes y entradas de la tabla
+     *             de transposición
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        double density = args.length > 1 ? Double.parseDouble(args[1]) : 0.2;
+        int table = args.length > 2 ? Integer.parseInt(args[2]) : 4096;
+
+        boolean[][] grid = ParallelBFSBenchmark.randomGrid(size, density, 42);
+        Cell start = new Cell(0, 0);
+        Cell end = new Cell(size - 1, size - 1);
+        grid[start.row][start.col] = true;
+        grid[end.row][end.col] = true;
+        System.out.printf("Laberinto %dx%d, densidad %.2f%n", size, size, density);
+
+        run("BFS", new MazeSolverBFS(), grid, start, end);
+        run("DFS", new MazeSolverDFS(), grid, start, end);
+        run("A*", new MazeSolverAStar(), grid, start, end);
+        run("IDA* + tabla " + table / 4, new MazeSolverIDAStar(table / 4, false), grid, start, end);
+        run("IDA* + tabla " + table, new MazeSolverIDAStar(table, false), grid, start, end);
+        run("IDA* + tabla + visitadas", new MazeSolverIDAStar(table, true), grid, start, end);
+    }
+
+    /**
+     * Ejecuta un algoritmo (con una corrida previa de calentamiento) e imprime su memoria.
+     *
+     * @param name Nombre a mostrar
+     * @param solver Algoritmo a medir
+     * @param grid Laberinto
+     * @param start Celda de inicio
+     * @param end Celda de destino
+     */
+    private static void run(String name, MazeSolver solver, boolean[][] grid, Cell start, Cell end) {
+        solver.getPath(grid, start, end); // Calentamiento
+        long allocatedBefore = allocatedBytes();
+        long t0 = System.nanoTime();
+        AlgorithmResult result = solver.getPath(grid, start, end);
+        long time = System.nanoTime() - t0;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        String peak = "";
+        if (solver instanceof MazeSolverIDAStar idaStar) {
+            peak = String.format("  pico estructuras=%9.1f KB  expansiones=%d  iteraciones=%d",
+                    idaStar.getPeakMemoryBytes() / 1024.0, idaStar.getLastExpansions(),
+                    idaStar.getLastIterations());
+        }
+        System.out.printf("%-24s camino=%6d  reservado=%10.1f KB  tiempo=%8.1f ms%s%n",
+                name, result.getPath().size(), allocated / 1024.0, time / 1e6, peak);
+    }
+
+    /**
+     * Obtiene los bytes reservados hasta ahora por el hilo actual, si la JVM lo permite.
+     *
+     * @return Bytes reservados por el hilo, o 0 si no se pueden medir
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,65 @@
+package benchmarks;
+
+import models.AlgorithmResult;
+import models.Cell;
+import models.MazeGrid;
+import solver.MazeSolver;
+import solver.solverImpl.MazeSolverBFS;
+import solver.solverImpl.MazeSolverDFS;
+import solver.solverImpl.MazeSolverRecursivoCompletoBT;
+
+/**
+ * Comparación entre el laberinto como matriz booleana y como {@link MazeGrid} empaquetado
+ * a un bit por celda. Muestra la memoria aproximada de cada representación y el tiempo de
+ * BFS, DFS y el recursivo con backtracking sobre ambas entradas, verificando que los
+ * caminos coincidan.
+ *
+ * Uso: {@code java benchmarks.MazeGridBenchmark [lado] [densidad]}
+ * Valores por defecto: 1000 y 0.2
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeGridBenchmark {
+    /**
+     * Punto de entrada de la comparación.
+     *
+     * @param args lado del laberinto cuadrado y densidad de paredes
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        double density = args.length > 1 ? Double.parseDouble(args[1]) : 0.2;
+        Cell start = new Cell(0, 0);
+        Cell end = new Cell(size - 1, size - 1);
+
+        boolean[][] grid = ParallelBFSBenchmark.randomGrid(size, density, 42);
+        MazeGrid packed = MazeGrid.fromBooleanGrid(grid);
+
+        // Cada fila booleana ocupa un byte por celda más la cabecera del arreglo (16 bytes)
+        // y su referencia en la matriz exterior (4 bytes con punteros comprimidos)
+        long booleanBytes = (long) size * (((size + 16 + 7) & ~7) + 4);
+        long packedBytes = (long) size * packed.getWordsPerRow() * Long.BYTES + 16;
+        System.out.printf("boolean[][] ~ %,d bytes  MazeGrid ~ %,d bytes (%.1fx menos)%n",
+                booleanBytes, packedBytes, (double) booleanBytes / packedBytes);
+
+        MazeSolver[] solvers = {new MazeSolverBFS(), new MazeSolverDFS(), new MazeSolverRecursivoCompletoBT()};
+        for (MazeSolver solver : solvers) {
+            // Calentamiento sobre ambas representaciones
+            solver.getPath(grid, start, end);
+            solver.getPath(packed, start, end);
+
+            long t0 = System.nanoTime();
+            AlgorithmResult fromBoolean = solver.getPath(grid, start, end);
+            long booleanTime = System.nanoTime() - t0;
+
+            t0 = System.nanoTime();
+            AlgorithmResult fromPacked = solver.getPath(packed, start, end);
+            long packedTime = System.nanoTime() - t0;
+
+            System.out.printf("%-30s boolean[][]=%8.1f ms  MazeGrid=%8.1f ms  camino %d  %s%n",
+                    solver.getClass().getSimpleName(), booleanTime / 1e6, packedTime / 1e6,
+                    fromPacked.getPath().size(),
+                    fromBoolean.getPath().equals(fromPacked.getPath()) ? "caminos iguales" : "CAMINOS DISTINTOS");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import models.Cell;
+import solver.solverImpl.MazeSolverBFS;
+import solver.solverImpl.MazeSolverParallelBFS;
+
+/**
+ * Prueba de escalabilidad de la búsqueda en anchura paralela por niveles.
+ * Genera un laberinto aleatorio con paredes dispersas, verifica que MazeSolverParallelBFS
+ * devuelve la misma longitud de camino que MazeSolverBFS en un laberinto pequeño y luego
+ * mide el tiempo del recorrido paralelo con 1, 2, 4, ... hilos hasta el número de núcleos.
+ * 
+ * Uso: {@code java benchmarks.ParallelBFSBenchmark [lado] [densidadParedes] [repeticiones]}
+ * Valores por defecto: 4096, 0.2, 5
+ * 
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class ParallelBFSBenchmark {
+    /**
+     * Punto de entrada de la prueba de escalabilidad.
+     * 
+     * @param args lado del laberinto cuadrado, densidad de paredes y número de repeticiones
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 4096;
+        double density = args.length > 1 ? Double.parseDouble(args[1]) : 0.2;
+        int repetitions = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        // Verificar que la longitud coincide con el BFS secuencial
+        boolean[][] small = randomGrid(256, density, 1);
+        Cell smallEnd = new Cell(255, 255);
+        int expected = new MazeSolverBFS().getPath(small, new Cell(0, 0), smallEnd).getPath().size() - 1;
+        int actual = new MazeSolverParallelBFS().distance(small, new Cell(0, 0), smallEnd);
+        System.out.printf("Verificación 256x256: BFS=%d paralelo=%d %s%n", expected, actual,
+                expected == actual || (expected < 0 && actual < 0) ? "OK" : "DIFERENTE");
+
+        boolean[][] grid = randomGrid(size, density, 42);
+        Cell start = new Cell(0, 0);
+        Cell end = new Cell(size - 1, size - 1);
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("Laberinto %dx%d, densidad %.2f, %d núcleos%n", size, size, density, cores);
+
+        double base = 0;
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            MazeSolverParallelBFS solver = new MazeSolverParallelBFS(pool);
+            solver.distance(grid, start, end); // Calentamiento
+
+            long best = Long.MAX_VALUE;
+            int distance = -1;
+            for (int i = 0; i < repetitions; i++) {
+                long t0 = System.nanoTime();
+                distance = solver.distance(grid, start, end);
+                best = Math.min(best, System.nanoTime() - t0);
+            }
+            pool.shutdown();
+
+            double ms = best / 1e6;
+            if (threads == 1) base = ms;
+            System.out.printf("hilos=%2d  tiempo=%9.1f ms  aceleración=%5.2fx  distancia=%d%n",
+                    threads, ms, base / ms, distance);
+            if (threads < cores && threads * 2 > cores) threads = cores / 2;
+        }
+    }
+
+    /**
+     * Genera un laberinto cuadrado con paredes aleatorias, dejando libres las esquinas
+     * de inicio y fin.
+     * 
+     * @param size Lado del laberinto
+     * @param density Probabilidad de que una celda sea pared
+     * @param seed Semilla del generador aleatorio
+     * @return Matriz booleana donde true indica celda transitable
+     */
+    static boolean[][] randomGrid(int size, double density, long seed) {
+        Random random = new Random(seed);
+        boolean[][] grid = new boolean[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                grid[row][col] = random.nextDouble() >= density;
+            }
+        }
+        grid[0][0] = true;
+        grid[size - 1][size - 1] = true;
+        return grid;
+    }
+}
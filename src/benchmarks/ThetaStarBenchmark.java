@@ -0,0 +1,93 @@
+package benchmarks;
+
+import java.util.List;
+
+import models.AlgorithmResult;
+import models.Cell;
+import solver.MovementModel;
+import solver.MazeSolver;
+import solver.solverImpl.MazeSolverAStar;
+import solver.solverImpl.MazeSolverThetaStar;
+
+/**
+ * Comparación de A* en 4 direcciones, A* en 8 direcciones y Theta* sobre el mismo
+ * laberinto aleatorio con paredes dispersas (salas abiertas).
+ * Para cada algoritmo informa las celdas expandidas, la longitud euclidiana del camino,
+ * el número de puntos de giro (celdas donde cambia la dirección, más inicio y destino) y
+ * el tiempo de la búsqueda.
+ *
+ * Uso: {@code java benchmarks.ThetaStarBenchmark [lado] [densidad]}
+ * Valores por defecto: 1000, 0.1
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class ThetaStarBenchmark {
+    /**
+     * Punto de entrada de la comparación.
+     *
+     * @param args lado del laberinto cuadrado y densidad de paredes
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        double density = args.length > 1 ? Double.parseDouble(args[1]) : 0.1;
+
+        boolean[][] grid = ParallelBFSBenchmark.randomGrid(size, density, 42);
+        Cell start = new Cell(0, 0);
+        Cell end = new Cell(size - 1, size - 1);
+        System.out.printf("Laberinto %dx%d, densidad %.2f%n", size, size, density);
+
+        run("A* 4 direcciones", new MazeSolverAStar(), grid, start, end, false);
+        run("A* 8 direcciones", new MazeSolverAStar(MovementModel.EIGHT_CONNECTED), grid, start, end, false);
+        run("Theta*", new MazeSolverThetaStar(), grid, start, end, true);
+    }
+
+    /**
+     * Ejecuta un algoritmo (con una corrida previa de calentamiento) e imprime sus métricas.
+     *
+     * @param name Nombre a mostrar
+     * @param solver Algoritmo a medir
+     * @param grid Laberinto
+     * @param start Celda de inicio
+     * @param end Celda de destino
+     * @param anyAngle true si el camino retornado ya son puntos de giro
+     */
+    private static void run(String name, MazeSolver solver, boolean[][] grid, Cell start, Cell end,
+                            boolean anyAngle) {
+        solver.getPath(grid, start, end); // Calentamiento
+        long t0 = System.nanoTime();
+        AlgorithmResult result = solver.getPath(grid, start, end);
+        long time = System.nanoTime() - t0;
+
+        List<Cell> path = result.getPath();
+        if (path.isEmpty()) {
+            System.out.printf("%-18s sin camino (%d expansiones)%n", name, result.getVisited().size());
+            return;
+        }
+        double length = 0;
+        for (int i = 1; i < path.size(); i++) {
+            length += Math.hypot(path.get(i).row - path.get(i - 1).row, path.get(i).col - path.get(i - 1).col);
+        }
+        int waypoints = anyAngle ? path.size() : turningPoints(path);
+        System.out.printf("%-18s expansiones=%9d  longitud=%9.1f  puntos de giro=%6d  tiempo=%7.1f ms%n",
+                name, result.getVisited().size(), length, waypoints, time / 1e6);
+    }
+
+    /**
+     * Cuenta los puntos de giro de un camino celda a celda: inicio, destino y cada celda
+     * donde cambia la dirección del paso.
+     *
+     * @param path Camino de celdas adyacentes
+     * @return Número de puntos de giro
+     */
+    private static int turningPoints(List<Cell> path) {
+        int count = Math.min(path.size(), 2);
+        for (int i = 1; i + 1 < path.size(); i++) {
+            Cell a = path.get(i - 1);
+            Cell b = path.get(i);
+            Cell c = path.get(i + 1);
+            if (b.row - a.row != c.row - b.row || b.col - a.col != c.col - b.col) count++;
+        }
+        return count;
+    }
+}
@@ -1,12 +1,42 @@
 package controllers;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
 import models.Cell;
 import models.AlgorithmResult;
+import models.WeightedGrid;
+import solver.MovementModel;
+import solver.SearchCursor;
+import solver.index.ClusterAbstraction;
+import solver.index.ConnectivityIndex;
+import solver.index.CorridorGraph;
+import solver.index.DistanceField;
+import solver.index.FlowField;
+import solver.index.LandmarkIndex;
+import solver.solverImpl.MazeSolverALT;
+import solver.solverImpl.MazeSolverARAStar;
+import solver.solverImpl.MazeSolverAStar;
 import solver.solverImpl.MazeSolverBFS;
+import solver.solverImpl.MazeSolverBidirectionalBFS;
+import solver.solverImpl.MazeSolverBitParallelBFS;
+import solver.solverImpl.MazeSolverCorridorGraph;
 import solver.solverImpl.MazeSolverDFS;
+import solver.solverImpl.MazeSolverDStarLite;
+import solver.solverImpl.MazeSolverDeadEndFilling;
+import solver.solverImpl.MazeSolverDial;
+import solver.solverImpl.MazeSolverDirectionOptimizingBFS;
+import solver.solverImpl.MazeSolverHPAStar;
+import solver.solverImpl.MazeSolverIDAStar;
+import solver.solverImpl.MazeSolverJPS;
+import solver.solverImpl.MazeSolverParallelBFS;
 import solver.solverImpl.MazeSolverRecursivo;
 import solver.solverImpl.MazeSolverRecursivoCompleto;
 import solver.solverImpl.MazeSolverRecursivoCompletoBT;
+import solver.solverImpl.MazeSolverThetaStar;
 
 /**
  * Controlador principal para la resolución de laberintos.
@@ -20,6 +50,30 @@ import solver.solverImpl.MazeSolverRecursivoCompletoBT;
  * - Búsqueda recursiva con backtracking completo
  * - Búsqueda en anchura (BFS)
  * - Búsqueda en profundidad (DFS)
+ * - Búsqueda A* con heurística Manhattan
+ * - Búsqueda en anchura bidireccional
+ * - Jump Point Search (JPS) para grillas abiertas
+ * - Búsqueda en anchura bit-paralela sobre filas de 64 bits
+ * - Búsqueda en anchura paralela por niveles (ForkJoinPool)
+ * - Búsqueda en anchura con optimización de dirección (top-down / bottom-up)
+ * - Relleno de callejones sin salida (dead-end filling)
+ * - Dijkstra sobre el grafo comprimido de corredores
+ * - HPA* jerárquico sobre clústeres con actualización incremental
+ * - A* con heurística de puntos de referencia (ALT)
+ * - D* Lite con replanificación incremental al editar paredes
+ * - Dijkstra con cola de cubetas de Dial sobre grillas con costo por celda
+ * - Búsqueda A* en 8 direcciones con heurística octil, sin cortar esquinas
+ * - Theta* con caminos de cualquier ángulo y línea de vista por Bresenham
+ * - IDA* con memoria proporcional a la longitud del camino y tabla de transposición acotada
+ * - ARA* (A* anytime) que publica caminos cada vez mejores hasta un plazo
+ * 
+ * Antes de ejecutar cualquiera de ellos, el controlador consulta un índice de
+ * conectividad (union-find) y retorna un resultado vacío si el inicio y el destino
+ * están en componentes distintas.
+ * 
+ * Los algoritmos recursivos, BFS y DFS también pueden ejecutarse paso a paso mediante
+ * un {@link SearchCursor}; esas búsquedas no consultan el índice de conectividad para
+ * mostrar la exploración completa.
  * 
  * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
  * @version 1.0
@@ -55,6 +109,147 @@ public class MazeController {
      */
     private MazeSolverDFS dfs;
 
+    /**
+     * Instancia del algoritmo A* con heurística Manhattan.
+     * Garantiza el camino más corto expandiendo solo las celdas prometedoras.
+     */
+    private MazeSolverAStar aStar;
+
+    /**
+     * Instancia del algoritmo de búsqueda en anchura bidireccional.
+     * Hace crecer frentes desde el inicio y el destino hasta que se encuentran.
+     */
+    private MazeSolverBidirectionalBFS bidirectionalBfs;
+
+    /**
+     * Instancia del algoritmo Jump Point Search.
+     * Salta en línea recta y solo inserta puntos de salto en la lista abierta.
+     */
+    private MazeSolverJPS jps;
+
+    /**
+     * Instancia del algoritmo de búsqueda en anchura bit-paralela.
+     * Avanza el frente de onda 64 celdas a la vez usando máscaras de bits por fila.
+     */
+    private MazeSolverBitParallelBFS bitParallelBfs;
+
+    /**
+     * Instancia del algoritmo de búsqueda en anchura paralela por niveles.
+     * Reparte cada nivel del frente entre los hilos del pool común.
+     */
+    private MazeSolverParallelBFS parallelBfs;
+
+    /**
+     * Instancia del algoritmo de búsqueda en anchura con optimización de dirección.
+     * Alterna entre expansión top-down y bottom-up según el tamaño del frente.
+     */
+    private MazeSolverDirectionOptimizingBFS directionOptimizingBfs;
+
+    /**
+     * Instancia del algoritmo de relleno de callejones sin salida.
+     * Conserva el relleno del último laberinto para reutilizarlo entre consultas.
+     */
+    private MazeSolverDeadEndFilling deadEndFilling;
+
+    /**
+     * Instancia del algoritmo de Dijkstra sobre el grafo comprimido de corredores.
+     * Busca entre cruces y expande cada corredor recorrido en sus celdas.
+     */
+    private MazeSolverCorridorGraph corridorGraphSolver;
+
+    /**
+     * Grafo comprimido de corredores del último laberinto consultado.
+     * Se reconstruye solo cuando el laberinto recibido ya no coincide con él.
+     */
+    private CorridorGraph corridorGraph;
+
+    /**
+     * Instancia del algoritmo HPA* (Hierarchical Pathfinding A*).
+     * Busca sobre el grafo de transiciones entre clústeres y refina cada tramo localmente.
+     */
+    private MazeSolverHPAStar hpaStar;
+
+    /**
+     * Abstracción por clústeres que usa HPA*.
+     * Se actualiza de forma incremental con cada celda modificada en la vista.
+     */
+    private ClusterAbstraction clusterAbstraction;
+
+    /**
+     * Instancia del algoritmo A* con heurística ALT (puntos de referencia).
+     * Usa distancias exactas precalculadas y la desigualdad triangular como heurística.
+     */
+    private MazeSolverALT alt;
+
+    /**
+     * Tablas de puntos de referencia del laberinto actual para A* ALT.
+     * Se recalculan solo cuando el laberinto recibido ya no coincide con ellas.
+     */
+    private LandmarkIndex landmarkIndex;
+
+    /**
+     * Instancia del algoritmo D* Lite.
+     * Conserva su estado de búsqueda entre llamadas y solo repara las celdas afectadas.
+     */
+    private MazeSolverDStarLite dStarLite;
+
+    /**
+     * Índice union-find de componentes conexas del laberinto actual.
+     * Se consulta antes de ejecutar cualquier algoritmo para descartar al instante los
+     * pares inicio/destino sin camino posible.
+     */
+    private ConnectivityIndex connectivityIndex;
+
+    /**
+     * Instancia de Dijkstra con cola de cubetas de Dial.
+     * Resuelve laberintos con costo de terreno por celda; con el laberinto booleano equivale a BFS.
+     */
+    private MazeSolverDial dial;
+
+    /**
+     * Instancia del algoritmo A* con movimiento en 8 direcciones.
+     * Los pasos diagonales cuestan ≈ √2 y no se permite cortar esquinas de paredes.
+     */
+    private MazeSolverAStar aStarEight;
+
+    /**
+     * Instancia del algoritmo Theta*.
+     * Produce caminos de cualquier ángulo formados solo por sus puntos de giro.
+     */
+    private MazeSolverThetaStar thetaStar;
+
+    /**
+     * Campo de distancias desde el último origen consultado.
+     * Se reutiliza mientras el laberinto no cambie; con otro origen se recalcula sobre
+     * los mismos arreglos.
+     */
+    private DistanceField distanceField;
+
+    /**
+     * Campo de distancias propio del campo de flujo, con origen en el destino de los agentes.
+     * Es independiente de {@link #distanceField}, que se entrega a quien lo pide, para que
+     * recalcular uno no cambie el origen ni invalide el otro.
+     */
+    private DistanceField flowDistanceField;
+
+    /**
+     * Campo de flujo hacia el último destino consultado.
+     * Es válido mientras el laberinto coincida con el de {@link #flowDistanceField}.
+     */
+    private FlowField flowField;
+
+    /**
+     * Instancia del algoritmo IDA*.
+     * Usa una tabla de transposición de tamaño fijo para evitar reexpansiones exponenciales.
+     */
+    private MazeSolverIDAStar idaStar;
+
+    /**
+     * Instancia del algoritmo ARA* (Anytime Repairing A*).
+     * Entrega un camino rápido con heurística inflada y lo mejora hasta el plazo indicado.
+     */
+    private MazeSolverARAStar araStar;
+
     /**
      * Constructor del controlador de laberintos.
      * Inicializa todas las instancias de los algoritmos de resolución disponibles,
@@ -66,6 +261,22 @@ public class MazeController {
         recursivoCompletoBT = new MazeSolverRecursivoCompletoBT();
         bfs = new MazeSolverBFS();
         dfs = new MazeSolverDFS();
+        aStar = new MazeSolverAStar();
+        bidirectionalBfs = new MazeSolverBidirectionalBFS();
+        jps = new MazeSolverJPS();
+        bitParallelBfs = new MazeSolverBitParallelBFS();
+        parallelBfs = new MazeSolverParallelBFS();
+        directionOptimizingBfs = new MazeSolverDirectionOptimizingBFS();
+        deadEndFilling = new MazeSolverDeadEndFilling();
+        corridorGraphSolver = new MazeSolverCorridorGraph();
+        hpaStar = new MazeSolverHPAStar();
+        alt = new MazeSolverALT();
+        dStarLite = new MazeSolverDStarLite();
+        dial = new MazeSolverDial();
+        aStarEight = new MazeSolverAStar(MovementModel.EIGHT_CONNECTED);
+        thetaStar = new MazeSolverThetaStar();
+        idaStar = new MazeSolverIDAStar(4096); // 4096 entradas = 48 KB de tabla
+        araStar = new MazeSolverARAStar();
     }
 
     /**
@@ -79,6 +290,9 @@ public class MazeController {
      *         incluyendo el camino encontrado, estadísticas de rendimiento y éxito de la operación
      */
     public AlgorithmResult obtainRecursiveSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
         return recursivo.getPath(grid, start, end);
     }
 
@@ -94,6 +308,9 @@ public class MazeController {
      *         incluyendo el camino encontrado, estadísticas de rendimiento y éxito de la operación
      */
     public AlgorithmResult obtainCompleteSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
         return recursivoCompleto.getPath(grid, start, end);
     }
 
@@ -110,6 +327,9 @@ public class MazeController {
      *         incluyendo el camino encontrado, estadísticas de rendimiento y éxito de la operación
      */
     public AlgorithmResult obtainCompleteBTSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
         return recursivoCompletoBT.getPath(grid, start, end);
     }
 
@@ -126,6 +346,9 @@ public class MazeController {
      *         incluyendo el camino más corto encontrado, estadísticas de rendimiento y éxito de la operación
      */
     public AlgorithmResult obtainBFSSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
         return bfs.getPath(grid, start, end);
     }
     
@@ -142,6 +365,601 @@ public class MazeController {
      *         incluyendo el camino encontrado, estadísticas de rendimiento y éxito de la operación
      */
     public AlgorithmResult obtainDFSSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
         return dfs.getPath(grid, start, end);
     }
+
+    /**
+     * Prepara una búsqueda paso a paso con el algoritmo recursivo básico.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return Cursor de la búsqueda, sin ninguna celda expandida todavía
+     */
+    public SearchCursor obtainRecursiveCursor(boolean[][] grid, Cell start, Cell end) {
+        return recursivo.startSearch(grid, start, end);
+    }
+
+    /**
+     * Prepara una búsqueda paso a paso con el algoritmo recursivo completo.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return Cursor de la búsqueda, sin ninguna celda expandida todavía
+     */
+    public SearchCursor obtainCompleteCursor(boolean[][] grid, Cell start, Cell end) {
+        return recursivoCompleto.startSearch(grid, start, end);
+    }
+
+    /**
+     * Prepara una búsqueda paso a paso con el algoritmo recursivo con backtracking.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return Cursor de la búsqueda, sin ninguna celda expandida todavía
+     */
+    public SearchCursor obtainCompleteBTCursor(boolean[][] grid, Cell start, Cell end) {
+        return recursivoCompletoBT.startSearch(grid, start, end);
+    }
+
+    /**
+     * Prepara una búsqueda paso a paso con el algoritmo BFS.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return Cursor de la búsqueda, sin ninguna celda expandida todavía
+     */
+    public SearchCursor obtainBFSCursor(boolean[][] grid, Cell start, Cell end) {
+        return bfs.startSearch(grid, start, end);
+    }
+
+    /**
+     * Prepara una búsqueda paso a paso con el algoritmo DFS.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return Cursor de la búsqueda, sin ninguna celda expandida todavía
+     */
+    public SearchCursor obtainDFSCursor(boolean[][] grid, Cell start, Cell end) {
+        return dfs.startSearch(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando el algoritmo A*.
+     * Este algoritmo garantiza el camino más corto igual que BFS, pero guía la búsqueda
+     * con la distancia Manhattan hacia el destino y expande muchas menos celdas.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas expandidas durante la búsqueda
+     */
+    public AlgorithmResult obtainAStarSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return aStar.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando la búsqueda en anchura bidireccional.
+     * Este algoritmo garantiza el camino más corto igual que BFS, pero avanza desde ambos
+     * extremos a la vez y se detiene cuando los frentes se tocan, explorando menos celdas.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         la unión de las celdas descubiertas por ambos frentes
+     */
+    public AlgorithmResult obtainBidirectionalBFSSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return bidirectionalBfs.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando Jump Point Search.
+     * Este algoritmo garantiza el camino más corto y, en laberintos con salas abiertas,
+     * realiza muchas menos operaciones sobre la lista abierta que A* o BFS.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         los puntos de salto expandidos durante la búsqueda
+     */
+    public AlgorithmResult obtainJPSSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return jps.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando la búsqueda en anchura bit-paralela.
+     * Este algoritmo produce el mismo camino más corto que BFS, pero procesa cada nivel
+     * con operaciones sobre palabras de 64 bits en lugar de celda por celda.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas visitadas nivel por nivel
+     */
+    public AlgorithmResult obtainBitParallelBFSSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return bitParallelBfs.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando la búsqueda en anchura paralela.
+     * Este algoritmo produce un camino de la misma longitud que BFS, procesando cada
+     * nivel del frente en bloques paralelos sobre todos los núcleos disponibles.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas visitadas nivel por nivel
+     */
+    public AlgorithmResult obtainParallelBFSSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return parallelBfs.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando la búsqueda en anchura con optimización
+     * de dirección. Este algoritmo produce el camino más corto igual que BFS y, cuando el
+     * frente crece mucho en salas abiertas, revisa muchas menos conexiones.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas visitadas nivel por nivel
+     */
+    public AlgorithmResult obtainDirectionOptimizingBFSSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return directionOptimizingBfs.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando el relleno de callejones sin salida.
+     * El relleno se calcula una vez por laberinto y se reutiliza para cualquier par
+     * inicio/destino mientras el laberinto no cambie.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return DeadEndFillingResult (como AlgorithmResult) con el camino más corto,
+     *         las celdas visitadas y el número de celdas eliminadas
+     */
+    public AlgorithmResult obtainDeadEndFillingSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return deadEndFilling.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando Dijkstra sobre el grafo comprimido de
+     * corredores. El grafo se guarda en el controlador y solo se reconstruye cuando el
+     * laberinto cambia, por lo que las consultas repetidas no vuelven a recorrer los corredores.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         los cruces cerrados en orden
+     */
+    public AlgorithmResult obtainCorridorGraphSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        if (grid == null || grid.length == 0) {
+            return corridorGraphSolver.getPath(grid, start, end);
+        }
+        if (corridorGraph == null || !corridorGraph.matches(grid)) {
+            corridorGraph = new CorridorGraph(grid);
+        }
+        return corridorGraphSolver.getPath(corridorGraph, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando HPA* sobre la abstracción por clústeres
+     * que mantiene el controlador. La abstracción se construye la primera vez y luego se
+     * actualiza de forma incremental con {@link #updateCell(int, int, boolean)}.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino refinado (casi óptimo) y
+     *         las celdas de transición cerradas en orden
+     */
+    public AlgorithmResult obtainHPAStarSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        if (grid == null || grid.length == 0) {
+            return hpaStar.getPath(grid, start, end);
+        }
+        if (clusterAbstraction == null || !clusterAbstraction.matches(grid)) {
+            clusterAbstraction = new ClusterAbstraction(grid);
+        }
+        return hpaStar.getPath(clusterAbstraction, start, end);
+    }
+
+    /**
+     * Notifica al controlador que una celda del laberinto cambió entre pared y transitable.
+     * Los índices que admiten actualización incremental (la abstracción de HPA*, el
+     * estado de D* Lite y el índice de conectividad) recalculan solo la región afectada;
+     * los demás se validan en la siguiente consulta.
+     * 
+     * @param row Fila de la celda modificada
+     * @param col Columna de la celda modificada
+     * @param open true si la celda quedó transitable, false si quedó como pared
+     */
+    public void updateCell(int row, int col, boolean open) {
+        if (clusterAbstraction != null) {
+            clusterAbstraction.update(row, col, open);
+        }
+        dStarLite.notifyCellChanged(row, col, open);
+        if (connectivityIndex != null) {
+            connectivityIndex.update(row, col, open);
+        }
+    }
+
+    /**
+     * Verifica con el índice de conectividad si el inicio y el destino están en
+     * componentes distintas. El índice se construye la primera vez y se reconstruye solo
+     * si el laberinto recibido no coincide con él; con el laberinto sincronizado mediante
+     * {@link #updateCell(int, int, boolean)}, la respuesta cuesta O(α).
+     * 
+     * Las entradas inválidas (laberinto vacío, celdas fuera de rango o sobre paredes) no
+     * se descartan aquí, para que cada algoritmo las trate como siempre.
+     * 
+     * @param grid Matriz booleana que representa el laberinto
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return true si ambas celdas son transitables y no existe camino entre ellas
+     */
+    private boolean isDisconnected(boolean[][] grid, Cell start, Cell end) {
+        if (grid == null || grid.length == 0 || grid[0].length == 0 || start == null || end == null
+                || start.row < 0 || start.col < 0 || start.row >= grid.length || start.col >= grid[0].length
+                || end.row < 0 || end.col < 0 || end.row >= grid.length || end.col >= grid[0].length
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return false;
+        }
+        if (connectivityIndex == null || !connectivityIndex.matches(grid)) {
+            connectivityIndex = new ConnectivityIndex(grid);
+        }
+        return !connectivityIndex.connected(start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando A* con heurística ALT. Las tablas de
+     * referencias se guardan en el controlador junto con el laberinto y solo se recalculan
+     * cuando el laberinto cambia.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         el conjunto de celdas expandidas durante la búsqueda
+     */
+    public AlgorithmResult obtainALTSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        if (grid == null || grid.length == 0) {
+            return alt.getPath(grid, start, end);
+        }
+        if (landmarkIndex == null || !landmarkIndex.matches(grid)) {
+            landmarkIndex = new LandmarkIndex(grid);
+        }
+        return alt.getPath(landmarkIndex, start, end);
+    }
+
+    /**
+     * Guarda en un archivo el laberinto actual junto con sus tablas de referencias ALT,
+     * para poder cargarlas después sin repetir las búsquedas.
+     * 
+     * @param grid Matriz booleana que representa el laberinto a guardar
+     * @param file Ruta del archivo de destino
+     * @throws IOException Si ocurre un error al escribir el archivo
+     */
+    public void saveLandmarkIndex(boolean[][] grid, Path file) throws IOException {
+        if (landmarkIndex == null || !landmarkIndex.matches(grid)) {
+            landmarkIndex = new LandmarkIndex(grid);
+        }
+        landmarkIndex.save(file);
+    }
+
+    /**
+     * Carga desde un archivo un laberinto con sus tablas de referencias ALT.
+     * Las tablas cargadas se usan en las siguientes consultas mientras el laberinto coincida.
+     * 
+     * @param file Ruta del archivo de origen
+     * @return Laberinto guardado junto con las tablas (true = transitable)
+     * @throws IOException Si ocurre un error al leer o el archivo no es válido
+     */
+    public boolean[][] loadLandmarkIndex(Path file) throws IOException {
+        landmarkIndex = LandmarkIndex.load(file);
+        boolean[][] grid = new boolean[landmarkIndex.getRows()][landmarkIndex.getCols()];
+        for (int row = 0; row < grid.length; row++) {
+            for (int col = 0; col < grid[0].length; col++) {
+                grid[row][col] = landmarkIndex.isOpen(row, col);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando D* Lite. Después de la primera búsqueda,
+     * las consultas con el mismo destino solo reparan la parte afectada por las celdas
+     * notificadas con {@link #updateCell(int, int, boolean)}.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas expandidas en esta llamada
+     */
+    public AlgorithmResult obtainDStarLiteSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return dStarLite.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando Dijkstra con cola de cubetas de Dial,
+     * tratando todas las celdas transitables con costo 1.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas cerradas durante la búsqueda
+     */
+    public AlgorithmResult obtainDialSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return dial.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución de menor costo de un laberinto con costo de terreno por celda,
+     * utilizando Dijkstra con cola de cubetas de Dial.
+     * 
+     * @param grid Grilla con el costo de entrar en cada celda (0 = pared)
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino de menor costo encontrado y
+     *         las celdas cerradas durante la búsqueda
+     */
+    public AlgorithmResult obtainWeightedSolve(WeightedGrid grid, Cell start, Cell end) {
+        if (grid != null && isDisconnected(grid.toBooleanGrid(), start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return dial.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando A* con movimiento en 8 direcciones.
+     * Las diagonales solo se usan si las dos celdas ortogonales que rodean están libres.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino de menor costo en 8 direcciones y
+     *         el conjunto de celdas expandidas durante la búsqueda
+     */
+    public AlgorithmResult obtainAStarEightSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return aStarEight.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando Theta*. El camino retornado contiene
+     * solo los puntos de giro; {@link #expandAnyAnglePath(List)} lo convierte en las celdas
+     * recorridas.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene los puntos de giro del camino encontrado y
+     *         el conjunto de celdas expandidas durante la búsqueda
+     */
+    public AlgorithmResult obtainThetaStarSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return thetaStar.getPath(grid, start, end);
+    }
+
+    /**
+     * Convierte los puntos de giro de un camino de Theta* en la secuencia de celdas que
+     * recorre, para visualizarlo sobre la grilla.
+     * 
+     * @param waypoints Puntos de giro desde el inicio hasta el destino
+     * @return Celdas recorridas por los segmentos del camino
+     */
+    public List<Cell> expandAnyAnglePath(List<Cell> waypoints) {
+        return MazeSolverThetaStar.toGridPath(waypoints);
+    }
+
+    /**
+     * Obtiene el campo de distancias desde una celda de origen: una búsqueda en anchura
+     * que guarda la distancia y la dirección hacia el padre de cada celda. El campo se
+     * guarda en el controlador y solo se recalcula cuando cambia el laberinto o el origen.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param source Celda de origen
+     * @return DistanceField del laberinto desde el origen, o null si el laberinto está vacío
+     */
+    public DistanceField obtainDistanceField(boolean[][] grid, Cell source) {
+        if (grid == null || grid.length == 0 || grid[0].length == 0) return null;
+        if (distanceField == null || !distanceField.matches(grid)) {
+            distanceField = new DistanceField(grid, source);
+        } else if (source == null || !source.equals(distanceField.getSource())) {
+            distanceField.compute(source);
+        }
+        return distanceField;
+    }
+
+    /**
+     * Obtiene los caminos más cortos desde un mismo inicio hacia varios destinos con una
+     * sola búsqueda en anchura. Cada camino se arma en O(longitud) a partir del campo de
+     * distancias, en lugar de repetir una búsqueda completa por destino.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio común
+     * @param ends Celdas de destino
+     * @return Un camino por destino, en el mismo orden (vacío si el destino no es alcanzable)
+     */
+    public List<List<Cell>> obtainPathsFrom(boolean[][] grid, Cell start, List<Cell> ends) {
+        List<List<Cell>> paths = new ArrayList<>(ends.size());
+        DistanceField field = obtainDistanceField(grid, start);
+        for (Cell end : ends) {
+            paths.add(field == null ? new ArrayList<>() : field.pathTo(end));
+        }
+        return paths;
+    }
+
+    /**
+     * Obtiene el campo de flujo hacia un destino: la dirección del siguiente paso del
+     * camino más corto para cada celda, empaquetada a 2 bits por celda. Se calcula con una
+     * sola búsqueda en anchura desde el destino y se reutiliza mientras no cambien el
+     * laberinto ni el destino. La búsqueda usa un campo de distancias propio, por lo que no
+     * altera el que devuelve {@link #obtainDistanceField(boolean[][], Cell)}.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param goal Celda de destino común de los agentes
+     * @return FlowField hacia el destino, o null si el laberinto está vacío o no hay destino
+     */
+    public FlowField obtainFlowField(boolean[][] grid, Cell goal) {
+        if (grid == null || grid.length == 0 || grid[0].length == 0 || goal == null) return null;
+        if (flowDistanceField == null || !flowDistanceField.matches(grid)) {
+            flowDistanceField = new DistanceField(grid, goal);
+        } else if (flowField != null && goal.equals(flowField.getGoal())) {
+            return flowField;
+        } else {
+            flowDistanceField.compute(goal);
+        }
+        flowField = new FlowField(flowDistanceField);
+        return flowField;
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando IDA* (A* con profundización iterativa).
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         el conjunto de celdas expandidas durante la búsqueda
+     */
+    public AlgorithmResult obtainIDAStarSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return idaStar.getPath(grid, start, end);
+    }
+
+    /**
+     * Obtiene la solución del laberinto utilizando ARA* con el plazo por defecto
+     * ({@link MazeSolverARAStar#DEFAULT_BUDGET_MILLIS} milisegundos).
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return AlgorithmResult que contiene el mejor camino encontrado en el plazo y
+     *         el conjunto de celdas expandidas durante las búsquedas
+     */
+    public AlgorithmResult obtainARAStarSolve(boolean[][] grid, Cell start, Cell end) {
+        if (isDisconnected(grid, start, end)) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return araStar.getPath(grid, start, end);
+    }
+
+    /**
+     * Verifica con el índice de conectividad si no existe camino entre el inicio y el
+     * destino. Modifica el índice compartido, por lo que debe llamarse desde el mismo hilo
+     * que {@link #updateCell(int, int, boolean)}.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @return true si ambas celdas son transitables y están en componentes distintas
+     */
+    public boolean isUnreachable(boolean[][] grid, Cell start, Cell end) {
+        return isDisconnected(grid, start, end);
+    }
+
+    /**
+     * Resuelve el laberinto con ARA* hasta un plazo, publicando cada camino mejorado.
+     * Usa una instancia propia del algoritmo y no consulta ningún índice del controlador,
+     * ya que está pensado para ejecutarse fuera del hilo de la interfaz mientras esta sigue
+     * editando el laberinto. Quien llama debe pasar una copia propia del laberinto y
+     * descartar antes los pares sin camino con {@link #isUnreachable(boolean[][], Cell, Cell)}.
+     * 
+     * @param grid Matriz booleana que representa el laberinto donde true indica camino libre
+     *             y false indica pared
+     * @param start Celda de inicio del laberinto
+     * @param end Celda de destino del laberinto
+     * @param deadlineNanos Instante límite según {@link System#nanoTime()}
+     * @param listener Receptor de cada camino mejorado y su cota de suboptimalidad
+     * @return AlgorithmResult que contiene el mejor camino encontrado en el plazo y
+     *         el conjunto de celdas expandidas durante las búsquedas
+     */
+    public AlgorithmResult obtainAnytimeSolve(boolean[][] grid, Cell start, Cell end, long deadlineNanos,
+                                              MazeSolverARAStar.PathListener listener) {
+        return new MazeSolverARAStar().getPath(grid, start, end, deadlineNanos, listener);
+    }
 }
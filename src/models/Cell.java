@@ -1,7 +1,5 @@
 package models;
 
-import java.util.Objects;
-
 /**
  * Representa una celda individual en el laberinto mediante sus coordenadas de fila y columna.
  * Esta clase es fundamental para el sistema de resolución de laberintos, ya que cada
@@ -61,11 +59,14 @@ public class Cell {
      * Dos celdas con las mismas coordenadas tendrán el mismo código hash,
      * cumpliendo con el contrato de hashCode() en relación con equals().
      * 
+     * Se calcula directamente el mismo valor que {@code Objects.hash(row, col)}, sin
+     * crear el arreglo de argumentos ni encajonar las coordenadas en cada llamada.
+     * 
      * @return Código hash calculado a partir de las coordenadas row y col
      */
     @Override
     public int hashCode() {
-        return Objects.hash(row, col);
+        return 31 * (31 + row) + col;
     }
 
     /**
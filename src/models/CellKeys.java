@@ -0,0 +1,95 @@
+package models;
+
+import java.util.Collection;
+
+/**
+ * Utilidades para representar celdas como claves enteras {@code fila * columnas + columna}.
+ * Los algoritmos trabajan internamente con estas claves, que pueden guardarse en arreglos
+ * de enteros sin crear un objeto {@link Cell} por vecina probada, y solo las convierten a
+ * celdas al construir el {@link AlgorithmResult}.
+ *
+ * La clave coincide con el índice lineal de {@link MazeGrid#isOpen(int)}, por lo que un
+ * laberinto de hasta 2^31 - 1 celdas cabe en un int.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class CellKeys {
+    /**
+     * Clase de utilidades; no se instancia.
+     */
+    private CellKeys() {
+    }
+
+    /**
+     * Calcula la clave de una posición.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param cols Número de columnas del laberinto
+     * @return Clave {@code row * cols + col}
+     */
+    public static int of(int row, int col, int cols) {
+        return row * cols + col;
+    }
+
+    /**
+     * Calcula la clave de una celda.
+     *
+     * @param cell Celda dentro del laberinto
+     * @param cols Número de columnas del laberinto
+     * @return Clave {@code cell.row * cols + cell.col}
+     */
+    public static int of(Cell cell, int cols) {
+        return cell.row * cols + cell.col;
+    }
+
+    /**
+     * Obtiene la fila de una clave.
+     *
+     * @param key Clave de la celda
+     * @param cols Número de columnas del laberinto
+     * @return Fila de la celda
+     */
+    public static int row(int key, int cols) {
+        return key / cols;
+    }
+
+    /**
+     * Obtiene la columna de una clave.
+     *
+     * @param key Clave de la celda
+     * @param cols Número de columnas del laberinto
+     * @return Columna de la celda
+     */
+    public static int col(int key, int cols) {
+        return key % cols;
+    }
+
+    /**
+     * Convierte una clave en una celda.
+     *
+     * @param key Clave de la celda
+     * @param cols Número de columnas del laberinto
+     * @return Celda nueva con la fila y columna de la clave
+     */
+    public static Cell toCell(int key, int cols) {
+        int row = key / cols;
+        return new Cell(row, key - row * cols);
+    }
+
+    /**
+     * Agrega a una colección las celdas de un rango de claves, en orden.
+     *
+     * @param keys Arreglo de claves
+     * @param from Primera posición del rango (incluida)
+     * @param to Última posición del rango (excluida)
+     * @param cols Número de columnas del laberinto
+     * @param out Colección que recibe las celdas
+     */
+    public static void addCells(int[] keys, int from, int to, int cols, Collection<Cell> out) {
+        for (int i = from; i < to; i++) {
+            out.add(toCell(keys[i], cols));
+        }
+    }
+}
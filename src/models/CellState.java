@@ -19,6 +19,12 @@ import java.awt.Color;
  * - END: Punto de destino del laberinto
  * - PATH: Celda que forma parte del camino solución
  * - VISITED: Celda que fue explorada durante la búsqueda
+ * - MUD: Terreno de barro (transitable con costo 3)
+ * - STAIRS: Escaleras (transitable con costo 5)
+ * 
+ * Cada estado define además el costo de entrar en la celda, que usan los algoritmos
+ * sobre grillas ponderadas: 0 para las paredes, 1 para las celdas normales y el valor
+ * del terreno para MUD y STAIRS.
  * 
  * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
  * @version 1.0
@@ -35,7 +41,7 @@ public class CellState {
      * Las celdas con este estado no son transitables por los algoritmos de búsqueda.
      * Se visualiza en color negro en la interfaz gráfica.
      */
-    public static final CellState WALL = new CellState("Wall", Color.BLACK);
+    public static final CellState WALL = new CellState("Wall", Color.BLACK, 0);
     
     /**
      * Estado que representa el punto de inicio del laberinto.
@@ -65,6 +71,20 @@ public class CellState {
      */
     public static final CellState VISITED = new CellState("Visited", Color.LIGHT_GRAY);
     
+    /**
+     * Estado que representa una celda de barro, transitable pero más costosa.
+     * Entrar en ella cuesta 3 en los algoritmos sobre grillas ponderadas.
+     * Se visualiza en color marrón en la interfaz gráfica.
+     */
+    public static final CellState MUD = new CellState("Mud", new Color(153, 102, 51), 3);
+    
+    /**
+     * Estado que representa unas escaleras, transitables pero muy costosas.
+     * Entrar en ellas cuesta 5 en los algoritmos sobre grillas ponderadas.
+     * Se visualiza en color naranja en la interfaz gráfica.
+     */
+    public static final CellState STAIRS = new CellState("Stairs", Color.ORANGE, 5);
+    
     /**
      * Nombre descriptivo del estado de la celda.
      * Se utiliza para identificación y propósitos de depuración.
@@ -79,7 +99,12 @@ public class CellState {
     private final Color color;
     
     /**
-     * Constructor privado para crear instancias de estados de celda.
+     * Costo de entrar en una celda con este estado (0 = no transitable).
+     */
+    private final int cost;
+    
+    /**
+     * Constructor privado para crear instancias de estados de celda de costo 1.
      * Este constructor es privado para implementar el patrón Enum Type-Safe,
      * garantizando que solo se puedan usar las instancias predefinidas.
      * 
@@ -87,8 +112,21 @@ public class CellState {
      * @param color Color asociado al estado para visualización
      */
     private CellState(String name, Color color) {
+        this(name, color, 1);
+    }
+    
+    /**
+     * Constructor privado para crear estados con un costo de paso propio
+     * (paredes y terrenos).
+     * 
+     * @param name Nombre descriptivo del estado
+     * @param color Color asociado al estado para visualización
+     * @param cost Costo de entrar en la celda (0 = no transitable)
+     */
+    private CellState(String name, Color color, int cost) {
         this.name = name;
         this.color = color;
+        this.cost = cost;
     }
     
     /**
@@ -102,6 +140,17 @@ public class CellState {
         return color;
     }
     
+    /**
+     * Obtiene el costo de entrar en una celda con este estado.
+     * Las paredes cuestan 0 (no transitables), las celdas normales 1 y los
+     * terrenos su valor propio.
+     * 
+     * @return Costo de paso entre 0 y 255
+     */
+    public int getCost() {
+        return cost;
+    }
+    
     /**
      * Proporciona una representación textual del estado de la celda.
      * Retorna el nombre descriptivo del estado, útil para depuración,
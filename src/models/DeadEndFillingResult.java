@@ -0,0 +1,42 @@
+package models;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resultado del algoritmo de relleno de callejones sin salida (dead-end filling).
+ * Extiende AlgorithmResult agregando el número de celdas que el relleno eliminó,
+ * es decir, las celdas transitables que quedaron descartadas por pertenecer a
+ * callejones sin salida respecto al inicio y al destino de la consulta.
+ * 
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class DeadEndFillingResult extends AlgorithmResult {
+    /**
+     * Número de celdas transitables eliminadas por el relleno de callejones.
+     */
+    private final int eliminatedCells;
+
+    /**
+     * Constructor que inicializa el resultado con el camino, las celdas visitadas
+     * y el número de celdas eliminadas.
+     * 
+     * @param path Lista ordenada de celdas desde el inicio hasta el destino
+     * @param visited Conjunto de celdas procesadas por el algoritmo
+     * @param eliminatedCells Número de celdas eliminadas por el relleno
+     */
+    public DeadEndFillingResult(List<Cell> path, Set<Cell> visited, int eliminatedCells) {
+        super(path, visited);
+        this.eliminatedCells = eliminatedCells;
+    }
+
+    /**
+     * Obtiene el número de celdas transitables eliminadas por el relleno de callejones.
+     * 
+     * @return Cantidad de celdas eliminadas
+     */
+    public int getEliminatedCells() {
+        return eliminatedCells;
+    }
+}
@@ -0,0 +1,181 @@
+package models;
+
+/**
+ * Laberinto empaquetado a un bit por celda en un único arreglo de long.
+ * Cada fila ocupa un número entero de palabras de 64 bits (filas rellenadas), en orden
+ * por filas: el bit {@code col & 63} de la palabra {@code fila * palabrasPorFila + col / 64}
+ * vale 1 si la celda es transitable. Los bits de relleno al final de cada fila valen 0,
+ * por lo que se comportan como paredes en las operaciones sobre palabras completas.
+ *
+ * Comparado con {@code boolean[][]}, ocupa 8 veces menos memoria (sin cabecera ni
+ * puntero por fila) y las celdas vecinas de una fila comparten línea de caché, lo que
+ * importa en laberintos de 10 000 x 10 000 celdas.
+ *
+ * {@link #fromBooleanGrid(boolean[][])} y {@link #toBooleanGrid()} convierten entre
+ * ambas representaciones.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeGrid {
+    /**
+     * Número de filas del laberinto.
+     */
+    private final int rows;
+
+    /**
+     * Número de columnas del laberinto.
+     */
+    private final int cols;
+
+    /**
+     * Número de palabras de 64 bits por fila.
+     */
+    private final int wordsPerRow;
+
+    /**
+     * Bits de las celdas, fila por fila; 1 indica celda transitable.
+     */
+    private final long[] bits;
+
+    /**
+     * Constructor que crea un laberinto con todas las celdas como paredes.
+     *
+     * @param rows Número de filas (mayor que 0)
+     * @param cols Número de columnas (mayor que 0)
+     */
+    public MazeGrid(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Las dimensiones del laberinto deben ser positivas");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        wordsPerRow = (cols + 63) >>> 6;
+        bits = new long[Math.multiplyExact(rows, wordsPerRow)];
+    }
+
+    /**
+     * Crea el laberinto empaquetado equivalente a una matriz booleana.
+     *
+     * @param grid Matriz booleana donde true indica celda transitable (no nula ni vacía)
+     * @return Laberinto con las mismas celdas transitables
+     */
+    public static MazeGrid fromBooleanGrid(boolean[][] grid) {
+        MazeGrid packed = new MazeGrid(grid.length, grid[0].length);
+        for (int row = 0; row < packed.rows; row++) {
+            boolean[] line = grid[row];
+            int base = row * packed.wordsPerRow;
+            for (int from = 0, w = 0; from < packed.cols; from += 64, w++) {
+                // Armar la palabra en una variable local y sin saltos que dependan del contenido
+                int to = Math.min(from + 64, packed.cols);
+                long word = 0;
+                for (int col = from; col < to; col++) {
+                    word |= (line[col] ? 1L : 0L) << col;
+                }
+                packed.bits[base + w] = word;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Convierte el laberinto a una matriz booleana.
+     *
+     * @return Matriz donde true indica una celda transitable
+     */
+    public boolean[][] toBooleanGrid() {
+        boolean[][] grid = new boolean[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                grid[row][col] = isOpenUnchecked(row, col);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Verifica si una posición está dentro del laberinto y es transitable.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida y no es pared
+     */
+    public boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && isOpenUnchecked(row, col);
+    }
+
+    /**
+     * Verifica si una celda es transitable a partir de su índice lineal, sin comprobar
+     * límites.
+     *
+     * @param index Índice lineal de la celda ({@code fila * columnas + columna})
+     * @return true si la celda no es pared
+     */
+    public boolean isOpen(int index) {
+        int row = index / cols;
+        return isOpenUnchecked(row, index - row * cols);
+    }
+
+    /**
+     * Marca una celda como transitable o como pared.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param open true para celda transitable, false para pared
+     */
+    public void setOpen(int row, int col, boolean open) {
+        int word = row * wordsPerRow + (col >>> 6);
+        if (open) bits[word] |= 1L << col;
+        else bits[word] &= ~(1L << col);
+    }
+
+    /**
+     * Obtiene una palabra de 64 celdas de una fila: el bit i corresponde a la columna
+     * {@code word * 64 + i}. Los bits más allá de la última columna valen 0.
+     *
+     * @param row Fila
+     * @param word Índice de la palabra dentro de la fila (0 a palabrasPorFila - 1)
+     * @return Bits de las 64 celdas de la palabra
+     */
+    public long getRowWord(int row, int word) {
+        return bits[row * wordsPerRow + word];
+    }
+
+    /**
+     * Obtiene el número de palabras de 64 bits que ocupa cada fila.
+     *
+     * @return Palabras por fila
+     */
+    public int getWordsPerRow() {
+        return wordsPerRow;
+    }
+
+    /**
+     * Obtiene el número de filas del laberinto.
+     *
+     * @return Número de filas
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Obtiene el número de columnas del laberinto.
+     *
+     * @return Número de columnas
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Lee el bit de una celda sin comprobar límites.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return true si la celda es transitable
+     */
+    private boolean isOpenUnchecked(int row, int col) {
+        return (bits[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+}
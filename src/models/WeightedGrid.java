@@ -0,0 +1,173 @@
+package models;
+
+import java.util.Arrays;
+
+/**
+ * Laberinto con costo de paso por celda, para modelar terrenos (barro, escaleras, etc.).
+ * Cada celda guarda su costo en un byte sin signo dentro de un arreglo lineal
+ * ({@code fila * columnas + columna}): 0 representa una pared y los valores de 1 a 255
+ * indican cuánto cuesta entrar en la celda.
+ *
+ * La matriz booleana que usan los demás algoritmos corresponde a una grilla ponderada en
+ * la que todas las celdas transitables cuestan 1; {@link #fromBooleanGrid(boolean[][])}
+ * y {@link #toBooleanGrid()} convierten entre ambas representaciones.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class WeightedGrid {
+    /**
+     * Costo que representa una pared (celda no transitable).
+     */
+    public static final int WALL = 0;
+
+    /**
+     * Costo de una celda libre sin terreno especial.
+     */
+    public static final int DEFAULT_COST = 1;
+
+    /**
+     * Costo máximo que puede tener una celda.
+     */
+    public static final int MAX_COST = 255;
+
+    /**
+     * Número de filas del laberinto.
+     */
+    private final int rows;
+
+    /**
+     * Número de columnas del laberinto.
+     */
+    private final int cols;
+
+    /**
+     * Costo de cada celda como byte sin signo, indexado por celda.
+     */
+    private final byte[] costs;
+
+    /**
+     * Constructor que crea una grilla con todas las celdas libres y de costo 1.
+     *
+     * @param rows Número de filas (mayor que 0)
+     * @param cols Número de columnas (mayor que 0)
+     */
+    public WeightedGrid(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Las dimensiones del laberinto deben ser positivas");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        costs = new byte[rows * cols];
+        Arrays.fill(costs, (byte) DEFAULT_COST);
+    }
+
+    /**
+     * Crea la grilla ponderada equivalente a un laberinto booleano: las celdas
+     * transitables cuestan 1 y las paredes 0.
+     *
+     * @param grid Matriz booleana donde true indica celda transitable (no nula ni vacía)
+     * @return Grilla ponderada con las mismas paredes
+     */
+    public static WeightedGrid fromBooleanGrid(boolean[][] grid) {
+        WeightedGrid weighted = new WeightedGrid(grid.length, grid[0].length);
+        for (int row = 0; row < weighted.rows; row++) {
+            for (int col = 0; col < weighted.cols; col++) {
+                if (!grid[row][col]) weighted.costs[row * weighted.cols + col] = WALL;
+            }
+        }
+        return weighted;
+    }
+
+    /**
+     * Convierte la grilla a la matriz booleana que usan los demás algoritmos.
+     *
+     * @return Matriz donde true indica una celda con costo mayor que 0
+     */
+    public boolean[][] toBooleanGrid() {
+        boolean[][] grid = new boolean[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                grid[row][col] = costs[row * cols + col] != WALL;
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Obtiene el costo de entrar en una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Costo entre 0 (pared) y 255
+     */
+    public int getCost(int row, int col) {
+        return costs[row * cols + col] & 0xFF;
+    }
+
+    /**
+     * Obtiene el costo de entrar en una celda a partir de su índice lineal.
+     *
+     * @param index Índice lineal de la celda ({@code fila * columnas + columna})
+     * @return Costo entre 0 (pared) y 255
+     */
+    public int getCost(int index) {
+        return costs[index] & 0xFF;
+    }
+
+    /**
+     * Asigna el costo de una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param cost Costo entre 0 (pared) y 255
+     */
+    public void setCost(int row, int col, int cost) {
+        if (cost < WALL || cost > MAX_COST) {
+            throw new IllegalArgumentException("El costo debe estar entre 0 y 255");
+        }
+        costs[row * cols + col] = (byte) cost;
+    }
+
+    /**
+     * Obtiene el mayor costo presente en la grilla.
+     *
+     * @return Costo máximo de las celdas transitables, o 0 si todas son paredes
+     */
+    public int getMaxCost() {
+        int max = WALL;
+        for (byte cost : costs) {
+            max = Math.max(max, cost & 0xFF);
+        }
+        return max;
+    }
+
+    /**
+     * Verifica si una posición está dentro de la grilla y es transitable.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida y su costo es mayor que 0
+     */
+    public boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && costs[row * cols + col] != WALL;
+    }
+
+    /**
+     * Obtiene el número de filas de la grilla.
+     *
+     * @return Número de filas
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Obtiene el número de columnas de la grilla.
+     *
+     * @return Número de columnas
+     */
+    public int getCols() {
+        return cols;
+    }
+}
@@ -2,6 +2,7 @@ package solver;
 
 import models.Cell;
 import models.AlgorithmResult;
+import models.MazeGrid;
 
 /**
  * Interfaz que define el contrato para todos los algoritmos de resolución de laberintos.
@@ -19,6 +20,24 @@ import models.AlgorithmResult;
  * - MazeSolverRecursivo: Algoritmo recursivo básico (simple y rápido)
  * - MazeSolverRecursivoCompleto: Algoritmo recursivo exhaustivo
  * - MazeSolverRecursivoCompletoBT: Algoritmo recursivo con backtracking completo
+ * - MazeSolverAStar: Búsqueda A* con heurística Manhattan u octil según el MovementModel (camino más corto)
+ * - MazeSolverBidirectionalBFS: Búsqueda en anchura bidireccional (camino más corto)
+ * - MazeSolverJPS: Jump Point Search sobre grilla de 4 direcciones (camino más corto)
+ * - MazeSolverBitParallelBFS: Búsqueda en anchura bit-paralela (camino más corto)
+ * - MazeSolverParallelBFS: Búsqueda en anchura paralela por niveles (camino más corto)
+ * - MazeSolverDirectionOptimizingBFS: Búsqueda en anchura top-down / bottom-up (camino más corto)
+ * - MazeSolverDeadEndFilling: Relleno de callejones sin salida (camino más corto)
+ * - MazeSolverCorridorGraph: Dijkstra sobre el grafo comprimido de corredores (camino más corto)
+ * - MazeSolverHPAStar: HPA* jerárquico por clústeres (camino casi óptimo)
+ * - MazeSolverALT: A* con heurística de puntos de referencia ALT (camino más corto)
+ * - MazeSolverDStarLite: D* Lite con replanificación incremental (camino más corto)
+ * - MazeSolverDial: Dijkstra con cola de cubetas de Dial sobre grillas ponderadas (camino de menor costo)
+ * - MazeSolverThetaStar: Theta* con caminos de cualquier ángulo (línea de vista por Bresenham)
+ * - MazeSolverIDAStar: IDA* con memoria O(longitud del camino)
+ * - MazeSolverARAStar: ARA* anytime con cota de suboptimalidad decreciente hasta un plazo
+ * 
+ * Los algoritmos que además implementan {@link SteppableMazeSolver} (BFS, DFS y los
+ * recursivos) pueden avanzarse por partes mediante un {@link SearchCursor}.
  * 
  * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
  * @version 1.0
@@ -58,6 +77,22 @@ public interface MazeSolver {
      */
     AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end);
 
+    /**
+     * Variante de {@link #getPath(boolean[][], Cell, Cell)} que recibe el laberinto
+     * empaquetado a un bit por celda. Los algoritmos que trabajan directamente sobre
+     * {@link MazeGrid} (BFS, DFS y los recursivos) la sobrescriben; el resto convierte
+     * el laberinto a una matriz booleana.
+     * 
+     * @param grid Laberinto empaquetado (puede ser null, como en la variante booleana)
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino de la búsqueda
+     * @return AlgorithmResult con el camino y las celdas visitadas, igual que la
+     *         variante booleana
+     */
+    default AlgorithmResult getPath(MazeGrid grid, Cell start, Cell end) {
+        return getPath(grid == null ? null : grid.toBooleanGrid(), start, end);
+    }
+
     /**
      * Constante que define las direcciones de movimiento estándar en un laberinto.
      * Representa los cuatro movimientos cardinales posibles desde cualquier celda:
@@ -71,6 +106,10 @@ public interface MazeSolver {
      * son libres de definir sus propias direcciones si requieren un comportamiento específico
      * (como el MazeSolverRecursivo que solo usa 2 direcciones).
      * 
+     * Equivale a {@link MovementModel#FOUR_CONNECTED}; los algoritmos que admiten otros
+     * movimientos (8 direcciones, reglas de esquinas y costos diagonales) reciben un
+     * {@link MovementModel} en lugar de usar esta constante.
+     * 
      * Uso típico:
      * for (int[] dir : directions) {
      *     int newRow = currentRow + dir[0];
@@ -78,6 +117,6 @@ public interface MazeSolver {
      *     // Procesar nueva posición
      * }
      */
-    int[][] directions = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+    int[][] directions = MovementModel.FOUR_CONNECTED.getDirections();
     
 }
@@ -0,0 +1,155 @@
+package solver;
+
+/**
+ * Modelos de movimiento sobre la grilla del laberinto.
+ * Define qué desplazamientos puede hacer un algoritmo desde una celda, cuándo un
+ * desplazamiento diagonal está permitido junto a las paredes y cuánto cuesta cada paso.
+ *
+ * Modelos disponibles:
+ * - FOUR_CONNECTED: arriba, derecha, abajo e izquierda con costo 1 (el modelo clásico
+ *   que usan todos los algoritmos de {@link MazeSolver})
+ * - EIGHT_CONNECTED: agrega las cuatro diagonales, pero una diagonal solo se permite si
+ *   las dos celdas ortogonales que rodea están libres (no se cortan esquinas)
+ * - EIGHT_CONNECTED_CORNER_CUTTING: permite la diagonal si al menos una de las dos
+ *   celdas ortogonales está libre, es decir, roza la esquina de una pared pero nunca
+ *   pasa entre dos paredes que se tocan en diagonal
+ *
+ * En los modelos de 8 direcciones los costos son enteros escalados: 70 por paso recto
+ * y 99 por paso diagonal (99 / 70 ≈ 1.4143 ≈ √2), de modo que las sumas caben en int
+ * incluso en laberintos de millones de celdas.
+ *
+ * En todos los modelos, una diagonal permitida implica que también existe un camino de
+ * 4 direcciones entre ambas celdas, así que la conectividad del laberinto es la misma.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public enum MovementModel {
+    /** Movimiento en 4 direcciones con costo 1 por paso */
+    FOUR_CONNECTED(false, false, 1, 0),
+    /** Movimiento en 8 direcciones sin cortar esquinas de paredes */
+    EIGHT_CONNECTED(true, false, 70, 99),
+    /** Movimiento en 8 direcciones rozando esquinas, sin pasar entre dos paredes diagonales */
+    EIGHT_CONNECTED_CORNER_CUTTING(true, true, 70, 99);
+
+    /**
+     * Desplazamientos ortogonales: abajo, derecha, arriba, izquierda.
+     */
+    private static final int[][] STRAIGHT = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+
+    /**
+     * Desplazamientos ortogonales seguidos de los diagonales.
+     */
+    private static final int[][] ALL = {{1, 0}, {0, 1}, {-1, 0}, {0, -1},
+                                        {1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+    /**
+     * Indica si el modelo incluye desplazamientos diagonales.
+     */
+    private final boolean diagonal;
+
+    /**
+     * Indica si una diagonal basta con que una de sus celdas ortogonales esté libre.
+     */
+    private final boolean cornerCutting;
+
+    /**
+     * Costo de un paso ortogonal.
+     */
+    private final int straightCost;
+
+    /**
+     * Costo de un paso diagonal (0 si el modelo no tiene diagonales).
+     */
+    private final int diagonalCost;
+
+    /**
+     * Constructor de cada modelo de movimiento.
+     *
+     * @param diagonal true si se permiten desplazamientos diagonales
+     * @param cornerCutting true si una diagonal puede rozar la esquina de una pared
+     * @param straightCost Costo de un paso ortogonal
+     * @param diagonalCost Costo de un paso diagonal
+     */
+    MovementModel(boolean diagonal, boolean cornerCutting, int straightCost, int diagonalCost) {
+        this.diagonal = diagonal;
+        this.cornerCutting = cornerCutting;
+        this.straightCost = straightCost;
+        this.diagonalCost = diagonalCost;
+    }
+
+    /**
+     * Obtiene los desplazamientos {fila, columna} del modelo. Los ortogonales van primero
+     * y en el mismo orden que la constante {@link MazeSolver#directions}.
+     *
+     * @return Copia de la matriz de desplazamientos (4 u 8 filas)
+     */
+    public int[][] getDirections() {
+        int[][] source = diagonal ? ALL : STRAIGHT;
+        int[][] copy = new int[source.length][];
+        for (int i = 0; i < source.length; i++) {
+            copy[i] = source[i].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Indica si el modelo incluye desplazamientos diagonales.
+     *
+     * @return true para los modelos de 8 direcciones
+     */
+    public boolean isDiagonal() {
+        return diagonal;
+    }
+
+    /**
+     * Verifica si se puede dar un paso desde una celda en la dirección indicada:
+     * la celda de llegada debe estar dentro del laberinto y libre y, si el paso es
+     * diagonal, debe cumplir la regla de esquinas del modelo.
+     *
+     * @param grid Matriz booleana del laberinto (true = transitable)
+     * @param row Fila de la celda de partida
+     * @param col Columna de la celda de partida
+     * @param dRow Desplazamiento en filas (-1, 0 o 1)
+     * @param dCol Desplazamiento en columnas (-1, 0 o 1)
+     * @return true si el paso está permitido
+     */
+    public boolean canMove(boolean[][] grid, int row, int col, int dRow, int dCol) {
+        int nr = row + dRow;
+        int nc = col + dCol;
+        if (nr < 0 || nc < 0 || nr >= grid.length || nc >= grid[0].length || !grid[nr][nc]) return false;
+        if (dRow == 0 || dCol == 0) return true;
+        if (!diagonal) return false;
+        boolean vertical = grid[nr][col];
+        boolean horizontal = grid[row][nc];
+        return cornerCutting ? vertical || horizontal : vertical && horizontal;
+    }
+
+    /**
+     * Obtiene el costo de un paso en la dirección indicada.
+     *
+     * @param dRow Desplazamiento en filas (-1, 0 o 1)
+     * @param dCol Desplazamiento en columnas (-1, 0 o 1)
+     * @return Costo del paso recto o diagonal
+     */
+    public int getCost(int dRow, int dCol) {
+        return dRow != 0 && dCol != 0 ? diagonalCost : straightCost;
+    }
+
+    /**
+     * Estima el costo mínimo entre dos celdas sin considerar paredes: distancia Manhattan
+     * en 4 direcciones y distancia octil en 8 direcciones. Es admisible y consistente con
+     * los costos de {@link #getCost(int, int)}.
+     *
+     * @param dRow Diferencia de filas entre las celdas
+     * @param dCol Diferencia de columnas entre las celdas
+     * @return Costo mínimo estimado
+     */
+    public int heuristic(int dRow, int dCol) {
+        int dr = Math.abs(dRow);
+        int dc = Math.abs(dCol);
+        if (!diagonal) return straightCost * (dr + dc);
+        int min = Math.min(dr, dc);
+        return diagonalCost * min + straightCost * (Math.max(dr, dc) - min);
+    }
+}
@@ -0,0 +1,87 @@
+package solver;
+
+import java.util.List;
+
+import models.Cell;
+import models.AlgorithmResult;
+
+/**
+ * Búsqueda en curso que puede avanzarse por partes y reanudarse donde quedó.
+ * Permite mostrar paso a paso el progreso real de un algoritmo sin ejecutarlo completo
+ * de antemano: cada llamada a {@link #step(int)} expande como máximo la cantidad de
+ * celdas indicada y conserva el estado de la búsqueda (cola, pila, visitadas) para la
+ * siguiente llamada.
+ *
+ * Memoria adicional por paso: ninguna mientras se avanza; la lista de celdas marcadas
+ * en el último paso se crea solo al pedirla y tiene a lo sumo unas pocas celdas por
+ * expansión.
+ *
+ * Cada cursor tiene su propio estado, por lo que varios cursores del mismo algoritmo
+ * pueden avanzar a la vez sin interferir entre sí.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public interface SearchCursor {
+
+    /**
+     * Número de expansiones por paso que usa {@link #runToCompletion()}.
+     */
+    int BATCH_EXPANSIONS = 4096;
+
+    /**
+     * Avanza la búsqueda expandiendo como máximo la cantidad de celdas indicada.
+     * Si el destino se alcanza o la búsqueda se agota, el cursor queda terminado.
+     *
+     * @param maxExpansions Número máximo de celdas a expandir en esta llamada
+     * @return Número de celdas efectivamente expandidas (0 si ya estaba terminado)
+     */
+    int step(int maxExpansions);
+
+    /**
+     * Obtiene las celdas marcadas como visitadas durante la última llamada a
+     * {@link #step(int)}, en el orden en que se marcaron. El primer paso incluye la
+     * celda de inicio, de modo que concatenar las listas de todos los pasos da el mismo
+     * orden que las visitadas del resultado. Cada llamada crea una lista nueva, que quien
+     * llama puede conservar o modificar.
+     *
+     * @return Celdas visitadas en el último paso (vacía antes del primer paso)
+     */
+    List<Cell> getLastVisited();
+
+    /**
+     * Indica si la búsqueda terminó, ya sea porque alcanzó el destino o porque no
+     * quedan celdas por explorar.
+     *
+     * @return true si la búsqueda terminó
+     */
+    boolean isFinished();
+
+    /**
+     * Obtiene el camino encontrado. Está vacío mientras la búsqueda no termine o si
+     * terminó sin alcanzar el destino.
+     *
+     * @return Camino del algoritmo, en el mismo orden que retorna su getPath
+     */
+    List<Cell> getPath();
+
+    /**
+     * Obtiene el resultado acumulado hasta ahora: el camino (vacío si aún no se
+     * encontró) y todas las celdas visitadas.
+     *
+     * @return AlgorithmResult con el estado actual de la búsqueda
+     */
+    AlgorithmResult getResult();
+
+    /**
+     * Avanza la búsqueda hasta terminarla y retorna su resultado.
+     *
+     * @return AlgorithmResult con el camino encontrado y las celdas visitadas
+     */
+    default AlgorithmResult runToCompletion() {
+        while (!isFinished()) {
+            step(BATCH_EXPANSIONS);
+        }
+        return getResult();
+    }
+}
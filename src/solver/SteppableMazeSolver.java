@@ -0,0 +1,48 @@
+package solver;
+
+import models.Cell;
+import models.MazeGrid;
+
+/**
+ * Algoritmo de resolución que además puede ejecutarse paso a paso.
+ * Además de resolver el laberinto completo con {@link #getPath(boolean[][], Cell, Cell)},
+ * entrega un {@link SearchCursor} que avanza la misma búsqueda por partes, visitando las
+ * celdas en el mismo orden y produciendo el mismo camino.
+ *
+ * Implementaciones disponibles:
+ * - MazeSolverBFS
+ * - MazeSolverDFS
+ * - MazeSolverRecursivo
+ * - MazeSolverRecursivoCompleto
+ * - MazeSolverRecursivoCompletoBT
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public interface SteppableMazeSolver extends MazeSolver {
+
+    /**
+     * Prepara una búsqueda sin expandir ninguna celda todavía. Empaqueta el laberinto en
+     * un {@link MazeGrid} y delega en {@link #startSearch(MazeGrid, Cell, Cell)}.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return Cursor listo para avanzar con {@link SearchCursor#step(int)}
+     */
+    default SearchCursor startSearch(boolean[][] grid, Cell start, Cell end) {
+        return startSearch(grid == null || grid.length == 0 || grid[0].length == 0 ? null : MazeGrid.fromBooleanGrid(grid), start, end);
+    }
+
+    /**
+     * Prepara una búsqueda sobre el laberinto empaquetado sin expandir ninguna celda.
+     * Es la variante nativa: la variante booleana empaqueta el laberinto y la invoca.
+     *
+     * @param grid Laberinto empaquetado (null se trata como entrada inválida)
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return Cursor listo para avanzar con {@link SearchCursor#step(int)}
+     */
+    SearchCursor startSearch(MazeGrid grid, Cell start, Cell end);
+}
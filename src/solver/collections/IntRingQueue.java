@@ -0,0 +1,133 @@
+package solver.collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Cola FIFO de enteros sobre un arreglo circular que crece al llenarse.
+ * Reemplaza a {@code Queue<Cell>} en las búsquedas por claves de celda: encolar no crea
+ * nodos (a diferencia de {@code LinkedList}) ni encajona enteros, y la memoria ocupada
+ * es proporcional a la frontera más grande, no al tamaño del laberinto.
+ *
+ * Características de la estructura:
+ * - Encolar y desencolar en O(1) amortizado
+ * - La capacidad es siempre una potencia de dos, de modo que el índice circular se
+ *   calcula con una máscara
+ * - Al crecer duplica la capacidad y desenrolla los elementos al inicio del arreglo
+ * - No es segura para uso concurrente; cada búsqueda tiene su propia cola
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class IntRingQueue {
+    /**
+     * Elementos de la cola en un arreglo circular.
+     */
+    private int[] elements;
+
+    /**
+     * Posición del primer elemento.
+     */
+    private int head;
+
+    /**
+     * Número de elementos actualmente almacenados.
+     */
+    private int size;
+
+    /**
+     * Constructor que crea una cola con capacidad inicial para 16 elementos.
+     */
+    public IntRingQueue() {
+        this(16);
+    }
+
+    /**
+     * Constructor que reserva espacio para al menos la capacidad indicada.
+     *
+     * @param capacity Capacidad inicial entre 0 y 2^30 (se redondea a la siguiente
+     *                 potencia de dos)
+     */
+    public IntRingQueue(int capacity) {
+        if (capacity < 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacidad fuera de rango: " + capacity);
+        }
+        int rounded = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        elements = new int[rounded];
+    }
+
+    /**
+     * Agrega un elemento al final de la cola.
+     *
+     * @param value Elemento a encolar
+     */
+    public void add(int value) {
+        if (size == elements.length) grow();
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Extrae el primer elemento de la cola.
+     *
+     * @return Elemento más antiguo
+     * @throws NoSuchElementException si la cola está vacía
+     */
+    public int poll() {
+        if (size == 0) throw new NoSuchElementException("La cola está vacía");
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Consulta el primer elemento sin extraerlo.
+     *
+     * @return Elemento más antiguo
+     * @throws NoSuchElementException si la cola está vacía
+     */
+    public int peek() {
+        if (size == 0) throw new NoSuchElementException("La cola está vacía");
+        return elements[head];
+    }
+
+    /**
+     * Indica si la cola no contiene elementos.
+     *
+     * @return true si está vacía, false en caso contrario
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Obtiene el número de elementos en la cola.
+     *
+     * @return Número de elementos
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Vacía la cola conservando la capacidad reservada.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Duplica la capacidad y copia los elementos en orden al inicio del nuevo arreglo.
+     */
+    private void grow() {
+        int capacity = elements.length;
+        if (capacity == 1 << 30) throw new OutOfMemoryError("Cola demasiado grande");
+        int[] larger = new int[capacity * 2];
+        int firstPart = capacity - head;
+        System.arraycopy(elements, head, larger, 0, firstPart);
+        System.arraycopy(elements, 0, larger, firstPart, head);
+        elements = larger;
+        head = 0;
+    }
+}
@@ -0,0 +1,119 @@
+package solver.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Pila LIFO de enteros sobre un arreglo que crece al llenarse.
+ * Reemplaza a {@code java.util.Stack<Cell>} en las búsquedas por claves de celda: no
+ * sincroniza cada operación (Stack hereda de Vector) ni encajona enteros.
+ *
+ * Características de la estructura:
+ * - Apilar y desapilar en O(1) amortizado
+ * - Al crecer duplica la capacidad
+ * - Permite leer cualquier posición, de la base (0) al tope (size - 1)
+ * - No es segura para uso concurrente; cada búsqueda tiene su propia pila
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class IntStack {
+    /**
+     * Elementos de la pila, de la base al tope.
+     */
+    private int[] elements;
+
+    /**
+     * Número de elementos actualmente almacenados.
+     */
+    private int size;
+
+    /**
+     * Constructor que crea una pila con capacidad inicial para 16 elementos.
+     */
+    public IntStack() {
+        this(16);
+    }
+
+    /**
+     * Constructor que reserva espacio para la capacidad indicada.
+     *
+     * @param capacity Capacidad inicial
+     */
+    public IntStack(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("La capacidad no puede ser negativa");
+        }
+        elements = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Agrega un elemento en el tope de la pila.
+     *
+     * @param value Elemento a apilar
+     */
+    public void push(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(size * 2, size + 1));
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Extrae el elemento del tope de la pila.
+     *
+     * @return Elemento más reciente
+     * @throws NoSuchElementException si la pila está vacía
+     */
+    public int pop() {
+        if (size == 0) throw new NoSuchElementException("La pila está vacía");
+        return elements[--size];
+    }
+
+    /**
+     * Consulta el elemento del tope sin extraerlo.
+     *
+     * @return Elemento más reciente
+     * @throws NoSuchElementException si la pila está vacía
+     */
+    public int peek() {
+        if (size == 0) throw new NoSuchElementException("La pila está vacía");
+        return elements[size - 1];
+    }
+
+    /**
+     * Obtiene el elemento en una posición, contando desde la base.
+     *
+     * @param index Posición entre 0 (base) y size - 1 (tope)
+     * @return Elemento en la posición
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return elements[index];
+    }
+
+    /**
+     * Indica si la pila no contiene elementos.
+     *
+     * @return true si está vacía, false en caso contrario
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Obtiene el número de elementos en la pila.
+     *
+     * @return Número de elementos
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Vacía la pila conservando la capacidad reservada.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,582 @@
+package solver.index;
+
+import java.util.Arrays;
+
+/**
+ * Abstracción jerárquica por clústeres para HPA* (Hierarchical Pathfinding A*).
+ * El laberinto se divide en clústeres cuadrados de tamaño fijo. En cada frontera entre dos
+ * clústeres vecinos se buscan las entradas (tramos continuos de celdas transitables a ambos
+ * lados) y se eligen sus celdas de transición. Dentro de cada clúster se precalculan las
+ * distancias entre sus celdas de transición, restringidas al propio clúster.
+ *
+ * Grafo abstracto resultante:
+ * - Nodos: celdas de transición (como índices lineales fila * columnas + columna)
+ * - Aristas internas: entre nodos del mismo clúster, con su distancia dentro del clúster
+ * - Aristas externas: entre las dos celdas de una transición, con peso 1
+ *
+ * Selección de transiciones (igual que en HPA* clásico):
+ * - Entrada de menos de 6 celdas: una transición en el centro
+ * - Entrada de 6 o más celdas: una transición en cada extremo
+ *
+ * Actualización incremental: al cambiar una celda con {@link #update(int, int, boolean)}
+ * solo se recalcula su clúster; si la celda está en el borde del clúster también se
+ * recalculan esa frontera y el clúster vecino que la comparte.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public final class ClusterAbstraction {
+    /**
+     * Tamaño por defecto del lado de cada clúster.
+     */
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    /**
+     * Longitud mínima de una entrada para colocar dos transiciones en lugar de una.
+     */
+    private static final int MIN_DOUBLE_ENTRANCE = 6;
+
+    /**
+     * Copia del laberinto, actualizada con cada cambio notificado.
+     */
+    private final boolean[][] grid;
+
+    /**
+     * Número de filas del laberinto.
+     */
+    private final int rows;
+
+    /**
+     * Número de columnas del laberinto.
+     */
+    private final int cols;
+
+    /**
+     * Lado de cada clúster en celdas.
+     */
+    private final int clusterSize;
+
+    /**
+     * Número de filas de clústeres.
+     */
+    private final int clusterRows;
+
+    /**
+     * Número de columnas de clústeres.
+     */
+    private final int clusterCols;
+
+    /**
+     * Transiciones de cada frontera vertical (entre el clúster (i, j) y el (i, j + 1)),
+     * como pares consecutivos [celda izquierda, celda derecha].
+     */
+    private final int[][] verticalBorders;
+
+    /**
+     * Transiciones de cada frontera horizontal (entre el clúster (i, j) y el (i + 1, j)),
+     * como pares consecutivos [celda superior, celda inferior].
+     */
+    private final int[][] horizontalBorders;
+
+    /**
+     * Celdas de transición (nodos abstractos) de cada clúster.
+     */
+    private final int[][] nodes;
+
+    /**
+     * Celdas al otro lado de la frontera conectadas a cada nodo de cada clúster.
+     */
+    private final int[][][] partners;
+
+    /**
+     * Distancias internas entre los nodos de cada clúster (matriz k * k aplanada, -1 si
+     * no se alcanzan dentro del clúster).
+     */
+    private final int[][] distances;
+
+    /**
+     * Posición de cada celda dentro de la lista de nodos de su clúster, o -1 si no es nodo.
+     */
+    private final int[] localIndex;
+
+    /**
+     * Sello de generación de cada celda para las búsquedas locales.
+     */
+    private final int[] mark;
+
+    /**
+     * Padre de cada celda marcada en la búsqueda local actual.
+     */
+    private final int[] markData;
+
+    /**
+     * Distancia de cada celda marcada en la búsqueda local actual.
+     */
+    private final int[] markDistance;
+
+    /**
+     * Cola reutilizable para las búsquedas locales (a lo sumo un clúster completo).
+     */
+    private final int[] queue;
+
+    /**
+     * Generación actual de marcas.
+     */
+    private int generation;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que construye la abstracción con el tamaño de clúster por defecto.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared (no nula ni vacía)
+     */
+    public ClusterAbstraction(boolean[][] grid) {
+        this(grid, DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * Constructor que construye la abstracción completa con el tamaño de clúster indicado.
+     *
+     * @param grid Matriz booleana que representa el laberinto (no nula ni vacía)
+     * @param clusterSize Lado de cada clúster en celdas (mayor que 0)
+     */
+    public ClusterAbstraction(boolean[][] grid, int clusterSize) {
+        if (clusterSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de clúster debe ser positivo");
+        }
+        rows = grid.length;
+        cols = grid[0].length;
+        this.clusterSize = clusterSize;
+        this.grid = new boolean[rows][];
+        for (int r = 0; r < rows; r++) {
+            this.grid[r] = Arrays.copyOf(grid[r], cols);
+        }
+        clusterRows = (rows + clusterSize - 1) / clusterSize;
+        clusterCols = (cols + clusterSize - 1) / clusterSize;
+
+        int clusters = clusterRows * clusterCols;
+        verticalBorders = new int[clusters][];
+        horizontalBorders = new int[clusters][];
+        nodes = new int[clusters][0];
+        partners = new int[clusters][0][];
+        distances = new int[clusters][0];
+
+        int total = rows * cols;
+        localIndex = new int[total];
+        mark = new int[total];
+        markData = new int[total];
+        markDistance = new int[total];
+        queue = new int[clusterSize * clusterSize];
+        Arrays.fill(localIndex, -1);
+
+        for (int ci = 0; ci < clusterRows; ci++) {
+            for (int cj = 0; cj < clusterCols; cj++) {
+                buildVerticalBorder(ci, cj);
+                buildHorizontalBorder(ci, cj);
+            }
+        }
+        for (int cluster = 0; cluster < clusters; cluster++) {
+            buildCluster(cluster);
+        }
+    }
+
+    /**
+     * Notifica el cambio de una celda y recalcula solo la parte afectada de la abstracción.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param open true si la celda pasa a ser transitable, false si pasa a ser pared
+     */
+    public void update(int row, int col, boolean open) {
+        if (row < 0 || col < 0 || row >= rows || col >= cols || grid[row][col] == open) return;
+        grid[row][col] = open;
+
+        int ci = row / clusterSize;
+        int cj = col / clusterSize;
+        int cluster = ci * clusterCols + cj;
+
+        // Celda en el borde: recalcular la frontera y el clúster vecino que la comparte
+        if (col % clusterSize == 0 && cj > 0) {
+            buildVerticalBorder(ci, cj - 1);
+            buildCluster(cluster - 1);
+        }
+        if (col % clusterSize == clusterSize - 1 && cj + 1 < clusterCols) {
+            buildVerticalBorder(ci, cj);
+            buildCluster(cluster + 1);
+        }
+        if (row % clusterSize == 0 && ci > 0) {
+            buildHorizontalBorder(ci - 1, cj);
+            buildCluster(cluster - clusterCols);
+        }
+        if (row % clusterSize == clusterSize - 1 && ci + 1 < clusterRows) {
+            buildHorizontalBorder(ci, cj);
+            buildCluster(cluster + clusterCols);
+        }
+        buildCluster(cluster);
+    }
+
+    /**
+     * Calcula las transiciones de la frontera vertical entre el clúster (ci, cj) y el (ci, cj + 1).
+     *
+     * @param ci Fila del clúster izquierdo
+     * @param cj Columna del clúster izquierdo
+     */
+    private void buildVerticalBorder(int ci, int cj) {
+        int cluster = ci * clusterCols + cj;
+        if (cj + 1 >= clusterCols) {
+            verticalBorders[cluster] = new int[0];
+            return;
+        }
+        int left = (cj + 1) * clusterSize - 1;
+        int from = ci * clusterSize;
+        int to = Math.min(from + clusterSize, rows);
+        int[] pairs = new int[4 * (to - from)];
+        int count = 0;
+        int run = -1;
+        for (int r = from; r <= to; r++) {
+            boolean both = r < to && grid[r][left] && grid[r][left + 1];
+            if (both && run < 0) run = r;
+            if (!both && run >= 0) {
+                for (int t : transitions(run, r - 1)) {
+                    pairs[count++] = t * cols + left;
+                    pairs[count++] = t * cols + left + 1;
+                }
+                run = -1;
+            }
+        }
+        verticalBorders[cluster] = Arrays.copyOf(pairs, count);
+    }
+
+    /**
+     * Calcula las transiciones de la frontera horizontal entre el clúster (ci, cj) y el (ci + 1, cj).
+     *
+     * @param ci Fila del clúster superior
+     * @param cj Columna del clúster superior
+     */
+    private void buildHorizontalBorder(int ci, int cj) {
+        int cluster = ci * clusterCols + cj;
+        if (ci + 1 >= clusterRows) {
+            horizontalBorders[cluster] = new int[0];
+            return;
+        }
+        int top = (ci + 1) * clusterSize - 1;
+        int from = cj * clusterSize;
+        int to = Math.min(from + clusterSize, cols);
+        int[] pairs = new int[4 * (to - from)];
+        int count = 0;
+        int run = -1;
+        for (int c = from; c <= to; c++) {
+            boolean both = c < to && grid[top][c] && grid[top + 1][c];
+            if (both && run < 0) run = c;
+            if (!both && run >= 0) {
+                for (int t : transitions(run, c - 1)) {
+                    pairs[count++] = top * cols + t;
+                    pairs[count++] = (top + 1) * cols + t;
+                }
+                run = -1;
+            }
+        }
+        horizontalBorders[cluster] = Arrays.copyOf(pairs, count);
+    }
+
+    /**
+     * Elige las posiciones de transición de una entrada.
+     *
+     * @param first Primera posición de la entrada
+     * @param last Última posición de la entrada
+     * @return Una posición central si la entrada es corta, o ambos extremos si es larga
+     */
+    private static int[] transitions(int first, int last) {
+        if (last - first + 1 < MIN_DOUBLE_ENTRANCE) {
+            return new int[] {(first + last) >>> 1};
+        }
+        return new int[] {first, last};
+    }
+
+    /**
+     * Reconstruye los nodos, sus conexiones externas y las distancias internas de un clúster
+     * a partir de las transiciones de sus cuatro fronteras.
+     *
+     * @param cluster Número de clúster (fila * columnas de clústeres + columna)
+     */
+    private void buildCluster(int cluster) {
+        int ci = cluster / clusterCols;
+        int cj = cluster % clusterCols;
+        for (int cell : nodes[cluster]) {
+            localIndex[cell] = -1;
+        }
+
+        // Reunir los pares (celda propia, celda vecina) de las cuatro fronteras
+        int[] own = new int[4 * 2 * clusterSize];
+        int[] other = new int[own.length];
+        int pairs = 0;
+        if (cj > 0) {
+            int[] border = verticalBorders[cluster - 1];
+            for (int i = 0; i < border.length; i += 2) {
+                own[pairs] = border[i + 1];
+                other[pairs++] = border[i];
+            }
+        }
+        if (cj + 1 < clusterCols) {
+            int[] border = verticalBorders[cluster];
+            for (int i = 0; i < border.length; i += 2) {
+                own[pairs] = border[i];
+                other[pairs++] = border[i + 1];
+            }
+        }
+        if (ci > 0) {
+            int[] border = horizontalBorders[cluster - clusterCols];
+            for (int i = 0; i < border.length; i += 2) {
+                own[pairs] = border[i + 1];
+                other[pairs++] = border[i];
+            }
+        }
+        if (ci + 1 < clusterRows) {
+            int[] border = horizontalBorders[cluster];
+            for (int i = 0; i < border.length; i += 2) {
+                own[pairs] = border[i];
+                other[pairs++] = border[i + 1];
+            }
+        }
+
+        // Una celda de esquina puede ser transición de dos fronteras: se agrupan sus vecinas
+        int[] cells = new int[pairs];
+        int[][] links = new int[pairs][];
+        int count = 0;
+        for (int p = 0; p < pairs; p++) {
+            int local = localIndex[own[p]];
+            if (local < 0) {
+                local = count++;
+                localIndex[own[p]] = local;
+                cells[local] = own[p];
+                links[local] = new int[] {other[p]};
+            } else {
+                int[] previous = links[local];
+                links[local] = Arrays.copyOf(previous, previous.length + 1);
+                links[local][previous.length] = other[p];
+            }
+        }
+        nodes[cluster] = Arrays.copyOf(cells, count);
+        partners[cluster] = Arrays.copyOf(links, count);
+
+        // Distancias internas entre cada par de nodos del clúster
+        int[] table = new int[count * count];
+        for (int i = 0; i < count; i++) {
+            int[] row = distancesInCluster(cells[i]);
+            System.arraycopy(row, 0, table, i * count, count);
+        }
+        distances[cluster] = table;
+    }
+
+    /**
+     * Calcula, con una búsqueda en anchura restringida al clúster de la celda, la distancia
+     * desde esa celda hasta cada nodo de su clúster.
+     *
+     * @param from Índice lineal de la celda de partida (transitable)
+     * @return Distancias alineadas con {@link #getClusterNodes(int)}, -1 si no se alcanza
+     */
+    public int[] distancesInCluster(int from) {
+        int cluster = clusterOf(from);
+        search(from, -1);
+        int stamp = generation;
+        int[] cells = nodes[cluster];
+        int[] result = new int[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            result[i] = mark[cells[i]] == stamp ? markDistance[cells[i]] : -1;
+        }
+        return result;
+    }
+
+    /**
+     * Busca el camino más corto entre dos celdas del mismo clúster sin salir de él.
+     *
+     * @param from Índice lineal de la celda de partida
+     * @param to Índice lineal de la celda de llegada (del mismo clúster)
+     * @return Índices del camino desde from hasta to, o null si no se conectan dentro del clúster
+     */
+    public int[] localPath(int from, int to) {
+        if (!search(from, to)) return null;
+        int length = markDistance[to] + 1;
+        int[] result = new int[length];
+        for (int node = to, i = length - 1; i >= 0; node = markData[node], i--) {
+            result[i] = node;
+        }
+        return result;
+    }
+
+    /**
+     * Búsqueda en anchura restringida al clúster de la celda de partida.
+     *
+     * @param from Celda de partida
+     * @param to Celda de llegada, o -1 para recorrer todo el clúster
+     * @return true si se alcanzó la celda de llegada
+     */
+    private boolean search(int from, int to) {
+        int stamp = nextGeneration();
+        int cluster = clusterOf(from);
+        int minRow = (cluster / clusterCols) * clusterSize;
+        int minCol = (cluster % clusterCols) * clusterSize;
+        int maxRow = Math.min(minRow + clusterSize, rows);
+        int maxCol = Math.min(minCol + clusterSize, cols);
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        mark[from] = stamp;
+        markData[from] = -1;
+        markDistance[from] = 0;
+        while (head < tail) {
+            int current = queue[head++];
+            if (current == to) return true;
+            int row = current / cols;
+            int col = current % cols;
+            for (int[] dir : directions) {
+                int nr = row + dir[0];
+                int nc = col + dir[1];
+                if (nr < minRow || nc < minCol || nr >= maxRow || nc >= maxCol || !grid[nr][nc]) continue;
+                int next = nr * cols + nc;
+                if (mark[next] == stamp) continue;
+                mark[next] = stamp;
+                markData[next] = current;
+                markDistance[next] = markDistance[current] + 1;
+                queue[tail++] = next;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Avanza la generación de marcas, reiniciando el arreglo solo si se desborda.
+     *
+     * @return Nuevo valor de generación
+     */
+    private int nextGeneration() {
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(mark, 0);
+            generation = 1;
+        }
+        return generation;
+    }
+
+    /**
+     * Verifica si esta abstracción corresponde al laberinto dado.
+     *
+     * @param other Laberinto a comparar
+     * @return true si tiene las mismas dimensiones y las mismas paredes
+     */
+    public boolean matches(boolean[][] other) {
+        if (other == null || other.length != rows || other[0].length != cols) return false;
+        for (int r = 0; r < rows; r++) {
+            if (!Arrays.equals(grid[r], other[r])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Verifica si una posición está dentro del laberinto y es transitable.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida y no es pared
+     */
+    public boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && grid[row][col];
+    }
+
+    /**
+     * Obtiene el clúster que contiene una celda.
+     *
+     * @param cell Índice lineal de la celda
+     * @return Número de clúster
+     */
+    public int clusterOf(int cell) {
+        return (cell / cols / clusterSize) * clusterCols + (cell % cols) / clusterSize;
+    }
+
+    /**
+     * Obtiene los nodos (celdas de transición) de un clúster.
+     *
+     * @param cluster Número de clúster
+     * @return Índices lineales de sus nodos (no debe modificarse)
+     */
+    public int[] getClusterNodes(int cluster) {
+        return nodes[cluster];
+    }
+
+    /**
+     * Obtiene la posición de una celda en la lista de nodos de su clúster.
+     *
+     * @param cell Índice lineal de la celda
+     * @return Posición del nodo, o -1 si la celda no es nodo
+     */
+    public int localIndexOf(int cell) {
+        return localIndex[cell];
+    }
+
+    /**
+     * Obtiene la distancia interna entre dos nodos de un mismo clúster.
+     *
+     * @param cluster Número de clúster
+     * @param from Posición del primer nodo
+     * @param to Posición del segundo nodo
+     * @return Pasos dentro del clúster, o -1 si no se conectan dentro de él
+     */
+    public int getIntraDistance(int cluster, int from, int to) {
+        return distances[cluster][from * nodes[cluster].length + to];
+    }
+
+    /**
+     * Obtiene las celdas del otro lado de la frontera conectadas a un nodo.
+     *
+     * @param cluster Número de clúster
+     * @param local Posición del nodo en su clúster
+     * @return Índices lineales de las celdas vecinas de transición (no debe modificarse)
+     */
+    public int[] getPartners(int cluster, int local) {
+        return partners[cluster][local];
+    }
+
+    /**
+     * Obtiene el número total de nodos del grafo abstracto.
+     *
+     * @return Cantidad de celdas de transición
+     */
+    public int getNodeCount() {
+        int count = 0;
+        for (int[] list : nodes) count += list.length;
+        return count;
+    }
+
+    /**
+     * Obtiene el número de filas del laberinto.
+     *
+     * @return Número de filas
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Obtiene el número de columnas del laberinto.
+     *
+     * @return Número de columnas
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Obtiene el lado de cada clúster.
+     *
+     * @return Tamaño de clúster en celdas
+     */
+    public int getClusterSize() {
+        return clusterSize;
+    }
+}
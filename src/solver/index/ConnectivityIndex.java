@@ -0,0 +1,228 @@
+package solver.index;
+
+import java.util.Arrays;
+
+import models.Cell;
+
+/**
+ * Índice de conectividad del laberinto basado en union-find (conjuntos disjuntos).
+ * Permite responder en tiempo casi constante si dos celdas transitables pertenecen a la
+ * misma componente conexa, para descartar al instante las consultas sin camino antes de
+ * ejecutar cualquier algoritmo de búsqueda.
+ *
+ * Representación:
+ * - Cada celda transitable apunta a un nodo del bosque union-find (arreglos int de padres
+ *   y tamaños, unión por tamaño y compresión de caminos por división a la mitad)
+ * - Al construir, cada celda se une con sus vecinos transitables de la derecha y de abajo
+ *
+ * Actualización ante cambios:
+ * - Quitar una pared es incremental: la celda recibe un nodo nuevo y se une con sus
+ *   vecinos transitables, en O(α) amortizado
+ * - Agregar una pared en una celda con a lo sumo un vecino transitable no puede separar
+ *   ninguna componente, por lo que no requiere trabajo
+ * - Agregar cualquier otra pared puede dividir una componente (union-find no admite
+ *   separar conjuntos), así que el índice se marca para reconstruirse en la siguiente consulta
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class ConnectivityIndex {
+    /**
+     * Copia del laberinto, actualizada con cada cambio notificado.
+     */
+    private final boolean[][] grid;
+
+    /**
+     * Número de filas del laberinto.
+     */
+    private final int rows;
+
+    /**
+     * Número de columnas del laberinto.
+     */
+    private final int cols;
+
+    /**
+     * Nodo del bosque union-find que representa a cada celda.
+     */
+    private final int[] nodeOf;
+
+    /**
+     * Padre de cada nodo del bosque (la raíz apunta a sí misma).
+     */
+    private final int[] parent;
+
+    /**
+     * Tamaño del conjunto de cada raíz.
+     */
+    private final int[] size;
+
+    /**
+     * Siguiente nodo libre para las celdas que se abren de forma incremental.
+     */
+    private int nextNode;
+
+    /**
+     * Indica que una pared nueva pudo separar componentes y hay que reconstruir.
+     */
+    private boolean dirty;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que construye el índice de conectividad de un laberinto.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared (no nula ni vacía)
+     */
+    public ConnectivityIndex(boolean[][] grid) {
+        rows = grid.length;
+        cols = grid[0].length;
+        this.grid = new boolean[rows][];
+        for (int r = 0; r < rows; r++) {
+            this.grid[r] = Arrays.copyOf(grid[r], cols);
+        }
+        int total = rows * cols;
+        nodeOf = new int[total];
+        // Cada celda puede abrirse de forma incremental una vez antes de forzar una reconstrucción
+        parent = new int[2 * total];
+        size = new int[2 * total];
+        rebuild();
+    }
+
+    /**
+     * Reconstruye el bosque completo a partir de la copia del laberinto.
+     */
+    private void rebuild() {
+        int total = rows * cols;
+        for (int i = 0; i < total; i++) {
+            nodeOf[i] = i;
+            parent[i] = i;
+            size[i] = 1;
+        }
+        nextNode = total;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (!grid[r][c]) continue;
+                if (c + 1 < cols && grid[r][c + 1]) union(nodeOf[r * cols + c], nodeOf[r * cols + c + 1]);
+                if (r + 1 < rows && grid[r + 1][c]) union(nodeOf[r * cols + c], nodeOf[(r + 1) * cols + c]);
+            }
+        }
+        dirty = false;
+    }
+
+    /**
+     * Notifica el cambio de una celda y actualiza el índice.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param open true si la celda pasa a ser transitable, false si pasa a ser pared
+     */
+    public void update(int row, int col, boolean open) {
+        if (row < 0 || col < 0 || row >= rows || col >= cols || grid[row][col] == open) return;
+        grid[row][col] = open;
+        if (dirty) return;
+
+        int openNeighbors = 0;
+        for (int[] dir : directions) {
+            if (isOpen(row + dir[0], col + dir[1])) openNeighbors++;
+        }
+
+        if (!open) {
+            // Una celda con a lo sumo un vecino no conecta a nadie: quitarla no separa nada
+            if (openNeighbors > 1) dirty = true;
+            return;
+        }
+
+        // Abrir: nodo nuevo (el anterior puede seguir sirviendo de enlace a otras celdas)
+        if (nextNode == parent.length) {
+            dirty = true;
+            return;
+        }
+        int node = nextNode++;
+        parent[node] = node;
+        size[node] = 1;
+        nodeOf[row * cols + col] = node;
+        for (int[] dir : directions) {
+            int nr = row + dir[0];
+            int nc = col + dir[1];
+            if (isOpen(nr, nc)) union(node, nodeOf[nr * cols + nc]);
+        }
+    }
+
+    /**
+     * Indica si dos celdas transitables están en la misma componente conexa.
+     * Si hay una reconstrucción pendiente, se realiza antes de responder.
+     *
+     * @param a Primera celda
+     * @param b Segunda celda
+     * @return true si ambas son transitables y existe un camino entre ellas
+     */
+    public boolean connected(Cell a, Cell b) {
+        if (a == null || b == null || !isOpen(a.row, a.col) || !isOpen(b.row, b.col)) return false;
+        if (dirty) rebuild();
+        return find(nodeOf[a.row * cols + a.col]) == find(nodeOf[b.row * cols + b.col]);
+    }
+
+    /**
+     * Verifica si este índice corresponde al laberinto dado.
+     *
+     * @param other Laberinto a comparar
+     * @return true si tiene las mismas dimensiones y las mismas paredes
+     */
+    public boolean matches(boolean[][] other) {
+        if (other == null || other.length != rows || other[0].length != cols) return false;
+        for (int r = 0; r < rows; r++) {
+            if (!Arrays.equals(grid[r], other[r])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Busca la raíz del conjunto de un nodo, acortando el camino a la mitad en el recorrido.
+     *
+     * @param node Nodo del bosque
+     * @return Raíz del conjunto
+     */
+    private int find(int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    /**
+     * Une los conjuntos de dos nodos colgando el más pequeño del más grande.
+     *
+     * @param a Primer nodo
+     * @param b Segundo nodo
+     */
+    private void union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) return;
+        if (size[ra] < size[rb]) {
+            int swap = ra;
+            ra = rb;
+            rb = swap;
+        }
+        parent[rb] = ra;
+        size[ra] += size[rb];
+    }
+
+    /**
+     * Verifica si una posición está dentro del laberinto y es transitable.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida y no es pared
+     */
+    private boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && grid[row][col];
+    }
+}
@@ -0,0 +1,481 @@
+package solver.index;
+
+import java.util.Arrays;
+
+/**
+ * Grafo comprimido de corredores de un laberinto.
+ * La mayoría de las celdas de un laberinto tienen exactamente dos vecinos transitables y solo
+ * sirven para unir dos cruces. Este índice contrae cada cadena de celdas de grado 2 en una
+ * única arista ponderada entre dos nodos, de modo que una búsqueda solo recorre los cruces.
+ *
+ * Representación:
+ * - Nodo: celda transitable cuyo número de vecinos transitables es distinto de 2
+ *   (cruces, callejones y celdas aisladas). En un ciclo formado solo por celdas de grado 2
+ *   se elige una de sus celdas como nodo
+ * - Arista: corredor entre dos nodos; su peso es el número de pasos (celdas interiores + 1)
+ * - Adyacencia en formato CSR: los vecinos del nodo u ocupan las posiciones
+ *   [offsets[u], offsets[u + 1]) de targets, weights y edgeIds
+ * - Cada celda interior de un corredor recuerda su arista y su posición dentro de ella,
+ *   lo que permite usar cualquier celda como inicio o destino y expandir el camino
+ *
+ * Características:
+ * - Se construye en O(V) recorriendo cada corredor una sola vez
+ * - Conserva una copia del laberinto para detectar si sigue siendo válido
+ * - Los arreglos CSR se exponen directamente para que la búsqueda no cree objetos;
+ *   no deben modificarse
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public final class CorridorGraph {
+    /**
+     * Copia del laberinto sobre el que se construyó el grafo.
+     */
+    private final boolean[][] grid;
+
+    /**
+     * Número de filas del laberinto.
+     */
+    private final int rows;
+
+    /**
+     * Número de columnas del laberinto.
+     */
+    private final int cols;
+
+    /**
+     * Número de nodo de cada celda, o -1 si la celda no es nodo.
+     */
+    private final int[] nodeOf;
+
+    /**
+     * Arista a la que pertenece cada celda interior de un corredor, o -1.
+     */
+    private final int[] edgeOf;
+
+    /**
+     * Posición (desde 0) de cada celda interior dentro de su arista, contada desde edgeFrom.
+     */
+    private final int[] positionOf;
+
+    /**
+     * Celda (índice lineal) de cada nodo.
+     */
+    private final int[] nodeCell;
+
+    /**
+     * Número de nodos del grafo.
+     */
+    private final int nodeCount;
+
+    /**
+     * Inicio de la lista de adyacencia de cada nodo (tamaño nodeCount + 1).
+     */
+    private final int[] offsets;
+
+    /**
+     * Nodo vecino de cada entrada de adyacencia.
+     */
+    private final int[] targets;
+
+    /**
+     * Peso (número de pasos) de cada entrada de adyacencia.
+     */
+    private final int[] weights;
+
+    /**
+     * Arista no dirigida de cada entrada de adyacencia.
+     */
+    private final int[] edgeIds;
+
+    /**
+     * Nodo de origen de cada arista; sus celdas interiores se guardan desde este extremo.
+     */
+    private final int[] edgeFrom;
+
+    /**
+     * Nodo de llegada de cada arista.
+     */
+    private final int[] edgeTo;
+
+    /**
+     * Inicio de las celdas interiores de cada arista en edgeCells (tamaño edgeCount + 1).
+     */
+    private final int[] edgeStart;
+
+    /**
+     * Celdas interiores de todas las aristas, consecutivas y en orden desde edgeFrom.
+     */
+    private final int[] edgeCells;
+
+    /**
+     * Número de aristas no dirigidas del grafo.
+     */
+    private final int edgeCount;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que comprime el laberinto en un grafo de corredores.
+     *
+     * Proceso de construcción:
+     * 1. Marca como nodo toda celda transitable con grado distinto de 2
+     * 2. Desde cada nodo recorre cada corredor hasta el siguiente nodo y crea la arista
+     *    (los corredores ya recorridos desde el otro extremo se omiten)
+     * 3. Las celdas de grado 2 que quedan sin arista forman ciclos sin cruces: se elige una
+     *    celda de cada ciclo como nodo y se recorre el ciclo
+     * 4. Ordena las aristas por nodo en los arreglos CSR
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared (no nula ni vacía)
+     */
+    public CorridorGraph(boolean[][] grid) {
+        rows = grid.length;
+        cols = grid[0].length;
+        this.grid = new boolean[rows][];
+        for (int r = 0; r < rows; r++) {
+            this.grid[r] = Arrays.copyOf(grid[r], cols);
+        }
+
+        int total = rows * cols;
+        nodeOf = new int[total];
+        edgeOf = new int[total];
+        positionOf = new int[total];
+        Arrays.fill(nodeOf, -1);
+        Arrays.fill(edgeOf, -1);
+
+        // Paso 1: nodos = celdas transitables con grado distinto de 2
+        int[] cellOfNode = new int[total];
+        int nodes = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (this.grid[r][c] && degree(r, c) != 2) {
+                    nodeOf[r * cols + c] = nodes;
+                    cellOfNode[nodes++] = r * cols + c;
+                }
+            }
+        }
+
+        // Pasos 2 y 3: recorrer corredores. Cada arista usa al menos una conexión propia
+        // entre celdas vecinas, por lo que hay a lo sumo 2 * celdas aristas
+        int[] from = new int[2 * total];
+        int[] to = new int[2 * total];
+        int[] start = new int[2 * total + 1];
+        int[] cells = new int[total + 1];
+        int edges = 0;
+        int used = 0;
+        for (int n = 0; n < nodes; n++) {
+            for (int d = 0; d < directions.length; d++) {
+                int added = walk(cellOfNode[n], d, edges, cells, used);
+                if (added < 0) continue;
+                from[edges] = n;
+                to[edges] = nodeOf[cells[used + added]];
+                used += added;
+                start[++edges] = used;
+            }
+        }
+        for (int index = 0; index < total; index++) {
+            if (!this.grid[index / cols][index % cols] || nodeOf[index] >= 0 || edgeOf[index] >= 0) continue;
+            // Ciclo sin cruces: esta celda pasa a ser nodo
+            nodeOf[index] = nodes;
+            cellOfNode[nodes] = index;
+            int added = walk(index, firstOpenDirection(index), edges, cells, used);
+            from[edges] = nodes;
+            to[edges] = nodes;
+            used += added;
+            start[++edges] = used;
+            nodes++;
+        }
+
+        nodeCount = nodes;
+        edgeCount = edges;
+        nodeCell = Arrays.copyOf(cellOfNode, nodes);
+        edgeFrom = Arrays.copyOf(from, edges);
+        edgeTo = Arrays.copyOf(to, edges);
+        edgeStart = Arrays.copyOf(start, edges + 1);
+        edgeCells = Arrays.copyOf(cells, used);
+
+        // Paso 4: adyacencia CSR (cada arista aparece en ambos extremos)
+        offsets = new int[nodes + 1];
+        for (int e = 0; e < edges; e++) {
+            offsets[edgeFrom[e] + 1]++;
+            offsets[edgeTo[e] + 1]++;
+        }
+        for (int n = 0; n < nodes; n++) {
+            offsets[n + 1] += offsets[n];
+        }
+        targets = new int[offsets[nodes]];
+        weights = new int[offsets[nodes]];
+        edgeIds = new int[offsets[nodes]];
+        int[] fill = Arrays.copyOf(offsets, nodes);
+        for (int e = 0; e < edges; e++) {
+            int weight = getEdgeWeight(e);
+            int a = fill[edgeFrom[e]]++;
+            targets[a] = edgeTo[e];
+            weights[a] = weight;
+            edgeIds[a] = e;
+            int b = fill[edgeTo[e]]++;
+            targets[b] = edgeFrom[e];
+            weights[b] = weight;
+            edgeIds[b] = e;
+        }
+    }
+
+    /**
+     * Recorre un corredor desde una celda nodo en la dirección indicada hasta el siguiente
+     * nodo, asignando la arista y la posición a cada celda interior.
+     *
+     * Las celdas interiores se escriben en cells a partir de used, seguidas temporalmente
+     * por la celda del nodo de llegada (que no se cuenta en el valor retornado).
+     *
+     * @param origin Celda (índice lineal) del nodo de partida
+     * @param d Dirección del primer paso
+     * @param edge Número de la arista que se está creando
+     * @param cells Arreglo donde se escriben las celdas interiores
+     * @param used Posición libre de cells
+     * @return Número de celdas interiores, o -1 si el corredor no existe o ya fue recorrido
+     */
+    private int walk(int origin, int d, int edge, int[] cells, int used) {
+        int prev = origin;
+        int row = origin / cols + directions[d][0];
+        int col = origin % cols + directions[d][1];
+        if (!isOpen(row, col)) return -1;
+        int current = row * cols + col;
+        if (edgeOf[current] >= 0) return -1;
+        // Dos nodos contiguos: la arista se crea solo desde el nodo menor
+        if (nodeOf[current] >= 0 && nodeOf[current] < nodeOf[origin]) return -1;
+
+        int count = 0;
+        while (nodeOf[current] < 0) {
+            edgeOf[current] = edge;
+            positionOf[current] = count;
+            cells[used + count++] = current;
+            int next = -1;
+            int r = current / cols;
+            int c = current % cols;
+            for (int[] dir : directions) {
+                int nr = r + dir[0];
+                int nc = c + dir[1];
+                if (isOpen(nr, nc) && nr * cols + nc != prev) {
+                    next = nr * cols + nc;
+                    break;
+                }
+            }
+            prev = current;
+            current = next;
+        }
+        cells[used + count] = current;
+        return count;
+    }
+
+    /**
+     * Obtiene la primera dirección transitable desde una celda.
+     *
+     * @param index Índice lineal de la celda
+     * @return Índice de la dirección en directions
+     */
+    private int firstOpenDirection(int index) {
+        for (int d = 0; d < directions.length; d++) {
+            if (isOpen(index / cols + directions[d][0], index % cols + directions[d][1])) return d;
+        }
+        return 0;
+    }
+
+    /**
+     * Cuenta los vecinos transitables de una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Número de vecinos transitables (0 a 4)
+     */
+    private int degree(int row, int col) {
+        int open = 0;
+        for (int[] dir : directions) {
+            if (isOpen(row + dir[0], col + dir[1])) open++;
+        }
+        return open;
+    }
+
+    /**
+     * Verifica si este grafo corresponde al laberinto dado.
+     *
+     * @param other Laberinto a comparar
+     * @return true si tiene las mismas dimensiones y las mismas paredes
+     */
+    public boolean matches(boolean[][] other) {
+        if (other == null || other.length != rows || other[0].length != cols) return false;
+        for (int r = 0; r < rows; r++) {
+            if (!Arrays.equals(grid[r], other[r])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Verifica si una posición está dentro del laberinto y es transitable.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida y no es pared
+     */
+    public boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && grid[row][col];
+    }
+
+    /**
+     * Obtiene el número de filas del laberinto.
+     *
+     * @return Número de filas
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Obtiene el número de columnas del laberinto.
+     *
+     * @return Número de columnas
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Obtiene el número de nodos del grafo.
+     *
+     * @return Cantidad de nodos
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Obtiene el número de aristas no dirigidas del grafo.
+     *
+     * @return Cantidad de aristas
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Obtiene el nodo ubicado en una celda.
+     *
+     * @param index Índice lineal de la celda
+     * @return Número de nodo, o -1 si la celda no es nodo
+     */
+    public int nodeAt(int index) {
+        return nodeOf[index];
+    }
+
+    /**
+     * Obtiene la arista que contiene a una celda interior de corredor.
+     *
+     * @param index Índice lineal de la celda
+     * @return Número de arista, o -1 si la celda no es interior de un corredor
+     */
+    public int edgeAt(int index) {
+        return edgeOf[index];
+    }
+
+    /**
+     * Obtiene la posición de una celda interior dentro de su arista, contada desde el nodo
+     * de origen: la primera celda interior está a 1 paso del origen y tiene posición 0.
+     *
+     * @param index Índice lineal de la celda
+     * @return Posición desde 0
+     */
+    public int positionAt(int index) {
+        return positionOf[index];
+    }
+
+    /**
+     * Obtiene la celda de un nodo.
+     *
+     * @param node Número de nodo
+     * @return Índice lineal de la celda
+     */
+    public int getNodeCell(int node) {
+        return nodeCell[node];
+    }
+
+    /**
+     * Obtiene el nodo de origen de una arista.
+     *
+     * @param edge Número de arista
+     * @return Nodo desde el que se guardan sus celdas interiores
+     */
+    public int getEdgeFrom(int edge) {
+        return edgeFrom[edge];
+    }
+
+    /**
+     * Obtiene el nodo de llegada de una arista.
+     *
+     * @param edge Número de arista
+     * @return Nodo del otro extremo
+     */
+    public int getEdgeTo(int edge) {
+        return edgeTo[edge];
+    }
+
+    /**
+     * Obtiene el peso de una arista: número de pasos entre sus dos nodos.
+     *
+     * @param edge Número de arista
+     * @return Celdas interiores + 1
+     */
+    public int getEdgeWeight(int edge) {
+        return edgeStart[edge + 1] - edgeStart[edge] + 1;
+    }
+
+    /**
+     * Obtiene una celda interior de una arista.
+     *
+     * @param edge Número de arista
+     * @param position Posición desde el nodo de origen (0 a peso - 2)
+     * @return Índice lineal de la celda
+     */
+    public int getEdgeCell(int edge, int position) {
+        return edgeCells[edgeStart[edge] + position];
+    }
+
+    /**
+     * Obtiene los inicios de las listas de adyacencia (tamaño nodos + 1).
+     *
+     * @return Arreglo CSR de desplazamientos (no debe modificarse)
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Obtiene el nodo vecino de cada entrada de adyacencia.
+     *
+     * @return Arreglo CSR de vecinos (no debe modificarse)
+     */
+    public int[] getTargets() {
+        return targets;
+    }
+
+    /**
+     * Obtiene el peso de cada entrada de adyacencia.
+     *
+     * @return Arreglo CSR de pesos (no debe modificarse)
+     */
+    public int[] getWeights() {
+        return weights;
+    }
+
+    /**
+     * Obtiene la arista de cada entrada de adyacencia.
+     *
+     * @return Arreglo CSR de aristas (no debe modificarse)
+     */
+    public int[] getEdgeIds() {
+        return edgeIds;
+    }
+}
@@ -0,0 +1,406 @@
+package solver.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import models.Cell;
+import models.DeadEndFillingResult;
+
+/**
+ * Índice de relleno de callejones sin salida (dead-end filling) para un laberinto fijo.
+ * El relleno sella repetidamente toda celda transitable con tres o más vecinos bloqueados
+ * (paredes, bordes o celdas ya selladas). Lo que queda sin sellar es el núcleo del
+ * laberinto: los corredores que forman ciclos.
+ *
+ * Para poder reutilizar un mismo relleno con muchos pares inicio/destino, el relleno se
+ * calcula una sola vez sin proteger ninguna celda y se recuerda, para cada celda sellada,
+ * el único vecino que seguía abierto cuando se selló (su padre). Las celdas selladas forman
+ * así árboles colgando del núcleo, y cada consulta:
+ * 1. Sube desde el inicio y desde el destino por sus padres hasta llegar al núcleo
+ * 2. Si ambos recorridos se encuentran antes, el camino pasa por ese punto de encuentro
+ * 3. Si no, une ambos recorridos con una búsqueda en anchura restringida al núcleo
+ *
+ * El resultado es el mismo camino (más corto) que se obtendría rellenando con el inicio y el
+ * destino protegidos, pero sin repetir el relleno en cada consulta.
+ *
+ * Características:
+ * - El conteo inicial de vecinos abiertos se calcula en paralelo por filas
+ * - El sellado usa una lista de trabajo y es O(V) en total
+ * - Las marcas por consulta usan sellos de generación, sin limpiar arreglos entre consultas
+ * - Conserva una copia del laberinto para detectar si sigue siendo válido
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class DeadEndFilling {
+    /**
+     * Copia del laberinto sobre el que se calculó el relleno.
+     */
+    private final boolean[][] grid;
+
+    /**
+     * Número de filas del laberinto.
+     */
+    private final int rows;
+
+    /**
+     * Número de columnas del laberinto.
+     */
+    private final int cols;
+
+    /**
+     * Indica para cada celda si fue sellada por el relleno.
+     */
+    private final boolean[] filled;
+
+    /**
+     * Vecino que seguía abierto cuando se selló cada celda, o -1 si no tenía ninguno.
+     */
+    private final int[] parent;
+
+    /**
+     * Celdas selladas en el orden en que se sellaron.
+     */
+    private final int[] fillOrder;
+
+    /**
+     * Número de celdas selladas.
+     */
+    private final int filledCount;
+
+    /**
+     * Sello de generación por celda para las marcas de cada consulta.
+     */
+    private final int[] mark;
+
+    /**
+     * Dato asociado a cada celda marcada (posición en la cadena o padre en la búsqueda).
+     */
+    private final int[] markData;
+
+    /**
+     * Generación actual de marcas; cada consulta usa valores nuevos.
+     */
+    private int generation;
+
+    /**
+     * Cola de la búsqueda en el núcleo; al terminar contiene las celdas exploradas en orden.
+     */
+    private final int[] searchQueue;
+
+    /**
+     * Número de celdas exploradas por la última búsqueda en el núcleo.
+     */
+    private int searched;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que calcula el relleno completo del laberinto.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared (no nula ni vacía)
+     */
+    public DeadEndFilling(boolean[][] grid) {
+        rows = grid.length;
+        cols = grid[0].length;
+        this.grid = new boolean[rows][];
+        for (int r = 0; r < rows; r++) {
+            this.grid[r] = Arrays.copyOf(grid[r], cols);
+        }
+
+        int total = rows * cols;
+        filled = new boolean[total];
+        parent = new int[total];
+        fillOrder = new int[total];
+        mark = new int[total];
+        markData = new int[total];
+        searchQueue = new int[total];
+
+        // Conteo de vecinos abiertos, paralelo por filas
+        int[] degree = new int[total];
+        IntStream.range(0, rows).parallel().forEach(r -> {
+            for (int c = 0; c < cols; c++) {
+                if (!this.grid[r][c]) continue;
+                int open = 0;
+                for (int[] dir : directions) {
+                    if (isOpen(r + dir[0], c + dir[1])) open++;
+                }
+                degree[r * cols + c] = open;
+            }
+        });
+
+        // Lista de trabajo con las celdas que tienen a lo sumo un vecino abierto
+        int[] work = new int[total];
+        int head = 0;
+        int tail = 0;
+        for (int index = 0; index < total; index++) {
+            if (this.grid[index / cols][index % cols] && degree[index] <= 1) work[tail++] = index;
+        }
+
+        // Sellar celdas y propagar la reducción de grado a su vecino abierto
+        int count = 0;
+        while (head < tail) {
+            int current = work[head++];
+            if (filled[current]) continue;
+            filled[current] = true;
+            fillOrder[count++] = current;
+            parent[current] = -1;
+
+            int row = current / cols;
+            int col = current % cols;
+            for (int[] dir : directions) {
+                int nr = row + dir[0];
+                int nc = col + dir[1];
+                if (!isOpen(nr, nc)) continue;
+                int next = nr * cols + nc;
+                if (filled[next]) continue;
+                parent[current] = next;
+                if (--degree[next] == 1) work[tail++] = next;
+            }
+        }
+        filledCount = count;
+    }
+
+    /**
+     * Verifica si este relleno corresponde al laberinto dado.
+     *
+     * @param other Laberinto a comparar
+     * @return true si tiene las mismas dimensiones y las mismas paredes
+     */
+    public boolean matches(boolean[][] other) {
+        if (other == null || other.length != rows || other[0].length != cols) return false;
+        for (int r = 0; r < rows; r++) {
+            if (!Arrays.equals(grid[r], other[r])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Obtiene el número total de celdas selladas sin proteger ningún extremo.
+     *
+     * @return Cantidad de celdas fuera del núcleo de ciclos
+     */
+    public int getFilledCount() {
+        return filledCount;
+    }
+
+    /**
+     * Indica si una celda fue sellada por el relleno.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return true si la celda fue sellada
+     */
+    public boolean isFilled(int row, int col) {
+        return filled[row * cols + col];
+    }
+
+    /**
+     * Resuelve una consulta inicio/destino reutilizando el relleno precalculado.
+     *
+     * El conjunto de visitadas contiene primero las celdas eliminadas (en orden de sellado)
+     * y luego las celdas del núcleo exploradas por la búsqueda que une ambos extremos.
+     *
+     * @param start Celda de inicio
+     * @param end Celda de destino
+     * @return Resultado con el camino más corto (vacío si no existe), las celdas visitadas
+     *         y el número de celdas eliminadas para esta consulta
+     */
+    public DeadEndFillingResult solve(Cell start, Cell end) {
+        List<Cell> path = new ArrayList<>();
+        Set<Cell> visited = new LinkedHashSet<>();
+        if (!isCell(start) || !isCell(end)) {
+            return new DeadEndFillingResult(path, visited, 0);
+        }
+
+        // Cadena desde el inicio hasta el núcleo (o la raíz de su árbol)
+        int stamp = nextGeneration();
+        int[] chainStart = climb(start.row * cols + start.col);
+        for (int i = 0; i < chainStart.length; i++) {
+            mark[chainStart[i]] = stamp;
+            markData[chainStart[i]] = i;
+        }
+
+        // Cadena desde el destino, deteniéndose si toca la cadena del inicio
+        int[] chainEnd = climb(end.row * cols + end.col);
+        int meet = -1;
+        for (int i = 0; i < chainEnd.length && meet < 0; i++) {
+            if (mark[chainEnd[i]] == stamp) {
+                chainStart = Arrays.copyOf(chainStart, markData[chainEnd[i]] + 1);
+                chainEnd = Arrays.copyOf(chainEnd, i);
+                meet = i;
+            }
+        }
+
+        int[] corePath = new int[0];
+        searched = 0;
+        if (meet < 0) {
+            int from = chainStart[chainStart.length - 1];
+            int to = chainEnd[chainEnd.length - 1];
+            // Si algún extremo cuelga de un árbol aislado, están en componentes distintas
+            corePath = filled[from] || filled[to] ? null : coreSearch(from, to);
+            if (corePath == null) {
+                addCells(visited, fillOrder, filledCount, -1);
+                addCells(visited, searchQueue, searched, -1);
+                return new DeadEndFillingResult(path, visited, filledCount);
+            }
+            // Los extremos del tramo del núcleo ya están al final de cada cadena
+            chainStart = Arrays.copyOf(chainStart, chainStart.length - 1);
+            chainEnd = Arrays.copyOf(chainEnd, chainEnd.length - 1);
+        }
+
+        // Marcar las celdas selladas que forman parte del camino: esas no se eliminan
+        int onPath = nextGeneration();
+        int kept = 0;
+        for (int index : chainStart) {
+            path.add(toCell(index));
+            if (filled[index]) {
+                mark[index] = onPath;
+                kept++;
+            }
+        }
+        for (int index : corePath) path.add(toCell(index));
+        for (int i = chainEnd.length - 1; i >= 0; i--) {
+            path.add(toCell(chainEnd[i]));
+            if (filled[chainEnd[i]]) {
+                mark[chainEnd[i]] = onPath;
+                kept++;
+            }
+        }
+
+        addCells(visited, fillOrder, filledCount, onPath);
+        addCells(visited, searchQueue, searched, -1);
+        return new DeadEndFillingResult(path, visited, filledCount - kept);
+    }
+
+    /**
+     * Sube desde una celda siguiendo los padres mientras la celda esté sellada.
+     * La cadena termina en la primera celda del núcleo o en la raíz de un árbol aislado.
+     *
+     * @param from Índice lineal de la celda inicial
+     * @return Índices de la cadena, comenzando en la celda inicial
+     */
+    private int[] climb(int from) {
+        int length = 1;
+        for (int node = from; filled[node] && parent[node] != -1; node = parent[node]) length++;
+        int[] chain = new int[length];
+        int node = from;
+        for (int i = 0; i < length; i++) {
+            chain[i] = node;
+            if (i + 1 < length) node = parent[node];
+        }
+        return chain;
+    }
+
+    /**
+     * Búsqueda en anchura restringida a las celdas del núcleo (no selladas).
+     * Las celdas exploradas quedan en searchQueue y su cantidad en searched.
+     *
+     * @param from Celda del núcleo de partida
+     * @param to Celda del núcleo de llegada
+     * @return Índices del camino desde from hasta to, o null si no están conectadas
+     */
+    private int[] coreSearch(int from, int to) {
+        int stamp = nextGeneration();
+        int head = 0;
+        int tail = 0;
+        searchQueue[tail++] = from;
+        mark[from] = stamp;
+        markData[from] = -1;
+
+        while (head < tail) {
+            int current = searchQueue[head++];
+            if (current == to) {
+                searched = tail;
+                int length = 0;
+                for (int node = to; node != -1; node = markData[node]) length++;
+                int[] result = new int[length];
+                for (int node = to, i = length - 1; node != -1; node = markData[node], i--) {
+                    result[i] = node;
+                }
+                return result;
+            }
+            int row = current / cols;
+            int col = current % cols;
+            for (int[] dir : directions) {
+                int nr = row + dir[0];
+                int nc = col + dir[1];
+                if (!isOpen(nr, nc)) continue;
+                int next = nr * cols + nc;
+                if (filled[next] || mark[next] == stamp) continue;
+                mark[next] = stamp;
+                markData[next] = current;
+                searchQueue[tail++] = next;
+            }
+        }
+        searched = tail;
+        return null;
+    }
+
+    /**
+     * Agrega al conjunto de visitadas las celdas de un arreglo de índices.
+     *
+     * @param visited Conjunto de destino
+     * @param cells Índices lineales de las celdas
+     * @param count Número de celdas a considerar
+     * @param skip Sello de las celdas que deben omitirse, o -1 para no omitir ninguna
+     */
+    private void addCells(Set<Cell> visited, int[] cells, int count, int skip) {
+        for (int i = 0; i < count; i++) {
+            if (mark[cells[i]] != skip) visited.add(toCell(cells[i]));
+        }
+    }
+
+    /**
+     * Avanza la generación de marcas, reiniciando el arreglo solo si se desborda.
+     *
+     * @return Nuevo valor de generación
+     */
+    private int nextGeneration() {
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(mark, 0);
+            generation = 1;
+        }
+        return generation;
+    }
+
+    /**
+     * Verifica si una posición está dentro del laberinto y es transitable.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida y no es pared
+     */
+    private boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && grid[row][col];
+    }
+
+    /**
+     * Verifica que una celda no sea nula, esté dentro del laberinto y sea transitable.
+     *
+     * @param cell Celda a verificar
+     * @return true si la celda es válida para una consulta
+     */
+    private boolean isCell(Cell cell) {
+        return cell != null && isOpen(cell.row, cell.col);
+    }
+
+    /**
+     * Convierte un índice lineal en la celda correspondiente.
+     *
+     * @param index Índice lineal (fila * columnas + columna)
+     * @return Celda con la fila y columna del índice
+     */
+    private Cell toCell(int index) {
+        return new Cell(index / cols, index % cols);
+    }
+}
@@ -0,0 +1,252 @@
+package solver.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import models.Cell;
+
+/**
+ * Campo de distancias desde una celda de origen hacia todo el laberinto.
+ * Una sola búsqueda en anchura llena un arreglo int con la distancia de cada celda al
+ * origen y un arreglo byte con la dirección hacia su padre en el árbol de la búsqueda.
+ * Con ambos, el camino más corto desde el origen hasta cualquier destino se obtiene en
+ * O(longitud del camino), sin repetir la búsqueda.
+ *
+ * Códigos de dirección hacia el padre (hacia el origen):
+ * - 0: arriba, 1: derecha, 2: abajo, 3: izquierda
+ * - {@link #NONE}: origen, pared o celda inalcanzable
+ *
+ * Características:
+ * - La cola de la búsqueda y ambos arreglos se reservan una vez y se reutilizan al
+ *   calcular el campo para otro origen con {@link #compute(Cell)}
+ * - Conserva una copia del laberinto para detectar si sigue siendo válido
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public final class DistanceField {
+    /**
+     * Código de dirección para el origen y para las celdas sin padre.
+     */
+    public static final byte NONE = -1;
+
+    /**
+     * Distancia de las paredes y de las celdas inalcanzables.
+     */
+    public static final int UNREACHABLE = -1;
+
+    /**
+     * Copia del laberinto sobre el que se calcula el campo.
+     */
+    private final boolean[][] grid;
+
+    /**
+     * Número de filas del laberinto.
+     */
+    private final int rows;
+
+    /**
+     * Número de columnas del laberinto.
+     */
+    private final int cols;
+
+    /**
+     * Distancia de cada celda al origen, o UNREACHABLE.
+     */
+    private final int[] distance;
+
+    /**
+     * Dirección desde cada celda hacia su padre, o NONE.
+     */
+    private final byte[] parentDirection;
+
+    /**
+     * Cola de la búsqueda en anchura, reutilizada entre cálculos.
+     */
+    private final int[] queue;
+
+    /**
+     * Celda de origen del campo actual, o null si aún no se calculó.
+     */
+    private Cell source;
+
+    /**
+     * Número de celdas alcanzadas desde el origen actual.
+     */
+    private int reached;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que reserva el campo para un laberinto y lo calcula desde un origen.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared (no nula ni vacía)
+     * @param source Celda de origen
+     */
+    public DistanceField(boolean[][] grid, Cell source) {
+        rows = grid.length;
+        cols = grid[0].length;
+        this.grid = new boolean[rows][];
+        for (int r = 0; r < rows; r++) {
+            this.grid[r] = Arrays.copyOf(grid[r], cols);
+        }
+        distance = new int[rows * cols];
+        parentDirection = new byte[rows * cols];
+        queue = new int[rows * cols];
+        compute(source);
+    }
+
+    /**
+     * Recalcula el campo desde otro origen sobre el mismo laberinto, reutilizando los
+     * arreglos. Si el origen no es transitable, todas las celdas quedan inalcanzables.
+     *
+     * @param source Nueva celda de origen
+     */
+    public void compute(Cell source) {
+        this.source = source;
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(parentDirection, NONE);
+        reached = 0;
+        if (source == null || !isOpen(source.row, source.col)) return;
+
+        int origin = source.row * cols + source.col;
+        distance[origin] = 0;
+        queue[0] = origin;
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            int current = queue[head];
+            int row = current / cols;
+            int col = current - row * cols;
+            int nextDistance = distance[current] + 1;
+            for (int d = 0; d < directions.length; d++) {
+                int nr = row + directions[d][0];
+                int nc = col + directions[d][1];
+                if (!isOpen(nr, nc)) continue;
+                int next = nr * cols + nc;
+                if (distance[next] != UNREACHABLE) continue;
+                distance[next] = nextDistance;
+                // El padre está en la dirección opuesta al paso
+                parentDirection[next] = (byte) ((d + 2) & 3);
+                queue[tail++] = next;
+            }
+        }
+        reached = tail;
+    }
+
+    /**
+     * Obtiene la distancia desde el origen hasta una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Número de pasos del camino más corto, o UNREACHABLE
+     */
+    public int getDistance(int row, int col) {
+        if (row < 0 || col < 0 || row >= rows || col >= cols) return UNREACHABLE;
+        return distance[row * cols + col];
+    }
+
+    /**
+     * Obtiene la dirección desde una celda hacia su padre, es decir, el primer paso del
+     * camino más corto desde esa celda hacia el origen.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Código de dirección (0 a 3) o NONE
+     */
+    public byte getParentDirection(int row, int col) {
+        if (row < 0 || col < 0 || row >= rows || col >= cols) return NONE;
+        return parentDirection[row * cols + col];
+    }
+
+    /**
+     * Construye el camino más corto desde el origen hasta un destino siguiendo las
+     * direcciones hacia el padre. El camino se llena desde el final, sin búsquedas.
+     *
+     * @param end Celda de destino
+     * @return Camino desde el origen hasta el destino, o lista vacía si no es alcanzable
+     */
+    public List<Cell> pathTo(Cell end) {
+        if (end == null) return new ArrayList<>();
+        int length = getDistance(end.row, end.col);
+        if (length == UNREACHABLE) return new ArrayList<>();
+
+        Cell[] cells = new Cell[length + 1];
+        int row = end.row;
+        int col = end.col;
+        for (int i = length; i >= 0; i--) {
+            cells[i] = new Cell(row, col);
+            byte dir = parentDirection[row * cols + col];
+            if (dir == NONE) break;
+            row += directions[dir][0];
+            col += directions[dir][1];
+        }
+        return new ArrayList<>(Arrays.asList(cells));
+    }
+
+    /**
+     * Obtiene la celda de origen del campo actual.
+     *
+     * @return Celda de origen
+     */
+    public Cell getSource() {
+        return source;
+    }
+
+    /**
+     * Obtiene el número de celdas alcanzadas desde el origen (incluido).
+     *
+     * @return Celdas con distancia conocida
+     */
+    public int getReachedCount() {
+        return reached;
+    }
+
+    /**
+     * Verifica si este campo corresponde al laberinto dado.
+     *
+     * @param other Laberinto a comparar
+     * @return true si tiene las mismas dimensiones y las mismas paredes
+     */
+    public boolean matches(boolean[][] other) {
+        if (other == null || other.length != rows || other[0].length != cols) return false;
+        for (int r = 0; r < rows; r++) {
+            if (!Arrays.equals(grid[r], other[r])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Verifica si una posición está dentro del laberinto y es transitable.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida y no es pared
+     */
+    public boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && grid[row][col];
+    }
+
+    /**
+     * Obtiene el número de filas del laberinto.
+     *
+     * @return Número de filas
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Obtiene el número de columnas del laberinto.
+     *
+     * @return Número de columnas
+     */
+    public int getCols() {
+        return cols;
+    }
+}
@@ -0,0 +1,158 @@
+package solver.index;
+
+import models.Cell;
+
+/**
+ * Campo de flujo hacia un destino común para mover muchos agentes a la vez.
+ * Para cada celda transitable que puede llegar al destino guarda la dirección del primer
+ * paso del camino más corto, empaquetada en 2 bits (32 celdas por cada long). Un agente
+ * avanza consultando su celda en O(1), sin ejecutar ninguna búsqueda propia.
+ *
+ * Se construye a partir de un {@link DistanceField} con origen en el destino: la
+ * dirección hacia el padre en esa búsqueda es justamente el siguiente paso hacia el destino.
+ *
+ * Códigos de dirección (2 bits):
+ * - 0: arriba, 1: derecha, 2: abajo, 3: izquierda
+ * Un conjunto de bits aparte indica qué celdas tienen dirección; el destino, las paredes
+ * y las celdas que no pueden llegar al destino no la tienen.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class FlowField {
+    /**
+     * Direcciones empaquetadas a 2 bits por celda.
+     */
+    private final long[] directionBits;
+
+    /**
+     * Un bit por celda: 1 si la celda tiene dirección hacia el destino.
+     */
+    private final long[] hasDirection;
+
+    /**
+     * Número de filas del laberinto.
+     */
+    private final int rows;
+
+    /**
+     * Número de columnas del laberinto.
+     */
+    private final int cols;
+
+    /**
+     * Celda de destino a la que apunta el flujo.
+     */
+    private final Cell goal;
+
+    /**
+     * Desplazamiento del índice lineal para cada código de dirección.
+     */
+    private final int[] indexStep;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que empaqueta las direcciones de un campo de distancias cuyo origen es
+     * el destino de los agentes.
+     *
+     * @param field Campo de distancias calculado desde el destino
+     */
+    public FlowField(DistanceField field) {
+        rows = field.getRows();
+        cols = field.getCols();
+        goal = field.getSource();
+        int total = rows * cols;
+        directionBits = new long[(total + 31) >>> 5];
+        hasDirection = new long[(total + 63) >>> 6];
+        indexStep = new int[] {-cols, 1, cols, -1};
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                byte dir = field.getParentDirection(row, col);
+                if (dir == DistanceField.NONE) continue;
+                int index = row * cols + col;
+                directionBits[index >>> 5] |= (long) dir << ((index & 31) << 1);
+                hasDirection[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    /**
+     * Indica si una celda tiene dirección hacia el destino.
+     *
+     * @param index Índice lineal de la celda ({@code fila * columnas + columna})
+     * @return true si la celda puede avanzar hacia el destino
+     */
+    public boolean hasDirection(int index) {
+        return (hasDirection[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Obtiene la dirección del siguiente paso desde una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Código de dirección (0 a 3), o -1 si la celda no tiene dirección
+     */
+    public int getDirection(int row, int col) {
+        if (row < 0 || col < 0 || row >= rows || col >= cols) return -1;
+        int index = row * cols + col;
+        if (!hasDirection(index)) return -1;
+        return (int) (directionBits[index >>> 5] >>> ((index & 31) << 1)) & 3;
+    }
+
+    /**
+     * Obtiene la celda siguiente desde una celda, en O(1). Las celdas sin dirección
+     * (destino, paredes o sin camino) se quedan donde están.
+     *
+     * @param index Índice lineal de la celda actual
+     * @return Índice lineal de la celda siguiente
+     */
+    public int next(int index) {
+        if (!hasDirection(index)) return index;
+        int dir = (int) (directionBits[index >>> 5] >>> ((index & 31) << 1)) & 3;
+        return index + indexStep[dir];
+    }
+
+    /**
+     * Obtiene el desplazamiento {fila, columna} de un código de dirección.
+     *
+     * @param direction Código de dirección (0 a 3)
+     * @return Desplazamiento de la dirección
+     */
+    public static int[] getDelta(int direction) {
+        return directions[direction].clone();
+    }
+
+    /**
+     * Obtiene la celda de destino del flujo.
+     *
+     * @return Celda de destino
+     */
+    public Cell getGoal() {
+        return goal;
+    }
+
+    /**
+     * Obtiene el número de filas del laberinto.
+     *
+     * @return Número de filas
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Obtiene el número de columnas del laberinto.
+     *
+     * @return Número de columnas
+     */
+    public int getCols() {
+        return cols;
+    }
+}
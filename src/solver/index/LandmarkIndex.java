@@ -0,0 +1,478 @@
+package solver.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Tablas de distancias a puntos de referencia (landmarks) para la heurística ALT.
+ * Se elige un conjunto de celdas de referencia y se ejecuta una búsqueda en anchura desde
+ * cada una, guardando la distancia exacta de esa referencia a cada celda. Por la desigualdad
+ * triangular, para cualquier referencia L:
+ *
+ *     dist(n, t) >= |dist(L, t) - dist(L, n)|
+ *
+ * El máximo de esta cota sobre todas las referencias (y la distancia Manhattan) es una
+ * heurística admisible y consistente, mucho más ajustada que Manhattan en laberintos con
+ * paredes, donde el camino real da muchas vueltas.
+ *
+ * Características:
+ * - Estrategias de selección: punto más lejano o esquinas (completadas con punto más lejano)
+ * - Las distancias se guardan en short[] (2 bytes por celda y referencia) cuando caben,
+ *   y en int[] solo si alguna distancia supera Short.MAX_VALUE
+ * - Las celdas inalcanzables desde una referencia se marcan con -1
+ * - El índice puede guardarse en un archivo junto con el laberinto al que corresponde,
+ *   y cargarse después sin repetir las búsquedas
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class LandmarkIndex {
+    /**
+     * Estrategias disponibles para elegir las celdas de referencia.
+     */
+    public enum Strategy {
+        /** Cada referencia es la celda más lejana a las referencias ya elegidas */
+        FARTHEST_POINT,
+        /** Las primeras referencias son las celdas transitables más cercanas a cada esquina */
+        CORNER
+    }
+
+    /**
+     * Número de referencias por defecto.
+     */
+    public static final int DEFAULT_LANDMARKS = 6;
+
+    /**
+     * Identificador del formato de archivo ("ALT1").
+     */
+    private static final int FILE_MAGIC = 0x414C5431;
+
+    /**
+     * Copia del laberinto sobre el que se calcularon las tablas.
+     */
+    private final boolean[][] grid;
+
+    /**
+     * Número de filas del laberinto.
+     */
+    private final int rows;
+
+    /**
+     * Número de columnas del laberinto.
+     */
+    private final int cols;
+
+    /**
+     * Estrategia con la que se eligieron las referencias.
+     */
+    private final Strategy strategy;
+
+    /**
+     * Celdas de referencia como índices lineales.
+     */
+    private final int[] landmarks;
+
+    /**
+     * Distancias compactas por referencia (null si se usan tablas int).
+     */
+    private final short[][] shortTables;
+
+    /**
+     * Distancias por referencia cuando alguna no cabe en un short (null en otro caso).
+     */
+    private final int[][] intTables;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que elige las referencias por punto más lejano con la cantidad por defecto.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared (no nula ni vacía)
+     */
+    public LandmarkIndex(boolean[][] grid) {
+        this(grid, DEFAULT_LANDMARKS, Strategy.FARTHEST_POINT);
+    }
+
+    /**
+     * Constructor que elige las referencias con la estrategia indicada y calcula sus tablas.
+     *
+     * @param grid Matriz booleana que representa el laberinto (no nula ni vacía)
+     * @param count Número máximo de referencias (mayor que 0)
+     * @param strategy Estrategia de selección de referencias
+     */
+    public LandmarkIndex(boolean[][] grid, int count, Strategy strategy) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("El número de referencias debe ser positivo");
+        }
+        rows = grid.length;
+        cols = grid[0].length;
+        this.strategy = strategy;
+        this.grid = new boolean[rows][];
+        for (int r = 0; r < rows; r++) {
+            this.grid[r] = Arrays.copyOf(grid[r], cols);
+        }
+
+        int total = rows * cols;
+        int[] chosen = new int[count];
+        int[][] tables = new int[count][];
+        int selected = 0;
+
+        // Distancia mínima de cada celda a las referencias ya elegidas
+        int[] nearest = new int[total];
+        Arrays.fill(nearest, Integer.MAX_VALUE);
+
+        if (strategy == Strategy.CORNER) {
+            int[][] corners = {{0, 0}, {0, cols - 1}, {rows - 1, 0}, {rows - 1, cols - 1}};
+            for (int[] corner : corners) {
+                if (selected == count) break;
+                int cell = closestOpen(corner[0], corner[1]);
+                if (cell < 0 || contains(chosen, selected, cell)) continue;
+                selected = addLandmark(cell, chosen, tables, selected, nearest);
+            }
+        }
+
+        // Punto más lejano: primero la celda más alejada de una celda cualquiera
+        int seed = closestOpen(0, 0);
+        if (selected == 0 && seed >= 0) {
+            int[] fromSeed = bfs(seed);
+            selected = addLandmark(farthest(fromSeed), chosen, tables, selected, nearest);
+        }
+        while (selected < count && seed >= 0) {
+            int next = farthest(nearest);
+            if (next < 0 || nearest[next] == 0) break;
+            selected = addLandmark(next, chosen, tables, selected, nearest);
+        }
+
+        landmarks = Arrays.copyOf(chosen, selected);
+        int max = 0;
+        for (int i = 0; i < selected; i++) {
+            for (int d : tables[i]) max = Math.max(max, d);
+        }
+        if (max <= Short.MAX_VALUE) {
+            shortTables = new short[selected][];
+            for (int i = 0; i < selected; i++) {
+                shortTables[i] = new short[total];
+                for (int c = 0; c < total; c++) shortTables[i][c] = (short) tables[i][c];
+            }
+            intTables = null;
+        } else {
+            shortTables = null;
+            intTables = Arrays.copyOf(tables, selected);
+        }
+    }
+
+    /**
+     * Constructor usado al cargar un índice guardado.
+     *
+     * @param grid Laberinto leído del archivo
+     * @param strategy Estrategia registrada
+     * @param landmarks Referencias registradas
+     * @param shortTables Tablas compactas, o null
+     * @param intTables Tablas int, o null
+     */
+    private LandmarkIndex(boolean[][] grid, Strategy strategy, int[] landmarks,
+                          short[][] shortTables, int[][] intTables) {
+        this.grid = grid;
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        this.strategy = strategy;
+        this.landmarks = landmarks;
+        this.shortTables = shortTables;
+        this.intTables = intTables;
+    }
+
+    /**
+     * Registra una nueva referencia: calcula su tabla y actualiza la distancia mínima
+     * de cada celda a las referencias elegidas.
+     *
+     * @param cell Celda de la referencia
+     * @param chosen Referencias elegidas
+     * @param tables Tablas de distancias elegidas
+     * @param selected Número de referencias elegidas hasta ahora
+     * @param nearest Distancia mínima de cada celda a las referencias
+     * @return Nuevo número de referencias elegidas
+     */
+    private int addLandmark(int cell, int[] chosen, int[][] tables, int selected, int[] nearest) {
+        int[] table = bfs(cell);
+        chosen[selected] = cell;
+        tables[selected] = table;
+        for (int c = 0; c < table.length; c++) {
+            if (table[c] >= 0 && table[c] < nearest[c]) nearest[c] = table[c];
+        }
+        return selected + 1;
+    }
+
+    /**
+     * Búsqueda en anchura completa desde una celda.
+     *
+     * @param source Índice lineal de la celda de partida
+     * @return Distancia a cada celda, o -1 si es pared o no se alcanza
+     */
+    private int[] bfs(int source) {
+        int[] dist = new int[rows * cols];
+        Arrays.fill(dist, -1);
+        int[] queue = new int[rows * cols];
+        int head = 0;
+        int tail = 0;
+        dist[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int current = queue[head++];
+            int row = current / cols;
+            int col = current % cols;
+            for (int[] dir : directions) {
+                int nr = row + dir[0];
+                int nc = col + dir[1];
+                if (nr < 0 || nc < 0 || nr >= rows || nc >= cols || !grid[nr][nc]) continue;
+                int next = nr * cols + nc;
+                if (dist[next] >= 0) continue;
+                dist[next] = dist[current] + 1;
+                queue[tail++] = next;
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Busca la celda alcanzada con mayor distancia en una tabla.
+     *
+     * @param dist Distancias por celda (-1 o Integer.MAX_VALUE se ignoran)
+     * @return Índice de la celda más lejana, o -1 si no hay ninguna
+     */
+    private static int farthest(int[] dist) {
+        int best = -1;
+        for (int c = 0; c < dist.length; c++) {
+            if (dist[c] >= 0 && dist[c] != Integer.MAX_VALUE && (best < 0 || dist[c] > dist[best])) best = c;
+        }
+        return best;
+    }
+
+    /**
+     * Busca la celda transitable más cercana (en distancia Manhattan) a una posición.
+     *
+     * @param row Fila de la posición
+     * @param col Columna de la posición
+     * @return Índice lineal de la celda, o -1 si el laberinto no tiene celdas transitables
+     */
+    private int closestOpen(int row, int col) {
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int d = Math.abs(r - row) + Math.abs(c - col);
+                if (grid[r][c] && d < bestDistance) {
+                    bestDistance = d;
+                    best = r * cols + c;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Verifica si una celda ya fue elegida como referencia.
+     *
+     * @param chosen Referencias elegidas
+     * @param count Número de referencias elegidas
+     * @param cell Celda a buscar
+     * @return true si ya está elegida
+     */
+    private static boolean contains(int[] chosen, int count, int cell) {
+        for (int i = 0; i < count; i++) {
+            if (chosen[i] == cell) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Obtiene la distancia exacta desde una referencia hasta una celda.
+     *
+     * @param landmark Posición de la referencia (0 a getLandmarkCount() - 1)
+     * @param cell Índice lineal de la celda
+     * @return Pasos desde la referencia, o -1 si la celda no se alcanza
+     */
+    public int distance(int landmark, int cell) {
+        return shortTables != null ? shortTables[landmark][cell] : intTables[landmark][cell];
+    }
+
+    /**
+     * Calcula la cota inferior ALT de la distancia entre dos celdas: el máximo entre la
+     * distancia Manhattan y |dist(L, to) - dist(L, from)| para cada referencia L que
+     * alcanza a ambas.
+     *
+     * @param from Índice lineal de la celda de partida
+     * @param to Índice lineal de la celda de llegada
+     * @return Cota inferior admisible y consistente del número de pasos
+     */
+    public int lowerBound(int from, int to) {
+        int bound = Math.abs(from / cols - to / cols) + Math.abs(from % cols - to % cols);
+        for (int i = 0; i < landmarks.length; i++) {
+            int a = distance(i, from);
+            int b = distance(i, to);
+            if (a < 0 || b < 0) continue;
+            int d = a > b ? a - b : b - a;
+            if (d > bound) bound = d;
+        }
+        return bound;
+    }
+
+    /**
+     * Guarda el laberinto y las tablas en un archivo binario.
+     *
+     * @param file Ruta del archivo de destino
+     * @throws IOException Si ocurre un error al escribir
+     */
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(rows);
+            out.writeInt(cols);
+            for (boolean[] line : grid) {
+                for (boolean cell : line) out.writeBoolean(cell);
+            }
+            out.writeInt(strategy.ordinal());
+            out.writeInt(landmarks.length);
+            out.writeBoolean(shortTables != null);
+            for (int i = 0; i < landmarks.length; i++) {
+                out.writeInt(landmarks[i]);
+                for (int c = 0; c < rows * cols; c++) {
+                    if (shortTables != null) out.writeShort(shortTables[i][c]);
+                    else out.writeInt(intTables[i][c]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Carga un índice guardado con {@link #save(Path)}, junto con su laberinto.
+     *
+     * @param file Ruta del archivo de origen
+     * @return Índice cargado; usar {@link #matches(boolean[][])} para verificar el laberinto
+     * @throws IOException Si ocurre un error al leer o el archivo no tiene el formato esperado
+     */
+    public static LandmarkIndex load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC) {
+                throw new IOException("El archivo no contiene un índice de referencias");
+            }
+            int rows = in.readInt();
+            int cols = in.readInt();
+            // Validar antes de reservar: un archivo dañado no debe provocar excepciones de arreglo
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+                throw new IOException("Dimensiones del laberinto inválidas: " + rows + "x" + cols);
+            }
+            boolean[][] grid = new boolean[rows][cols];
+            for (boolean[] line : grid) {
+                for (int c = 0; c < cols; c++) line[c] = in.readBoolean();
+            }
+            int ordinal = in.readInt();
+            if (ordinal < 0 || ordinal >= Strategy.values().length) {
+                throw new IOException("Estrategia de selección desconocida: " + ordinal);
+            }
+            Strategy strategy = Strategy.values()[ordinal];
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Número de referencias inválido: " + count);
+            }
+            boolean compact = in.readBoolean();
+            int[] landmarks = new int[count];
+            short[][] shortTables = compact ? new short[count][rows * cols] : null;
+            int[][] intTables = compact ? null : new int[count][rows * cols];
+            for (int i = 0; i < count; i++) {
+                landmarks[i] = in.readInt();
+                if (landmarks[i] < 0 || landmarks[i] >= rows * cols) {
+                    throw new IOException("Referencia fuera del laberinto: " + landmarks[i]);
+                }
+                for (int c = 0; c < rows * cols; c++) {
+                    if (compact) shortTables[i][c] = in.readShort();
+                    else intTables[i][c] = in.readInt();
+                }
+            }
+            return new LandmarkIndex(grid, strategy, landmarks, shortTables, intTables);
+        }
+    }
+
+    /**
+     * Verifica si este índice corresponde al laberinto dado.
+     *
+     * @param other Laberinto a comparar
+     * @return true si tiene las mismas dimensiones y las mismas paredes
+     */
+    public boolean matches(boolean[][] other) {
+        if (other == null || other.length != rows || other[0].length != cols) return false;
+        for (int r = 0; r < rows; r++) {
+            if (!Arrays.equals(grid[r], other[r])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Verifica si una posición está dentro del laberinto y es transitable.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida y no es pared
+     */
+    public boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && grid[row][col];
+    }
+
+    /**
+     * Obtiene el número de filas del laberinto.
+     *
+     * @return Número de filas
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Obtiene el número de columnas del laberinto.
+     *
+     * @return Número de columnas
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Obtiene la estrategia con la que se eligieron las referencias.
+     *
+     * @return Estrategia de selección
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Obtiene el número de referencias elegidas.
+     *
+     * @return Cantidad de referencias
+     */
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+
+    /**
+     * Obtiene la celda de una referencia.
+     *
+     * @param landmark Posición de la referencia
+     * @return Índice lineal de la celda
+     */
+    public int getLandmark(int landmark) {
+        return landmarks[landmark];
+    }
+}
@@ -0,0 +1,307 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import models.CellKeys;
+import models.MazeGrid;
+import solver.SearchCursor;
+
+/**
+ * Cursor de búsqueda en profundidad compartido por los algoritmos recursivos.
+ * Recorre el laberinto con una {@link ExplorationStack} igual que la versión recursiva de
+ * {@code findPath}: cada marco guarda la celda y la siguiente dirección por probar, por lo
+ * que la búsqueda puede detenerse después de cualquier celda y reanudarse más tarde.
+ *
+ * Las variantes recursivas difieren solo en:
+ * - Las direcciones que exploran (dos o cuatro)
+ * - Si consultan el conjunto de visitadas antes de entrar en una celda
+ * - Si el camino incluye el destino
+ *
+ * Las celdas se manejan como claves enteras ({@link CellKeys}) y las visitadas se marcan
+ * en un {@link VisitedCells}, por lo que probar una dirección no crea objetos.
+ *
+ * El camino se construye como en los algoritmos originales: el destino (si corresponde)
+ * y luego las celdas de la pila desde el tope hasta la base.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+class ExplorationCursor implements SearchCursor {
+    /**
+     * Laberinto empaquetado; un bit en 1 indica una celda transitable.
+     */
+    private final MazeGrid grid;
+
+    /**
+     * Celda de inicio de la búsqueda.
+     */
+    private final Cell start;
+
+    /**
+     * Número de columnas del laberinto.
+     */
+    private final int cols;
+
+    /**
+     * Clave de la celda de destino, o -1 si el destino está fuera del laberinto.
+     */
+    private final int target;
+
+    /**
+     * Direcciones que explora el algoritmo, en orden de prueba.
+     */
+    private final int[][] directions;
+
+    /**
+     * true si no se entra en celdas ya visitadas.
+     */
+    private final boolean skipVisited;
+
+    /**
+     * true si el camino incluye la celda de destino.
+     */
+    private final boolean includeEnd;
+
+    /**
+     * Pila explícita de marcos de exploración.
+     */
+    private final ExplorationStack stack;
+
+    /**
+     * Celdas visitadas por clave, en orden de primera visita.
+     */
+    private final VisitedCells marked;
+
+    /**
+     * Conjunto ordenado de celdas visitadas que se entrega en el resultado.
+     * Se completa a partir de {@link #marked} cada vez que se pide el resultado.
+     */
+    private final Set<Cell> visited;
+
+    /**
+     * Número de celdas de {@link #marked} ya copiadas a {@link #visited}.
+     */
+    private int materialized;
+
+    /**
+     * Posición en el orden de visita donde comenzó el último paso.
+     */
+    private int lastFrom;
+
+    /**
+     * Camino encontrado, vacío hasta alcanzar el destino.
+     */
+    private final List<Cell> path;
+
+    /**
+     * Indica si ya se visitó la celda de inicio.
+     */
+    private boolean started;
+
+    /**
+     * Indica si la búsqueda terminó.
+     */
+    private boolean finished;
+
+    /**
+     * Constructor que prepara la búsqueda sin visitar ninguna celda, con su propio
+     * conjunto de visitadas.
+     *
+     * @param grid Laberinto empaquetado a resolver
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @param directions Direcciones a explorar, en orden de prueba
+     * @param skipVisited true para no entrar en celdas ya visitadas
+     * @param includeEnd true si el camino debe incluir el destino
+     */
+    ExplorationCursor(MazeGrid grid, Cell start, Cell end, int[][] directions,
+                      boolean skipVisited, boolean includeEnd) {
+        this(grid, start, end, directions, skipVisited, includeEnd,
+             grid == null ? null : new VisitedCells(grid.getRows(), grid.getCols()));
+    }
+
+    /**
+     * Constructor que prepara la búsqueda sin visitar ninguna celda, usando un conjunto
+     * de visitadas ya vaciado (por ejemplo, tomado de un {@link VisitedWorkspace}).
+     *
+     * @param grid Laberinto empaquetado a resolver
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @param directions Direcciones a explorar, en orden de prueba
+     * @param skipVisited true para no entrar en celdas ya visitadas
+     * @param includeEnd true si el camino debe incluir el destino
+     * @param marked Conjunto de visitadas vacío para esta búsqueda (null si grid es null)
+     */
+    ExplorationCursor(MazeGrid grid, Cell start, Cell end, int[][] directions,
+                      boolean skipVisited, boolean includeEnd, VisitedCells marked) {
+        this.grid = grid;
+        this.start = start;
+        this.directions = directions;
+        this.skipVisited = skipVisited;
+        this.includeEnd = includeEnd;
+        stack = new ExplorationStack(64);
+        visited = new LinkedHashSet<>();
+        path = new ArrayList<>();
+        finished = grid == null;
+        cols = finished ? 0 : grid.getCols();
+        target = !finished && end != null && grid.isOpen(end.row, end.col) ? CellKeys.of(end, cols) : -1;
+        this.marked = finished ? null : marked;
+    }
+
+    /**
+     * Ejecuta una búsqueda completa con el conjunto de visitadas de un espacio de trabajo,
+     * que se devuelve al terminar.
+     *
+     * @param workspace Espacio de trabajo del algoritmo
+     * @param grid Laberinto empaquetado a resolver (no nulo)
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @param directions Direcciones a explorar, en orden de prueba
+     * @param skipVisited true para no entrar en celdas ya visitadas
+     * @param includeEnd true si el camino debe incluir el destino
+     * @return AlgorithmResult con el camino y las celdas visitadas
+     */
+    static AlgorithmResult run(VisitedWorkspace workspace, MazeGrid grid, Cell start, Cell end,
+                               int[][] directions, boolean skipVisited, boolean includeEnd) {
+        VisitedCells marked = workspace.acquire(grid.getRows(), grid.getCols());
+        try {
+            return new ExplorationCursor(grid, start, end, directions, skipVisited, includeEnd, marked)
+                    .runToCompletion();
+        } finally {
+            workspace.release(marked);
+        }
+    }
+
+    /**
+     * Visita como máximo maxExpansions celdas nuevas. Probar una dirección que no lleva
+     * a ninguna celda válida o retroceder desde un callejón no cuenta como expansión.
+     *
+     * @param maxExpansions Número máximo de celdas a visitar
+     * @return Número de celdas visitadas
+     */
+    @Override
+    public int step(int maxExpansions) {
+        if (marked != null) lastFrom = marked.size();
+        if (finished || maxExpansions <= 0) return 0;
+        int expanded = 0;
+
+        if (!started) {
+            // Verificar validez de la celda inicial
+            started = true;
+            if (start == null || !canEnter(start.row, start.col)) {
+                finished = true;
+                return 0;
+            }
+            int source = CellKeys.of(start, cols);
+            marked.add(source);
+            expanded++;
+            if (source == target) {
+                if (includeEnd) path.add(start);
+                finished = true;
+                return expanded;
+            }
+            stack.push(source);
+        }
+
+        while (expanded < maxExpansions) {
+            if (stack.isEmpty()) {
+                // No se encontró camino desde el inicio
+                finished = true;
+                break;
+            }
+            int dir = stack.nextDirection();
+            if (dir >= directions.length) {
+                // Ninguna dirección funcionó desde esta celda
+                stack.pop();
+                continue;
+            }
+
+            int top = stack.peek();
+            int row = CellKeys.row(top, cols) + directions[dir][0];
+            int col = CellKeys.col(top, cols) + directions[dir][1];
+            if (!canEnter(row, col)) continue;
+
+            int next = CellKeys.of(row, col, cols);
+            marked.add(next);
+            expanded++;
+
+            // Caso base: se alcanzó el destino
+            if (next == target) {
+                if (includeEnd) path.add(CellKeys.toCell(next, cols));
+                // Agregar las celdas de la pila desde el tope hasta la base
+                for (int i = stack.size() - 1; i >= 0; i--) {
+                    path.add(CellKeys.toCell(stack.get(i), cols));
+                }
+                finished = true;
+                break;
+            }
+
+            stack.push(next);
+        }
+        return expanded;
+    }
+
+    /**
+     * Obtiene las celdas visitadas por primera vez durante el último paso.
+     *
+     * @return Celdas visitadas en el último paso, en una lista nueva
+     */
+    @Override
+    public List<Cell> getLastVisited() {
+        List<Cell> last = new ArrayList<>();
+        if (marked != null) marked.copyTo(lastFrom, marked.size(), last);
+        return last;
+    }
+
+    /**
+     * Indica si se alcanzó el destino o se vació la pila.
+     *
+     * @return true si la búsqueda terminó
+     */
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Obtiene el camino encontrado, vacío hasta alcanzar el destino.
+     *
+     * @return Camino en el orden de los algoritmos recursivos
+     */
+    @Override
+    public List<Cell> getPath() {
+        return path;
+    }
+
+    /**
+     * Obtiene el camino y las celdas visitadas hasta ahora.
+     *
+     * @return AlgorithmResult con el estado actual de la búsqueda
+     */
+    @Override
+    public AlgorithmResult getResult() {
+        if (marked != null) {
+            marked.copyTo(materialized, marked.size(), visited);
+            materialized = marked.size();
+        }
+        return new AlgorithmResult(path, visited);
+    }
+
+    /**
+     * Verifica si la búsqueda puede entrar en una celda: dentro del laberinto, transitable
+     * y, si la variante lo exige, no visitada.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return true si la celda puede visitarse
+     */
+    private boolean canEnter(int row, int col) {
+        return grid.isOpen(row, col) &&
+               !(skipVisited && marked.contains(CellKeys.of(row, col, cols)));
+    }
+}
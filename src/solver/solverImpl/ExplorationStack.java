@@ -0,0 +1,114 @@
+package solver.solverImpl;
+
+import java.util.Arrays;
+
+/**
+ * Pila explícita de marcos de exploración para los algoritmos recursivos.
+ * Cada marco equivale a una llamada recursiva de {@code findPath}: guarda la celda
+ * (como índice lineal {@code fila * columnas + columna}) y la siguiente dirección que
+ * falta por probar desde ella.
+ *
+ * Características de la estructura:
+ * - Usa dos arreglos primitivos en el heap en lugar de marcos de la pila de la JVM,
+ *   por lo que la profundidad solo está limitada por la memoria disponible
+ * - Crece duplicando su capacidad cuando se llena
+ * - Permite recorrer los marcos desde el tope hasta la base para reconstruir el camino
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+class ExplorationStack {
+    /**
+     * Índice lineal de la celda de cada marco.
+     */
+    private int[] cells;
+
+    /**
+     * Siguiente dirección por probar en cada marco.
+     */
+    private byte[] nextDir;
+
+    /**
+     * Número de marcos en la pila.
+     */
+    private int size;
+
+    /**
+     * Constructor que reserva la capacidad inicial indicada.
+     *
+     * @param capacity Número inicial de marcos (debe ser mayor que 0)
+     */
+    ExplorationStack(int capacity) {
+        cells = new int[capacity];
+        nextDir = new byte[capacity];
+    }
+
+    /**
+     * Agrega un marco para la celda dada, comenzando por la primera dirección.
+     *
+     * @param cell Índice lineal de la celda
+     */
+    void push(int cell) {
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, size * 2);
+            nextDir = Arrays.copyOf(nextDir, size * 2);
+        }
+        cells[size] = cell;
+        nextDir[size] = 0;
+        size++;
+    }
+
+    /**
+     * Obtiene la celda del marco en el tope de la pila.
+     *
+     * @return Índice lineal de la celda del tope
+     */
+    int peek() {
+        return cells[size - 1];
+    }
+
+    /**
+     * Retorna la siguiente dirección por probar en el marco del tope y avanza al
+     * siguiente valor, tal como lo haría el bucle {@code for} de la versión recursiva.
+     *
+     * @return Índice de dirección a probar
+     */
+    int nextDirection() {
+        return nextDir[size - 1]++;
+    }
+
+    /**
+     * Elimina el marco del tope.
+     */
+    void pop() {
+        size--;
+    }
+
+    /**
+     * Indica si la pila no tiene marcos.
+     *
+     * @return true si está vacía
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Obtiene el número de marcos en la pila.
+     *
+     * @return Cantidad de marcos
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Obtiene la celda del marco en la posición dada (0 = base de la pila).
+     *
+     * @param i Posición del marco
+     * @return Índice lineal de la celda
+     */
+    int get(int i) {
+        return cells[i];
+    }
+}
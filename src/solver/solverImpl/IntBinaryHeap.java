@@ -0,0 +1,233 @@
+package solver.solverImpl;
+
+import java.util.Arrays;
+
+/**
+ * Montículo binario mínimo indexado que trabaja exclusivamente con enteros primitivos.
+ * Cada elemento es el índice lineal de una celda ({@code fila * columnas + columna}) y
+ * su prioridad se guarda en un arreglo paralelo, por lo que no se crean objetos
+ * {@code Cell} ni envoltorios {@code Integer} durante la búsqueda.
+ *
+ * Características de la estructura:
+ * - Inserción, extracción del mínimo y disminución de clave en O(log n)
+ * - Cambio arbitrario de clave y eliminación de cualquier nodo en O(log n)
+ * - Consulta de pertenencia en O(1) mediante el arreglo de posiciones
+ * - Capacidad fija igual al número de celdas del laberinto
+ * - Reutilizable entre búsquedas mediante {@link #clear()}
+ *
+ * Es utilizada por los algoritmos guiados por prioridad (A*) como lista abierta y por
+ * D* Lite, que además necesita aumentar claves y retirar nodos de la cola.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+class IntBinaryHeap {
+    /**
+     * Arreglo que contiene los nodos ordenados según la propiedad de montículo.
+     */
+    private final int[] heap;
+
+    /**
+     * Posición de cada nodo dentro del arreglo heap, o -1 si no está en el montículo.
+     */
+    private final int[] pos;
+
+    /**
+     * Prioridad asociada a cada nodo. Valores menores se extraen primero.
+     */
+    private final long[] priority;
+
+    /**
+     * Número de elementos actualmente almacenados en el montículo.
+     */
+    private int size;
+
+    /**
+     * Constructor que reserva espacio para la cantidad máxima de nodos indicada.
+     *
+     * @param capacity Número máximo de nodos distintos (normalmente filas * columnas)
+     */
+    IntBinaryHeap(int capacity) {
+        heap = new int[capacity];
+        pos = new int[capacity];
+        priority = new long[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    /**
+     * Indica si el montículo no contiene elementos.
+     *
+     * @return true si está vacío, false en caso contrario
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Obtiene el número de elementos almacenados.
+     *
+     * @return Cantidad de nodos presentes en el montículo
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Verifica si un nodo se encuentra actualmente en el montículo.
+     *
+     * @param node Índice lineal de la celda
+     * @return true si el nodo está en el montículo
+     */
+    boolean contains(int node) {
+        return pos[node] >= 0;
+    }
+
+    /**
+     * Inserta un nodo con la prioridad dada o, si ya existe, disminuye su prioridad.
+     * Si el nodo ya está presente con una prioridad menor o igual, no se realiza cambio.
+     *
+     * @param node Índice lineal de la celda
+     * @param key Prioridad del nodo (menor = se extrae antes)
+     */
+    void push(int node, long key) {
+        int i = pos[node];
+        if (i < 0) {
+            i = size++;
+            heap[i] = node;
+            pos[node] = i;
+            priority[node] = key;
+            siftUp(i);
+        } else if (key < priority[node]) {
+            priority[node] = key;
+            siftUp(i);
+        }
+    }
+
+    /**
+     * Extrae y retorna el nodo con menor prioridad.
+     *
+     * @return Índice lineal del nodo con menor prioridad
+     */
+    int pop() {
+        int top = heap[0];
+        pos[top] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            pos[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Obtiene el nodo con menor prioridad sin extraerlo.
+     *
+     * @return Índice lineal del nodo con menor prioridad
+     */
+    int peek() {
+        return heap[0];
+    }
+
+    /**
+     * Obtiene la menor prioridad presente en el montículo.
+     *
+     * @return Prioridad del nodo en la cima
+     */
+    long peekKey() {
+        return priority[heap[0]];
+    }
+
+    /**
+     * Inserta un nodo o cambia su prioridad, tanto si la nueva es menor como si es mayor.
+     *
+     * @param node Índice lineal de la celda
+     * @param key Nueva prioridad del nodo
+     */
+    void update(int node, long key) {
+        int i = pos[node];
+        if (i < 0) {
+            push(node, key);
+            return;
+        }
+        long old = priority[node];
+        priority[node] = key;
+        if (key < old) siftUp(i);
+        else if (key > old) siftDown(i);
+    }
+
+    /**
+     * Retira un nodo del montículo si está presente.
+     *
+     * @param node Índice lineal de la celda
+     */
+    void remove(int node) {
+        int i = pos[node];
+        if (i < 0) return;
+        pos[node] = -1;
+        size--;
+        if (i == size) return;
+        int last = heap[size];
+        heap[i] = last;
+        pos[last] = i;
+        siftDown(i);
+        siftUp(pos[last]);
+    }
+
+    /**
+     * Vacía el montículo dejando todas las posiciones listas para una nueva búsqueda.
+     * Solo recorre los elementos presentes, por lo que su costo es O(size).
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            pos[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Sube el elemento de la posición i mientras su prioridad sea menor que la de su padre.
+     *
+     * @param i Posición inicial dentro del arreglo heap
+     */
+    private void siftUp(int i) {
+        int node = heap[i];
+        long key = priority[node];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            int parentNode = heap[parent];
+            if (priority[parentNode] <= key) break;
+            heap[i] = parentNode;
+            pos[parentNode] = i;
+            i = parent;
+        }
+        heap[i] = node;
+        pos[node] = i;
+    }
+
+    /**
+     * Baja el elemento de la posición i mientras alguno de sus hijos tenga menor prioridad.
+     *
+     * @param i Posición inicial dentro del arreglo heap
+     */
+    private void siftDown(int i) {
+        int node = heap[i];
+        long key = priority[node];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && priority[heap[right]] < priority[heap[child]]) {
+                child = right;
+            }
+            int childNode = heap[child];
+            if (key <= priority[childNode]) break;
+            heap[i] = childNode;
+            pos[childNode] = i;
+            i = child;
+        }
+        heap[i] = node;
+        pos[node] = i;
+    }
+}
@@ -0,0 +1,158 @@
+package solver.solverImpl;
+
+import java.util.Arrays;
+
+/**
+ * Cola de prioridad por cubetas (cola de Dial) para claves enteras monótonas.
+ * Cada elemento es el índice lineal de una celda y su clave es la distancia acumulada.
+ * Si el peso de cada arista está entre 1 y C, todas las claves pendientes caen en un
+ * intervalo [d, d + C], por lo que basta un arreglo circular de C + 1 cubetas.
+ *
+ * Características de la estructura:
+ * - Inserción, disminución de clave y extracción del mínimo en O(1) amortizado
+ *   (la extracción avanza a lo sumo C cubetas vacías)
+ * - Cada cubeta es una lista doblemente enlazada intrusiva sobre arreglos int,
+ *   por lo que no se crean objetos durante la búsqueda
+ * - Las claves insertadas no pueden ser menores que la última clave extraída
+ *
+ * Es utilizada por Dijkstra sobre grillas ponderadas, donde los costos por celda son
+ * enteros pequeños.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+class IntBucketQueue {
+    /**
+     * Primer nodo de cada cubeta, o -1 si está vacía.
+     */
+    private final int[] head;
+
+    /**
+     * Siguiente nodo dentro de su cubeta, o -1 si es el último.
+     */
+    private final int[] next;
+
+    /**
+     * Nodo anterior dentro de su cubeta, o -1 si es el primero.
+     */
+    private final int[] prev;
+
+    /**
+     * Clave de cada nodo presente, o -1 si el nodo no está en la cola.
+     */
+    private final int[] key;
+
+    /**
+     * Clave de la cubeta donde continúa la búsqueda del mínimo.
+     */
+    private int current;
+
+    /**
+     * Número de elementos actualmente almacenados.
+     */
+    private int size;
+
+    /**
+     * Constructor que reserva espacio para los nodos y las cubetas necesarias.
+     *
+     * @param capacity Número máximo de nodos distintos (normalmente filas * columnas)
+     * @param maxWeight Mayor peso de arista que se insertará (mayor que 0)
+     */
+    IntBucketQueue(int capacity, int maxWeight) {
+        head = new int[maxWeight + 1];
+        next = new int[capacity];
+        prev = new int[capacity];
+        key = new int[capacity];
+        Arrays.fill(head, -1);
+        Arrays.fill(key, -1);
+    }
+
+    /**
+     * Indica si la cola no contiene elementos.
+     *
+     * @return true si está vacía, false en caso contrario
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Verifica si un nodo se encuentra actualmente en la cola.
+     *
+     * @param node Índice lineal de la celda
+     * @return true si el nodo está en la cola
+     */
+    boolean contains(int node) {
+        return key[node] >= 0;
+    }
+
+    /**
+     * Inserta un nodo con la clave dada o, si ya existe con una clave mayor, la disminuye.
+     *
+     * @param node Índice lineal de la celda
+     * @param newKey Clave del nodo, entre la última clave extraída y esa más el peso máximo
+     */
+    void push(int node, int newKey) {
+        int old = key[node];
+        if (old >= 0) {
+            if (newKey >= old) return;
+            unlink(node, old);
+        } else {
+            size++;
+        }
+        // La búsqueda del mínimo nunca debe empezar después de una clave pendiente
+        if (size == 1 || newKey < current) current = newKey;
+        key[node] = newKey;
+        int bucket = newKey % head.length;
+        prev[node] = -1;
+        next[node] = head[bucket];
+        if (head[bucket] >= 0) prev[head[bucket]] = node;
+        head[bucket] = node;
+    }
+
+    /**
+     * Extrae y retorna un nodo con la menor clave.
+     *
+     * @return Índice lineal del nodo extraído
+     */
+    int pop() {
+        int bucket = current % head.length;
+        while (head[bucket] < 0) {
+            current++;
+            bucket = current % head.length;
+        }
+        int node = head[bucket];
+        unlink(node, current);
+        key[node] = -1;
+        size--;
+        return node;
+    }
+
+    /**
+     * Vacía la cola dejando todas las cubetas listas para una nueva búsqueda.
+     * Solo recorre las cubetas y los elementos presentes.
+     */
+    void clear() {
+        for (int bucket = 0; bucket < head.length; bucket++) {
+            for (int node = head[bucket]; node >= 0; node = next[node]) {
+                key[node] = -1;
+            }
+            head[bucket] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Desengancha un nodo de la lista de su cubeta.
+     *
+     * @param node Índice lineal de la celda
+     * @param nodeKey Clave actual del nodo
+     */
+    private void unlink(int node, int nodeKey) {
+        int p = prev[node];
+        int n = next[node];
+        if (p >= 0) next[p] = n;
+        else head[nodeKey % head.length] = n;
+        if (n >= 0) prev[n] = p;
+    }
+}
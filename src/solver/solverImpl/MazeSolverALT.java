@@ -0,0 +1,263 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+import solver.index.LandmarkIndex;
+
+/**
+ * Implementación de A* con heurística ALT (A*, Landmarks, Triangle inequality).
+ * Esta clase implementa la interfaz MazeSolver igual que MazeSolverAStar, pero estima la
+ * distancia al destino con las tablas de referencias de un {@link LandmarkIndex} en lugar
+ * de la distancia Manhattan.
+ *
+ * Características del algoritmo:
+ * - La heurística es el máximo entre Manhattan y |dist(L, destino) - dist(L, celda)| para
+ *   cada referencia L, por lo que sigue siendo admisible y consistente
+ * - Garantiza encontrar el camino más corto (igual que BFS)
+ * - En laberintos serpenteantes, donde Manhattan casi no orienta la búsqueda, expande
+ *   muchas menos celdas que A* clásico
+ * - Las tablas se calculan una vez por laberinto y se reutilizan entre consultas;
+ *   MazeController puede además guardarlas y cargarlas junto con el laberinto
+ *
+ * Complejidad temporal: O(V log V) por consulta, con una constante proporcional al
+ * número de referencias; O(L * V) para construir las tablas
+ * Complejidad espacial: O(V) por consulta más O(L * V) para las tablas
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverALT implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye al final del algoritmo recorriendo el arreglo de padres.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas expandidas durante la ejecución del algoritmo.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Número de referencias de los índices que construye este solver.
+     */
+    private final int landmarkCount;
+
+    /**
+     * Estrategia de selección de referencias de los índices que construye este solver.
+     */
+    private final LandmarkIndex.Strategy strategy;
+
+    /**
+     * Índice del último laberinto resuelto con {@link #getPath(boolean[][], Cell, Cell)}.
+     */
+    private LandmarkIndex index;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que usa la cantidad de referencias por defecto y la estrategia de
+     * punto más lejano.
+     */
+    public MazeSolverALT() {
+        this(LandmarkIndex.DEFAULT_LANDMARKS, LandmarkIndex.Strategy.FARTHEST_POINT);
+    }
+
+    /**
+     * Constructor con cantidad de referencias y estrategia personalizadas.
+     *
+     * @param landmarkCount Número máximo de referencias (mayor que 0)
+     * @param strategy Estrategia de selección de referencias
+     */
+    public MazeSolverALT(int landmarkCount, LandmarkIndex.Strategy strategy) {
+        if (landmarkCount <= 0) {
+            throw new IllegalArgumentException("El número de referencias debe ser positivo");
+        }
+        this.landmarkCount = landmarkCount;
+        this.strategy = strategy;
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Resuelve el laberinto construyendo (o reutilizando) sus tablas de referencias.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         el conjunto de celdas expandidas durante la búsqueda
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        this.grid = grid;
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        if (index == null || !index.matches(grid)) {
+            index = new LandmarkIndex(grid, landmarkCount, strategy);
+        }
+        return getPath(index, start, end);
+    }
+
+    /**
+     * Implementación de A* con la heurística ALT de un índice ya construido.
+     *
+     * Proceso del algoritmo:
+     * 1. Coloca el inicio en la lista abierta con su cota inferior hasta el destino
+     * 2. Mientras la lista abierta no esté vacía:
+     *    - Extrae la celda con menor f = g + h
+     *    - Si es el destino, reconstruye y retorna el camino
+     *    - Si no, relaja sus vecinos transitables usando la cota ALT como h
+     * 3. Si la lista abierta se vacía sin encontrar el destino, retorna un camino vacío
+     *
+     * @param index Tablas de referencias del laberinto
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         el conjunto de celdas expandidas durante la búsqueda
+     */
+    public AlgorithmResult getPath(LandmarkIndex index, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+
+        // Validación de entrada
+        if (index == null || start == null || end == null
+                || !index.isOpen(start.row, start.col) || !index.isOpen(end.row, end.col)) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int rows = index.getRows();
+        int cols = index.getCols();
+        int total = rows * cols;
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+
+        // Costos acumulados, padres y estado cerrado indexados por celda
+        int[] cost = new int[total];
+        int[] parent = new int[total];
+        boolean[] closed = new boolean[total];
+        int[] order = new int[total];
+        int expanded = 0;
+        Arrays.fill(cost, Integer.MAX_VALUE);
+
+        IntBinaryHeap open = new IntBinaryHeap(total);
+        cost[source] = 0;
+        parent[source] = -1;
+        open.push(source, priority(0, index.lowerBound(source, target)));
+
+        // Bucle principal de A*
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            closed[current] = true;
+            order[expanded++] = current;
+
+            // Verificar si se alcanzó el destino
+            if (current == target) {
+                buildPath(parent, target, cols);
+                return new AlgorithmResult(path, toCells(order, expanded, cols));
+            }
+
+            // Relajar celdas vecinas
+            int row = current / cols;
+            int col = current - row * cols;
+            int nextCost = cost[current] + 1;
+            for (int[] dir : directions) {
+                int nr = row + dir[0];
+                int nc = col + dir[1];
+                if (!index.isOpen(nr, nc)) continue;
+                int next = nr * cols + nc;
+                if (closed[next] || nextCost >= cost[next]) continue;
+                cost[next] = nextCost;
+                parent[next] = current;
+                open.push(next, priority(nextCost, index.lowerBound(next, target)));
+            }
+        }
+
+        // No se encontró camino al destino
+        return new AlgorithmResult(new ArrayList<>(), toCells(order, expanded, cols));
+    }
+
+    /**
+     * Combina f = g + h y h en una sola clave para el montículo.
+     * Los 32 bits altos contienen f y los bajos h, de modo que en empates de f
+     * se extrae primero la celda más cercana al destino.
+     *
+     * @param g Costo real desde el inicio
+     * @param h Estimación de costo hasta el destino
+     * @return Prioridad compuesta para el montículo
+     */
+    private static long priority(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    /**
+     * Reconstruye el camino desde el destino hasta el inicio siguiendo el arreglo de padres
+     * y lo almacena en orden desde el inicio hasta el destino.
+     *
+     * @param parent Arreglo de padres indexado por celda
+     * @param target Índice lineal del destino
+     * @param cols Número de columnas del laberinto
+     */
+    private void buildPath(int[] parent, int target, int cols) {
+        int length = 0;
+        for (int node = target; node != -1; node = parent[node]) length++;
+        Cell[] cells = new Cell[length];
+        for (int node = target, i = length - 1; node != -1; node = parent[node], i--) {
+            cells[i] = new Cell(node / cols, node % cols);
+        }
+        path = new ArrayList<>(Arrays.asList(cells));
+    }
+
+    /**
+     * Convierte la secuencia de índices expandidos en un conjunto ordenado de celdas.
+     *
+     * @param order Índices de celdas en orden de expansión
+     * @param count Número de celdas expandidas
+     * @param cols Número de columnas del laberinto
+     * @return Conjunto de celdas visitadas en orden de expansión
+     */
+    private Set<Cell> toCells(int[] order, int count, int cols) {
+        visited = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            visited.add(new Cell(order[i] / cols, order[i] % cols));
+        }
+        return visited;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
@@ -0,0 +1,380 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+
+/**
+ * Implementación de ARA* (Anytime Repairing A*) para obtener una respuesta rápida y
+ * mejorarla mientras quede tiempo.
+ * Esta clase implementa la interfaz MazeSolver con búsquedas A* sucesivas cuya heurística
+ * Manhattan se multiplica por un factor ε ≥ 1. Con ε grande la primera búsqueda expande
+ * muy pocas celdas y entrega un camino cuyo largo es a lo sumo ε veces el óptimo; luego ε
+ * disminuye y cada búsqueda reutiliza los costos de la anterior, reabriendo solo las
+ * celdas cuyo costo mejoró (lista INCONS), hasta llegar a ε = 1 o al plazo indicado.
+ *
+ * Características del algoritmo:
+ * - Cada camino mejorado se publica a un {@link PathListener} junto con su cota de
+ *   suboptimalidad, para que la interfaz muestre siempre la mejor respuesta disponible
+ * - La primera búsqueda siempre termina (se necesita al menos una respuesta); el plazo
+ *   se respeta en las mejoras posteriores, que se revisan cada 1024 expansiones
+ * - Se detiene también si el hilo que lo ejecuta es interrumpido, incluso durante la
+ *   primera búsqueda, y en ese caso retorna un resultado vacío
+ * - Trabaja con índices enteros y un montículo binario primitivo; las claves usan ε en
+ *   décimas para evitar aritmética de punto flotante
+ *
+ * Complejidad temporal: O(V log V) por cada valor de ε
+ * Complejidad espacial: O(V) para los arreglos de costos, padres, marcas y el montículo
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverARAStar implements MazeSolver {
+    /**
+     * Receptor de los caminos mejorados que ARA* va encontrando.
+     * Se invoca desde el hilo que ejecuta la búsqueda.
+     */
+    public interface PathListener {
+        /**
+         * Notifica un camino mejor que el anterior.
+         *
+         * @param path Camino desde el inicio hasta el destino
+         * @param epsilon Cota de suboptimalidad: el camino mide a lo sumo epsilon veces el óptimo
+         */
+        void pathImproved(List<Cell> path, double epsilon);
+    }
+
+    /**
+     * Plazo por defecto de {@link #getPath(boolean[][], Cell, Cell)}, en milisegundos.
+     */
+    public static final long DEFAULT_BUDGET_MILLIS = 200;
+
+    /**
+     * Valor infinito para costos de celdas aún no alcanzadas.
+     */
+    private static final int INF = Integer.MAX_VALUE;
+
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el mejor camino encontrado desde el inicio hasta el destino.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas expandidas (la primera vez que se expanden).
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Factor inicial de la heurística, en décimas.
+     */
+    private final int initialEpsilon;
+
+    /**
+     * Disminución de ε entre búsquedas, en décimas.
+     */
+    private final int epsilonStep;
+
+    /**
+     * Cota de suboptimalidad del último camino publicado.
+     */
+    private double lastEpsilon;
+
+    /**
+     * Número de caminos publicados en la última ejecución.
+     */
+    private int lastImprovements;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor con ε inicial 3 que disminuye de a 0.5.
+     */
+    public MazeSolverARAStar() {
+        this(3.0, 0.5);
+    }
+
+    /**
+     * Constructor con un ε inicial y un paso de disminución personalizados.
+     *
+     * @param initialEpsilon Factor inicial de la heurística (mayor o igual a 1)
+     * @param epsilonStep Disminución de ε entre búsquedas (mayor que 0)
+     */
+    public MazeSolverARAStar(double initialEpsilon, double epsilonStep) {
+        if (initialEpsilon < 1 || epsilonStep <= 0) {
+            throw new IllegalArgumentException("ε debe ser al menos 1 y su paso positivo");
+        }
+        this.initialEpsilon = (int) Math.round(initialEpsilon * 10);
+        this.epsilonStep = Math.max(1, (int) Math.round(epsilonStep * 10));
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Resuelve el laberinto con el plazo por defecto ({@link #DEFAULT_BUDGET_MILLIS})
+     * y retorna el mejor camino encontrado en ese tiempo.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el mejor camino encontrado y
+     *         el conjunto de celdas expandidas durante todas las búsquedas
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        return getPath(grid, start, end, System.nanoTime() + DEFAULT_BUDGET_MILLIS * 1_000_000L, null);
+    }
+
+    /**
+     * Ejecuta ARA* hasta alcanzar ε = 1 o hasta el plazo indicado, publicando cada
+     * camino mejorado.
+     *
+     * Proceso del algoritmo:
+     * 1. Búsqueda A* con heurística inflada por ε; las celdas ya cerradas cuyo costo
+     *    mejora van a la lista INCONS en lugar de reabrirse
+     * 2. Publica el camino y su cota min(ε, g(destino) / min(g + h) de las celdas abiertas)
+     * 3. Disminuye ε, pasa INCONS a la lista abierta, recalcula sus claves y repite
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @param deadlineNanos Instante límite según {@link System#nanoTime()}
+     * @param listener Receptor de los caminos mejorados (puede ser null)
+     * @return AlgorithmResult que contiene el mejor camino encontrado y
+     *         el conjunto de celdas expandidas durante todas las búsquedas
+     */
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end, long deadlineNanos,
+                                   PathListener listener) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        this.grid = grid;
+        lastEpsilon = Double.POSITIVE_INFINITY;
+        lastImprovements = 0;
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int rows = grid.length;
+        int cols = grid[0].length;
+        int total = rows * cols;
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+
+        int[] cost = new int[total];
+        int[] parent = new int[total];
+        int[] closedRound = new int[total];
+        int[] inconsRound = new int[total];
+        int[] incons = new int[total];
+        boolean[] expanded = new boolean[total];
+        int[] order = new int[total];
+        int expandedCount = 0;
+        Arrays.fill(cost, INF);
+
+        IntBinaryHeap open = new IntBinaryHeap(total);
+        int epsilon = initialEpsilon;
+        cost[source] = 0;
+        parent[source] = -1;
+        open.push(source, priority(0, heuristic(source, target, cols), epsilon));
+
+        int round = 0;
+        int publishedCost = INF;
+        long steps = 0;
+        while (true) {
+            round++;
+            int inconsSize = 0;
+            boolean finished = true;
+
+            // Búsqueda con ε actual: termina cuando ninguna celda abierta puede mejorar el destino
+            while (!open.isEmpty() && (long) cost[target] * 10 > (open.peekKey() >>> 32)) {
+                if ((++steps & 1023) == 0) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        // Búsqueda cancelada: su resultado ya no interesa a nadie
+                        path = new ArrayList<>();
+                        return new AlgorithmResult(path, visited);
+                    }
+                    if (round > 1 && System.nanoTime() - deadlineNanos > 0) {
+                        finished = false;
+                        break;
+                    }
+                }
+                int current = open.pop();
+                closedRound[current] = round;
+                if (!expanded[current]) {
+                    expanded[current] = true;
+                    order[expandedCount++] = current;
+                }
+
+                int row = current / cols;
+                int col = current - row * cols;
+                int nextCost = cost[current] + 1;
+                for (int[] dir : directions) {
+                    int nr = row + dir[0];
+                    int nc = col + dir[1];
+                    if (nr < 0 || nc < 0 || nr >= rows || nc >= cols || !grid[nr][nc]) continue;
+                    int next = nr * cols + nc;
+                    if (nextCost >= cost[next]) continue;
+                    cost[next] = nextCost;
+                    parent[next] = current;
+                    if (closedRound[next] != round) {
+                        open.push(next, priority(nextCost, heuristic(next, target, cols), epsilon));
+                    } else if (inconsRound[next] != round) {
+                        // Ya cerrada en esta búsqueda: se reabrirá con el siguiente ε
+                        inconsRound[next] = round;
+                        incons[inconsSize++] = next;
+                    }
+                }
+            }
+            if (!finished) break;
+            if (cost[target] == INF) break; // No hay camino
+
+            // Publicar el camino si mejoró, con su cota de suboptimalidad
+            long minF = Long.MAX_VALUE;
+            for (int i = 0; i < inconsSize; i++) {
+                minF = Math.min(minF, (long) cost[incons[i]] + heuristic(incons[i], target, cols));
+            }
+            int[] pending = new int[open.size() + inconsSize];
+            int pendingSize = 0;
+            while (!open.isEmpty()) {
+                int node = open.pop();
+                minF = Math.min(minF, (long) cost[node] + heuristic(node, target, cols));
+                pending[pendingSize++] = node;
+            }
+            double bound = minF == Long.MAX_VALUE ? 1.0
+                    : Math.max(1.0, Math.min(epsilon / 10.0, (double) cost[target] / minF));
+            if (cost[target] < publishedCost || bound < lastEpsilon) {
+                publishedCost = cost[target];
+                lastEpsilon = bound;
+                lastImprovements++;
+                buildPath(parent, target, cols);
+                if (listener != null) listener.pathImproved(new ArrayList<>(path), bound);
+            }
+            if (epsilon == 10 || bound == 1.0) break;
+
+            // Siguiente ε: reabrir las celdas de INCONS y recalcular todas las claves
+            epsilon = Math.max(10, epsilon - epsilonStep);
+            System.arraycopy(incons, 0, pending, pendingSize, inconsSize);
+            pendingSize += inconsSize;
+            for (int i = 0; i < pendingSize; i++) {
+                int node = pending[i];
+                open.push(node, priority(cost[node], heuristic(node, target, cols), epsilon));
+            }
+        }
+
+        return new AlgorithmResult(path, toCells(order, expandedCount, cols));
+    }
+
+    /**
+     * Calcula la clave de una celda para el montículo.
+     * Los 32 bits altos contienen 10·g + ε·h (ε en décimas) y los bajos favorecen el mayor
+     * g en empates, es decir, las celdas más avanzadas hacia el destino.
+     *
+     * @param g Costo real desde el inicio
+     * @param h Distancia Manhattan al destino
+     * @param epsilon Factor de la heurística en décimas
+     * @return Prioridad compuesta para el montículo
+     */
+    private static long priority(int g, int h, int epsilon) {
+        return ((g * 10L + (long) epsilon * h) << 32) | (Integer.MAX_VALUE - g);
+    }
+
+    /**
+     * Calcula la distancia Manhattan entre dos celdas.
+     *
+     * @param from Índice lineal de la primera celda
+     * @param to Índice lineal de la segunda celda
+     * @param cols Número de columnas del laberinto
+     * @return Número mínimo de pasos sin considerar paredes
+     */
+    private static int heuristic(int from, int to, int cols) {
+        return Math.abs(from / cols - to / cols) + Math.abs(from % cols - to % cols);
+    }
+
+    /**
+     * Reconstruye el camino desde el destino hasta el inicio siguiendo el arreglo de padres
+     * y lo almacena en orden desde el inicio hasta el destino.
+     *
+     * @param parent Arreglo de padres indexado por celda
+     * @param target Índice lineal del destino
+     * @param cols Número de columnas del laberinto
+     */
+    private void buildPath(int[] parent, int target, int cols) {
+        int length = 0;
+        for (int node = target; node != -1; node = parent[node]) length++;
+        Cell[] cells = new Cell[length];
+        for (int node = target, i = length - 1; node != -1; node = parent[node], i--) {
+            cells[i] = new Cell(node / cols, node % cols);
+        }
+        path = new ArrayList<>(Arrays.asList(cells));
+    }
+
+    /**
+     * Convierte la secuencia de índices expandidos en un conjunto ordenado de celdas.
+     *
+     * @param order Índices de celdas en orden de primera expansión
+     * @param count Número de celdas expandidas
+     * @param cols Número de columnas del laberinto
+     * @return Conjunto de celdas visitadas en orden de expansión
+     */
+    private Set<Cell> toCells(int[] order, int count, int cols) {
+        visited = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            visited.add(new Cell(order[i] / cols, order[i] % cols));
+        }
+        return visited;
+    }
+
+    /**
+     * Obtiene la cota de suboptimalidad del último camino publicado.
+     *
+     * @return ε del mejor camino (1.0 si es óptimo), o infinito si no hubo camino
+     */
+    public double getLastEpsilon() {
+        return lastEpsilon;
+    }
+
+    /**
+     * Obtiene el número de caminos publicados en la última ejecución.
+     *
+     * @return Número de mejoras (incluida la primera respuesta)
+     */
+    public int getLastImprovements() {
+        return lastImprovements;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
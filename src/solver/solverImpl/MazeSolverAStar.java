@@ -0,0 +1,246 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+import solver.MovementModel;
+
+/**
+ * Implementación del algoritmo A* para resolver laberintos.
+ * Esta clase implementa la interfaz MazeSolver utilizando una búsqueda guiada por la
+ * heurística de distancia Manhattan, que en una grilla de 4 direcciones es admisible y
+ * consistente, por lo que el camino encontrado es siempre el más corto.
+ *
+ * Con un {@link MovementModel} de 8 direcciones, los pasos diagonales cuestan ≈ √2 y la
+ * heurística pasa a ser la distancia octil, por lo que el camino encontrado es el de
+ * menor costo bajo ese modelo.
+ *
+ * Características del algoritmo A*:
+ * - Expande primero las celdas con menor f = g + h (costo real + estimación al destino)
+ * - Garantiza encontrar el camino más corto (igual que BFS)
+ * - Explora una fracción mucho menor del laberinto cuando hay espacios abiertos
+ * - En empates de f prefiere la celda más cercana al destino (menor h)
+ * - Trabaja con índices enteros (fila * columnas + columna) y un montículo binario
+ *   primitivo, sin crear objetos Cell durante la búsqueda
+ *
+ * Complejidad temporal: O(V log V) donde V es el número de celdas
+ * Complejidad espacial: O(V) para los arreglos de costos, padres y el montículo
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverAStar implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye al final del algoritmo recorriendo el arreglo de padres.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas expandidas durante la ejecución del algoritmo.
+     * Se utiliza LinkedHashSet para mantener el orden de expansión en la animación.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Modelo de movimiento: direcciones, regla de esquinas, costos y heurística.
+     */
+    private final MovementModel movement;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto,
+     * tomadas del modelo de movimiento.
+     */
+    private final int[][] directions;
+
+    /**
+     * Constructor que inicializa todas las estructuras de datos necesarias para el algoritmo A*.
+     * Prepara las colecciones vacías que serán utilizadas durante la ejecución del algoritmo
+     * y usa el movimiento clásico de 4 direcciones.
+     */
+    public MazeSolverAStar() {
+        this(MovementModel.FOUR_CONNECTED);
+    }
+
+    /**
+     * Constructor con un modelo de movimiento personalizado.
+     *
+     * @param movement Modelo de movimiento (4 u 8 direcciones y regla de esquinas)
+     */
+    public MazeSolverAStar(MovementModel movement) {
+        this.movement = movement;
+        directions = movement.getDirections();
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Implementación del algoritmo A* para encontrar el camino más corto en el laberinto.
+     *
+     * Proceso del algoritmo:
+     * 1. Valida los parámetros y coloca el punto de inicio en la lista abierta
+     * 2. Mientras la lista abierta no esté vacía:
+     *    - Extrae la celda con menor f
+     *    - Si es el destino, reconstruye y retorna el camino
+     *    - Si no, relaja sus vecinos transitables actualizando g y el padre
+     * 3. Si la lista abierta se vacía sin encontrar el destino, retorna un camino vacío
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         el conjunto de celdas expandidas durante la búsqueda
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        this.grid = grid;
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int rows = grid.length;
+        int cols = grid[0].length;
+        int total = rows * cols;
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+
+        // Costos acumulados, padres y estado cerrado indexados por celda
+        int[] cost = new int[total];
+        int[] parent = new int[total];
+        boolean[] closed = new boolean[total];
+        int[] order = new int[total];
+        int expanded = 0;
+        Arrays.fill(cost, Integer.MAX_VALUE);
+
+        IntBinaryHeap open = new IntBinaryHeap(total);
+        cost[source] = 0;
+        parent[source] = -1;
+        open.push(source, priority(0, heuristic(start.row, start.col, end)));
+
+        // Bucle principal de A*
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            closed[current] = true;
+            order[expanded++] = current;
+
+            // Verificar si se alcanzó el destino
+            if (current == target) {
+                buildPath(parent, target, cols);
+                return new AlgorithmResult(path, toCells(order, expanded, cols));
+            }
+
+            // Relajar celdas vecinas
+            int row = current / cols;
+            int col = current - row * cols;
+            for (int[] dir : directions) {
+                if (!movement.canMove(grid, row, col, dir[0], dir[1])) continue;
+                int nr = row + dir[0];
+                int nc = col + dir[1];
+                int next = nr * cols + nc;
+                int nextCost = cost[current] + movement.getCost(dir[0], dir[1]);
+                if (closed[next] || nextCost >= cost[next]) continue;
+                cost[next] = nextCost;
+                parent[next] = current;
+                open.push(next, priority(nextCost, heuristic(nr, nc, end)));
+            }
+        }
+
+        // No se encontró camino al destino
+        return new AlgorithmResult(new ArrayList<>(), toCells(order, expanded, cols));
+    }
+
+    /**
+     * Calcula la distancia del modelo de movimiento (Manhattan u octil) entre una celda
+     * y el destino.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param end Celda de destino
+     * @return Costo mínimo sin considerar paredes
+     */
+    private int heuristic(int row, int col, Cell end) {
+        return movement.heuristic(row - end.row, col - end.col);
+    }
+
+    /**
+     * Combina f = g + h y h en una sola clave para el montículo.
+     * Los 32 bits altos contienen f y los bajos h, de modo que en empates de f
+     * se extrae primero la celda más cercana al destino.
+     *
+     * @param g Costo real desde el inicio
+     * @param h Estimación de costo hasta el destino
+     * @return Prioridad compuesta para el montículo
+     */
+    private static long priority(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    /**
+     * Reconstruye el camino desde el destino hasta el inicio siguiendo el arreglo de padres
+     * y lo almacena en orden desde el inicio hasta el destino.
+     *
+     * @param parent Arreglo de padres indexado por celda
+     * @param target Índice lineal del destino
+     * @param cols Número de columnas del laberinto
+     */
+    private void buildPath(int[] parent, int target, int cols) {
+        int length = 0;
+        for (int node = target; node != -1; node = parent[node]) length++;
+        Cell[] cells = new Cell[length];
+        for (int node = target, i = length - 1; node != -1; node = parent[node], i--) {
+            cells[i] = new Cell(node / cols, node % cols);
+        }
+        path = new ArrayList<>(Arrays.asList(cells));
+    }
+
+    /**
+     * Convierte la secuencia de índices expandidos en un conjunto ordenado de celdas.
+     *
+     * @param order Índices de celdas en orden de expansión
+     * @param count Número de celdas expandidas
+     * @param cols Número de columnas del laberinto
+     * @return Conjunto de celdas visitadas en orden de expansión
+     */
+    private Set<Cell> toCells(int[] order, int count, int cols) {
+        visited = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            visited.add(new Cell(order[i] / cols, order[i] % cols));
+        }
+        return visited;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
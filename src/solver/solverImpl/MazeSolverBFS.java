@@ -1,18 +1,17 @@
 package solver.solverImpl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 import models.Cell;
+import models.CellKeys;
 import models.AlgorithmResult;
-import solver.MazeSolver;
+import models.MazeGrid;
+import solver.SearchCursor;
+import solver.SteppableMazeSolver;
+import solver.collections.IntRingQueue;
 
 /**
  * Implementación del algoritmo de búsqueda en anchura (Breadth-First Search) para resolver laberintos.
@@ -22,48 +21,19 @@ import solver.MazeSolver;
  * Características del algoritmo BFS:
  * - Explora nivel por nivel desde el punto de inicio
  * - Garantiza encontrar el camino más corto (en número de pasos)
- * - Utiliza una cola (Queue) para procesar las celdas en orden FIFO
- * - Mantiene un mapa de padres para reconstruir el camino encontrado
+ * - Utiliza una cola para procesar las celdas en orden FIFO
+ * - Guarda la dirección de llegada a cada celda (2 bits) para reconstruir el camino encontrado
+ * - Trabaja con claves enteras de celda ({@link CellKeys}): expandir una celda no crea objetos
  * - Marca las celdas como visitadas para evitar ciclos infinitos
+ * - Puede ejecutarse paso a paso con un {@link SearchCursor} que conserva la cola entre pasos
  * 
  * Complejidad temporal: O(V + E) donde V es el número de celdas y E el número de conexiones
- * Complejidad espacial: O(V) para almacenar la cola, visitados y padres
+ * Complejidad espacial: O(V) para almacenar la cola, visitados y direcciones de llegada
  * 
  * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
  * @version 1.0
  */
-public class MazeSolverBFS implements MazeSolver {
-    /**
-     * Matriz booleana que representa el laberinto.
-     * true indica una celda transitable, false indica una pared u obstáculo.
-     */
-    private boolean[][] grid;
-    
-    /**
-     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
-     * Se construye al final del algoritmo mediante backtracking usando el mapa de padres.
-     */
-    private List<Cell> path;
-    
-    /**
-     * Mapa que mantiene la relación padre-hijo entre celdas durante la búsqueda.
-     * Permite reconstruir el camino desde el destino hasta el inicio una vez
-     * que se encuentra la solución.
-     */
-    private Map<Cell, Cell> parents;
-    
-    /**
-     * Conjunto ordenado de celdas visitadas durante la ejecución del algoritmo.
-     * Se utiliza LinkedHashSet para mantener el orden de inserción y evitar duplicados.
-     */
-    private Set<Cell> visited;
-    
-    /**
-     * Celda de destino del laberinto. Se almacena para facilitar la comparación
-     * durante la búsqueda y determinar cuándo se ha alcanzado el objetivo.
-     */
-    private Cell end;
-    
+public class MazeSolverBFS implements SteppableMazeSolver {
     /**
      * Matriz que define las direcciones de movimiento posibles en el laberinto.
      * Representa los movimientos: arriba, derecha, abajo, izquierda.
@@ -71,20 +41,25 @@ public class MazeSolverBFS implements MazeSolver {
     private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
 
     /**
-     * Constructor que inicializa todas las estructuras de datos necesarias para el algoritmo BFS.
-     * Prepara las colecciones vacías que serán utilizadas durante la ejecución del algoritmo.
+     * Conjunto de visitadas que se reutiliza entre llamadas a getPath, vaciado por
+     * generación en lugar de reservarse en cada búsqueda.
+     */
+    private final VisitedWorkspace workspace = new VisitedWorkspace();
+
+    /**
+     * Constructor del algoritmo BFS. Cada búsqueda crea su propio estado en un
+     * {@link SearchCursor} (salvo el conjunto de visitadas de getPath, que se toma del
+     * espacio de trabajo solo mientras dura la llamada), por lo que la instancia puede
+     * reutilizarse libremente.
      */
     public MazeSolverBFS() {
-        grid = new boolean[][] {};
-        path = new ArrayList<>();
-        parents = new HashMap<>();
-        visited = new LinkedHashSet<>();
     }
 
     /**
      * Implementación del algoritmo BFS para encontrar el camino más corto en el laberinto.
      * Este método utiliza una cola para explorar nivel por nivel desde el punto de inicio
      * hasta encontrar el destino, garantizando el camino más corto en número de pasos.
+     * Avanza un cursor de búsqueda hasta que termina.
      * 
      * Proceso del algoritmo:
      * 1. Inicializa las estructuras de datos y agrega el punto de inicio a la cola
@@ -103,94 +78,291 @@ public class MazeSolverBFS implements MazeSolver {
      */
     @Override
     public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
-        // Reinicializar estructuras de datos para nueva búsqueda
-        path = new ArrayList<>();
-        parents = new HashMap<>();
-        visited = new LinkedHashSet<>();
-        this.grid = grid;
-        this.end = end;
-        
-        // Validación de entrada
-        if (grid == null || grid.length == 0) return new AlgorithmResult(path, visited);
-        
-        // Inicializar BFS con cola y punto de inicio
-        Queue<Cell> queue = new LinkedList<>();
-        queue.add(start);
-        visited.add(start);
-        parents.put(start, null);
-        
-        // Bucle principal de BFS
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            
-            // Verificar si se alcanzó el destino
-            if (current.equals(end)) {
-                // Reconstruir camino mediante backtracking
-                while (current != null) {
-                    path.add(0, current);
-                    current = parents.get(current);
-                }
-                return new AlgorithmResult(path, visited);
-            }
-            
-            // Explorar celdas vecinas
-            findPath(current, queue);
+        // Validación de entrada: el cursor trata el laberinto vacío como siempre
+        if (grid == null || grid.length == 0 || grid[0].length == 0) {
+            return startSearch(grid, start, end).runToCompletion();
         }
-        
-        // No se encontró camino al destino
-        return new AlgorithmResult(new ArrayList<>(), visited);
+
+        // Empaquetar el laberinto y resolver reutilizando el conjunto de visitadas
+        return getPath(MazeGrid.fromBooleanGrid(grid), start, end);
     }
 
     /**
-     * Explora las celdas vecinas de la celda actual y las agrega a la cola si son válidas.
-     * Este método recorre las cuatro direcciones posibles (arriba, derecha, abajo, izquierda)
-     * y para cada celda vecina válida:
-     * - La marca como visitada
-     * - Establece la relación padre-hijo para reconstrucción del camino
-     * - La agrega a la cola para procesamiento posterior
-     * 
-     * @param current Celda actual desde la cual explorar los vecinos
-     * @param queue Cola de BFS donde se agregan las celdas vecinas válidas
+     * Variante de {@link #getPath(boolean[][], Cell, Cell)} que recorre directamente el
+     * laberinto empaquetado, sin convertirlo a una matriz booleana.
+     *
+     * @param grid Laberinto empaquetado a un bit por celda
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult con el camino encontrado y las celdas visitadas
      */
-    private void findPath(Cell current, Queue<Cell> queue) {
-        for (int[] dir : directions) {
-            Cell nextCell = new Cell(current.row + dir[0], current.col + dir[1]);
-            if (isInMaze(nextCell) && isValid(nextCell)) {
-                visited.add(nextCell);
-                parents.put(nextCell, current);
-                queue.add(nextCell);
-            }
+    @Override
+    public AlgorithmResult getPath(MazeGrid grid, Cell start, Cell end) {
+        if (grid == null) return startSearch(grid, start, end).runToCompletion();
+
+        // Reutilizar el conjunto de visitadas de la búsqueda anterior
+        VisitedCells marked = workspace.acquire(grid.getRows(), grid.getCols());
+        try {
+            return new Cursor(grid, start, end, marked).runToCompletion();
+        } finally {
+            workspace.release(marked);
         }
     }
 
     /**
-     * Verifica si una celda está dentro de los límites del laberinto.
-     * Comprueba que las coordenadas de fila y columna estén dentro del rango
-     * válido de la matriz del laberinto.
-     * 
-     * @param current Celda a verificar
-     * @return true si la celda está dentro de los límites del laberinto,
-     *         false si está fuera de los límites o si current es null
+     * Prepara una búsqueda BFS que se avanza por partes: cada expansión extrae una celda
+     * de la cola y marca sus vecinas válidas.
+     *
+     * @param grid Laberinto empaquetado a un bit por celda
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return Cursor con la cola inicializada en el punto de inicio
      */
-    private boolean isInMaze(Cell current) {
-        return current != null && 
-               current.row >= 0 && 
-               current.col >= 0 && 
-               current.row < grid.length && 
-               current.col < grid[0].length;
+    @Override
+    public SearchCursor startSearch(MazeGrid grid, Cell start, Cell end) {
+        return new Cursor(grid, start, end, grid == null ? null : new VisitedCells(grid.getRows(), grid.getCols()));
     }
-    
+
     /**
-     * Verifica si una celda es válida para ser visitada.
-     * Una celda es válida si:
-     * - Es transitable (grid[row][col] == true)
-     * - No ha sido visitada previamente
-     * 
-     * @param current Celda a verificar
-     * @return true si la celda es transitable y no ha sido visitada,
-     *         false en caso contrario
+     * Estado de una búsqueda BFS en curso: cola, direcciones de llegada y celdas visitadas.
+     * Las celdas se manejan como claves enteras ({@link CellKeys}), de modo que expandir
+     * una celda no crea objetos; las celdas se materializan al pedir el resultado.
      */
-    private boolean isValid(Cell current) {
-        return grid[current.row][current.col] && !visited.contains(current);
+    private static final class Cursor implements SearchCursor {
+        /**
+         * Laberinto empaquetado; un bit en 1 indica una celda transitable.
+         */
+        private final MazeGrid grid;
+
+        /**
+         * Número de columnas del laberinto.
+         */
+        private final int cols;
+
+        /**
+         * Clave de la celda de destino, o -1 si el destino está fuera del laberinto.
+         */
+        private final int target;
+
+        /**
+         * Cola de BFS con las claves pendientes de procesar en orden FIFO. Crece con la
+         * frontera, no con el tamaño del laberinto.
+         */
+        private final IntRingQueue queue;
+
+        /**
+         * Clave de la celda de inicio, donde termina la reconstrucción del camino.
+         */
+        private final int source;
+
+        /**
+         * Dirección con la que se llegó a cada celda, a 2 bits por celda. Mantiene la
+         * relación padre-hijo durante la búsqueda y permite reconstruir el camino desde
+         * el destino hasta el inicio una vez que se encuentra la solución.
+         */
+        private final ParentDirections parents;
+
+        /**
+         * Celdas marcadas como visitadas, en orden de marcado.
+         */
+        private final VisitedCells marked;
+
+        /**
+         * Conjunto ordenado de celdas visitadas que se entrega en el resultado.
+         * Se completa a partir de {@link #marked} cada vez que se pide el resultado.
+         */
+        private final Set<Cell> visited;
+
+        /**
+         * Número de celdas de {@link #marked} ya copiadas a {@link #visited}.
+         */
+        private int materialized;
+
+        /**
+         * Posición en el orden de visita donde comenzó el último paso.
+         */
+        private int lastFrom;
+
+        /**
+         * Posición en el orden de visita donde terminó el último paso. El inicio, marcado
+         * al construir el cursor, queda antes de ella hasta el primer paso, que lo entrega.
+         */
+        private int lastTo;
+
+        /**
+         * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+         * Se construye al final del algoritmo recorriendo las direcciones de llegada
+         * desde el destino.
+         */
+        private List<Cell> path;
+
+        /**
+         * Indica si la búsqueda terminó.
+         */
+        private boolean finished;
+
+        /**
+         * Constructor que inicializa la cola con el punto de inicio.
+         *
+         * @param grid Laberinto empaquetado a resolver
+         * @param start Celda de inicio de la búsqueda
+         * @param end Celda de destino a alcanzar
+         * @param marked Conjunto de visitadas vacío para esta búsqueda (null si grid es null)
+         */
+        Cursor(MazeGrid grid, Cell start, Cell end, VisitedCells marked) {
+            this.grid = grid;
+            queue = new IntRingQueue();
+            visited = new LinkedHashSet<>();
+            path = new ArrayList<>();
+
+            // Validación de entrada
+            if (grid == null || !isInMaze(grid, start)) {
+                cols = 0;
+                target = -1;
+                source = -1;
+                parents = null;
+                this.marked = null;
+                finished = true;
+                return;
+            }
+
+            cols = grid.getCols();
+            target = isInMaze(grid, end) ? CellKeys.of(end, cols) : -1;
+            parents = new ParentDirections(grid.getRows() * cols);
+            this.marked = marked;
+
+            // Inicializar BFS con cola y punto de inicio
+            source = CellKeys.of(start, cols);
+            queue.add(source);
+            marked.add(source);
+        }
+
+        /**
+         * Procesa como máximo maxExpansions celdas de la cola.
+         *
+         * @param maxExpansions Número máximo de celdas a extraer de la cola
+         * @return Número de celdas extraídas
+         */
+        @Override
+        public int step(int maxExpansions) {
+            lastFrom = lastTo;
+            int expanded = 0;
+
+            // Bucle principal de BFS
+            while (!finished && expanded < maxExpansions) {
+                if (queue.isEmpty()) {
+                    // No se encontró camino al destino
+                    finished = true;
+                    break;
+                }
+                int current = queue.poll();
+                expanded++;
+
+                // Verificar si se alcanzó el destino
+                if (current == target) {
+                    // Reconstruir camino mediante backtracking
+                    path = parents.buildPath(source, target, directions, cols);
+                    finished = true;
+                    break;
+                }
+
+                // Explorar celdas vecinas
+                findPath(current);
+            }
+            if (marked != null) lastTo = marked.size();
+            return expanded;
+        }
+
+        /**
+         * Obtiene las vecinas marcadas (y encoladas) durante el último paso; el primero
+         * entrega además la celda de inicio.
+         *
+         * @return Celdas visitadas en el último paso, en una lista nueva
+         */
+        @Override
+        public List<Cell> getLastVisited() {
+            List<Cell> last = new ArrayList<>();
+            if (marked != null) marked.copyTo(lastFrom, lastTo, last);
+            return last;
+        }
+
+        /**
+         * Indica si se alcanzó el destino o se vació la cola.
+         *
+         * @return true si la búsqueda terminó
+         */
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        /**
+         * Obtiene el camino más corto, vacío hasta alcanzar el destino.
+         *
+         * @return Camino desde el inicio hasta el destino
+         */
+        @Override
+        public List<Cell> getPath() {
+            return path;
+        }
+
+        /**
+         * Obtiene el camino y las celdas visitadas hasta ahora.
+         *
+         * @return AlgorithmResult con el estado actual de la búsqueda
+         */
+        @Override
+        public AlgorithmResult getResult() {
+            if (marked != null) {
+                marked.copyTo(materialized, marked.size(), visited);
+                materialized = marked.size();
+            }
+            return new AlgorithmResult(path, visited);
+        }
+
+        /**
+         * Explora las celdas vecinas de la celda actual y las agrega a la cola si son válidas.
+         * Este método recorre las cuatro direcciones posibles (arriba, derecha, abajo, izquierda)
+         * y para cada celda vecina válida:
+         * - La marca como visitada
+         * - Establece la relación padre-hijo para reconstrucción del camino
+         * - La agrega a la cola para procesamiento posterior
+         * 
+         * @param current Clave de la celda actual desde la cual explorar los vecinos
+         */
+        private void findPath(int current) {
+            int row = CellKeys.row(current, cols);
+            int col = current - row * cols;
+            for (int d = 0; d < directions.length; d++) {
+                int[] dir = directions[d];
+                int nextRow = row + dir[0];
+                int nextCol = col + dir[1];
+                // isOpen descarta también las posiciones fuera del laberinto
+                if (!grid.isOpen(nextRow, nextCol)) continue;
+                int next = CellKeys.of(nextRow, nextCol, cols);
+                if (marked.add(next)) {
+                    parents.set(next, d);
+                    queue.add(next);
+                }
+            }
+        }
+
+        /**
+         * Verifica si una celda está dentro de los límites del laberinto.
+         * Comprueba que las coordenadas de fila y columna estén dentro del rango
+         * válido de la matriz del laberinto.
+         * 
+         * @param grid Laberinto empaquetado
+         * @param current Celda a verificar
+         * @return true si la celda está dentro de los límites del laberinto,
+         *         false si está fuera de los límites o si current es null
+         */
+        private static boolean isInMaze(MazeGrid grid, Cell current) {
+            return current != null && 
+                   current.row >= 0 && 
+                   current.col >= 0 && 
+                   current.row < grid.getRows() && 
+                   current.col < grid.getCols();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,260 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+
+/**
+ * Implementación de la búsqueda en anchura bidireccional para resolver laberintos.
+ * Esta clase implementa la interfaz MazeSolver haciendo crecer dos frentes de búsqueda
+ * simultáneamente, uno desde el inicio y otro desde el destino, hasta que se tocan.
+ *
+ * Características del algoritmo BFS bidireccional:
+ * - Expande en cada iteración un nivel completo del frente más pequeño
+ * - Se detiene cuando un frente alcanza una celda ya descubierta por el otro
+ * - Garantiza encontrar el camino más corto (igual que BFS)
+ * - En laberintos con muchos corredores explora aproximadamente la mitad del área
+ * - Reconstruye el camino uniendo los dos arreglos de padres en el punto de encuentro
+ * - Las celdas visitadas incluyen la unión de ambos frentes en orden de descubrimiento
+ *
+ * Complejidad temporal: O(V + E) en el peor caso, normalmente mucho menor que BFS
+ * Complejidad espacial: O(V) para los arreglos de distancias, padres y frentes
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverBidirectionalBFS implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye uniendo los caminos de ambos frentes en el punto de encuentro.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas descubiertas por cualquiera de los dos frentes.
+     * Se utiliza LinkedHashSet para mantener el orden de descubrimiento en la animación.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que inicializa todas las estructuras de datos necesarias para el algoritmo.
+     * Prepara las colecciones vacías que serán utilizadas durante la ejecución del algoritmo.
+     */
+    public MazeSolverBidirectionalBFS() {
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Implementación de la búsqueda en anchura bidireccional.
+     *
+     * Proceso del algoritmo:
+     * 1. Inicializa un frente con el punto de inicio y otro con el destino
+     * 2. Mientras ambos frentes tengan celdas:
+     *    - Elige el frente más pequeño y expande completo su siguiente nivel
+     *    - Cada vez que un vecino ya fue alcanzado por el otro frente, registra
+     *      la longitud total del camino que pasa por ese encuentro
+     *    - Al terminar el nivel, si hubo encuentros, toma el más corto y termina
+     * 3. Si algún frente se vacía sin encuentro, no existe camino
+     *
+     * Completar el nivel antes de decidir asegura que el encuentro elegido produce
+     * el camino más corto y no solo el primero que se detectó.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         la unión de las celdas descubiertas por ambos frentes
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        this.grid = grid;
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int rows = grid.length;
+        int cols = grid[0].length;
+        int total = rows * cols;
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+
+        // Distancias y padres de cada frente (-1 = no alcanzada)
+        int[] distStart = new int[total];
+        int[] distEnd = new int[total];
+        int[] parentStart = new int[total];
+        int[] parentEnd = new int[total];
+        Arrays.fill(distStart, -1);
+        Arrays.fill(distEnd, -1);
+
+        // Orden de descubrimiento compartido por ambos frentes
+        int[] order = new int[total];
+        int discovered = 0;
+
+        // Frentes actuales y siguientes de cada lado
+        int[] frontStart = new int[total];
+        int[] frontEnd = new int[total];
+        int[] next = new int[total];
+        int sizeStart = 1;
+        int sizeEnd = 1;
+
+        frontStart[0] = source;
+        distStart[source] = 0;
+        parentStart[source] = -1;
+        order[discovered++] = source;
+
+        if (source == target) {
+            path.add(new Cell(start.row, start.col));
+            return new AlgorithmResult(path, toCells(order, discovered, cols));
+        }
+
+        frontEnd[0] = target;
+        distEnd[target] = 0;
+        parentEnd[target] = -1;
+        order[discovered++] = target;
+
+        int bestLength = Integer.MAX_VALUE;
+        int meetFrom = -1;
+        int meetTo = -1;
+
+        // Bucle principal: expandir siempre el frente más pequeño
+        while (sizeStart > 0 && sizeEnd > 0) {
+            boolean forward = sizeStart <= sizeEnd;
+            int[] front = forward ? frontStart : frontEnd;
+            int size = forward ? sizeStart : sizeEnd;
+            int[] dist = forward ? distStart : distEnd;
+            int[] other = forward ? distEnd : distStart;
+            int[] parent = forward ? parentStart : parentEnd;
+            int nextSize = 0;
+
+            for (int i = 0; i < size; i++) {
+                int current = front[i];
+                int row = current / cols;
+                int col = current - row * cols;
+                for (int[] dir : directions) {
+                    int nr = row + dir[0];
+                    int nc = col + dir[1];
+                    if (nr < 0 || nc < 0 || nr >= rows || nc >= cols || !grid[nr][nc]) continue;
+                    int neighbor = nr * cols + nc;
+
+                    // Encuentro con el otro frente
+                    if (other[neighbor] >= 0) {
+                        int length = dist[current] + 1 + other[neighbor];
+                        if (length < bestLength) {
+                            bestLength = length;
+                            meetFrom = forward ? current : neighbor;
+                            meetTo = forward ? neighbor : current;
+                        }
+                    }
+
+                    if (dist[neighbor] >= 0) continue;
+                    dist[neighbor] = dist[current] + 1;
+                    parent[neighbor] = current;
+                    next[nextSize++] = neighbor;
+                    if (other[neighbor] < 0) order[discovered++] = neighbor;
+                }
+            }
+
+            // Intercambiar el frente expandido con el nuevo nivel
+            if (forward) {
+                frontStart = next;
+                next = front;
+                sizeStart = nextSize;
+            } else {
+                frontEnd = next;
+                next = front;
+                sizeEnd = nextSize;
+            }
+
+            if (meetFrom >= 0) {
+                buildPath(parentStart, parentEnd, meetFrom, meetTo, cols);
+                return new AlgorithmResult(path, toCells(order, discovered, cols));
+            }
+        }
+
+        // Los frentes nunca se tocaron: no existe camino
+        return new AlgorithmResult(new ArrayList<>(), toCells(order, discovered, cols));
+    }
+
+    /**
+     * Construye el camino completo a partir del par de celdas adyacentes donde se
+     * encontraron los frentes. La primera mitad se obtiene recorriendo los padres del
+     * frente de inicio en sentido inverso y la segunda siguiendo los padres del frente
+     * de destino hacia adelante.
+     *
+     * @param parentStart Padres del frente que creció desde el inicio
+     * @param parentEnd Padres del frente que creció desde el destino
+     * @param meetFrom Celda del encuentro alcanzada desde el inicio
+     * @param meetTo Celda adyacente del encuentro alcanzada desde el destino
+     * @param cols Número de columnas del laberinto
+     */
+    private void buildPath(int[] parentStart, int[] parentEnd, int meetFrom, int meetTo, int cols) {
+        int half = 0;
+        for (int node = meetFrom; node != -1; node = parentStart[node]) half++;
+        Cell[] first = new Cell[half];
+        for (int node = meetFrom, i = half - 1; node != -1; node = parentStart[node], i--) {
+            first[i] = new Cell(node / cols, node % cols);
+        }
+        path = new ArrayList<>(Arrays.asList(first));
+        for (int node = meetTo; node != -1; node = parentEnd[node]) {
+            path.add(new Cell(node / cols, node % cols));
+        }
+    }
+
+    /**
+     * Convierte la secuencia de índices descubiertos en un conjunto ordenado de celdas.
+     *
+     * @param order Índices de celdas en orden de descubrimiento
+     * @param count Número de celdas descubiertas
+     * @param cols Número de columnas del laberinto
+     * @return Conjunto de celdas visitadas por ambos frentes
+     */
+    private Set<Cell> toCells(int[] order, int count, int cols) {
+        visited = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            visited.add(new Cell(order[i] / cols, order[i] % cols));
+        }
+        return visited;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
@@ -0,0 +1,319 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+
+/**
+ * Implementación de una búsqueda en anchura bit-paralela (frente de onda por palabras de 64 bits).
+ * Esta clase implementa la interfaz MazeSolver representando cada fila del laberinto, el frente
+ * actual y las celdas visitadas como arreglos de {@code long}, de modo que un nivel completo
+ * de BFS avanza 64 celdas a la vez mediante desplazamientos y operaciones AND/OR.
+ *
+ * Características del algoritmo:
+ * - Cada bit representa una celda: bit (col % 64) de la palabra (col / 64) de la fila
+ * - El siguiente nivel de una fila es: (frente desplazado a izquierda y derecha en la
+ *   misma fila) OR (frente de las filas vecinas), todo AND transitables AND NOT visitadas
+ * - Solo se procesan las filas que tienen celdas en el frente actual
+ * - Se guarda el nivel (distancia) en el que se alcanzó cada celda y el camino se
+ *   reconstruye desde el destino buscando un vecino con distancia una unidad menor
+ * - Garantiza el camino más corto (igual que BFS)
+ * - Las celdas visitadas se entregan nivel por nivel, igual que en MazeSolverBFS
+ *
+ * Complejidad temporal: O(D * F * C / 64) donde D es la distancia al destino, F el número
+ * de filas activas por nivel y C el número de columnas
+ * Complejidad espacial: 4 bits por celda para las máscaras más un entero por celda para la distancia
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverBitParallelBFS implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye al final retrocediendo por niveles desde el destino.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas visitadas, nivel por nivel y en orden de fila dentro de cada nivel.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Matriz que define las direcciones de movimiento usadas al reconstruir el camino.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que inicializa todas las estructuras de datos necesarias para el algoritmo.
+     * Prepara las colecciones vacías que serán utilizadas durante la ejecución del algoritmo.
+     */
+    public MazeSolverBitParallelBFS() {
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Implementación de BFS bit-paralelo para encontrar el camino más corto.
+     *
+     * Proceso del algoritmo:
+     * 1. Empaqueta las celdas transitables en una máscara de bits por fila
+     * 2. Coloca el inicio como único bit del frente y lo marca como visitado
+     * 3. Mientras el frente no esté vacío y el destino no haya sido alcanzado:
+     *    - Calcula el siguiente frente de cada fila afectada con operaciones por palabra
+     *    - Marca los nuevos bits como visitados y registra su nivel
+     * 4. Si el destino fue alcanzado, reconstruye el camino retrocediendo por niveles
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas visitadas nivel por nivel
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        this.grid = grid;
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int rows = grid.length;
+        int cols = grid[0].length;
+        int words = (cols + 63) >>> 6;
+
+        // Máscaras por fila: transitables, visitadas, frente actual y siguiente
+        long[][] open = pack(grid, rows, cols, words);
+        long[][] seen = new long[rows][words];
+        long[][] front = new long[rows][words];
+        long[][] next = new long[rows][words];
+
+        // Nivel en que se alcanzó cada celda (solo válido si su bit está en seen)
+        int[] dist = new int[rows * cols];
+        int[] order = new int[rows * cols];
+        int count = 0;
+
+        // Filas activas del frente actual y del siguiente
+        int[] activeRows = new int[rows];
+        int[] nextRows = new int[rows];
+        boolean[] touched = new boolean[rows];
+        int active = 1;
+
+        setBit(front[start.row], start.col);
+        setBit(seen[start.row], start.col);
+        dist[start.row * cols + start.col] = 0;
+        order[count++] = start.row * cols + start.col;
+        activeRows[0] = start.row;
+
+        int level = 0;
+        boolean found = start.row == end.row && start.col == end.col;
+
+        // Bucle principal: avanzar el frente un nivel completo por iteración
+        while (active > 0 && !found) {
+            level++;
+            int nextActive = 0;
+
+            // Propagar el frente de cada fila activa a su fila y a las filas vecinas
+            for (int i = 0; i < active; i++) {
+                int r = activeRows[i];
+                long[] f = front[r];
+                for (int t = r - 1; t <= r + 1; t++) {
+                    if (t < 0 || t >= rows) continue;
+                    long[] n = next[t];
+                    long[] o = open[t];
+                    long[] s = seen[t];
+                    if (t == r) {
+                        for (int w = 0; w < words; w++) {
+                            long left = (f[w] << 1) | (w > 0 ? f[w - 1] >>> 63 : 0L);
+                            long right = (f[w] >>> 1) | (w + 1 < words ? f[w + 1] << 63 : 0L);
+                            n[w] |= (left | right) & o[w] & ~s[w];
+                        }
+                    } else {
+                        for (int w = 0; w < words; w++) {
+                            n[w] |= f[w] & o[w] & ~s[w];
+                        }
+                    }
+                    if (!touched[t]) {
+                        touched[t] = true;
+                        nextRows[nextActive++] = t;
+                    }
+                }
+            }
+
+            // Limpiar el frente anterior
+            for (int i = 0; i < active; i++) {
+                Arrays.fill(front[activeRows[i]], 0L);
+            }
+
+            // Consolidar el nuevo nivel: marcar visitadas y registrar distancias
+            Arrays.sort(nextRows, 0, nextActive);
+            int kept = 0;
+            for (int i = 0; i < nextActive; i++) {
+                int t = nextRows[i];
+                touched[t] = false;
+                long[] n = next[t];
+                boolean any = false;
+                for (int w = 0; w < words; w++) {
+                    long bits = n[w];
+                    if (bits == 0) continue;
+                    any = true;
+                    seen[t][w] |= bits;
+                    while (bits != 0) {
+                        int col = (w << 6) + Long.numberOfTrailingZeros(bits);
+                        int index = t * cols + col;
+                        dist[index] = level;
+                        order[count++] = index;
+                        bits &= bits - 1;
+                    }
+                }
+                if (any) nextRows[kept++] = t;
+            }
+
+            // Intercambiar frente actual y siguiente
+            long[][] swapMask = front;
+            front = next;
+            next = swapMask;
+            int[] swapRows = activeRows;
+            activeRows = nextRows;
+            nextRows = swapRows;
+            active = kept;
+
+            found = testBit(seen[end.row], end.col);
+        }
+
+        toCells(order, count, cols);
+        if (!found) {
+            // No se encontró camino al destino
+            return new AlgorithmResult(new ArrayList<>(), visited);
+        }
+
+        buildPath(seen, dist, rows, cols, end);
+        return new AlgorithmResult(path, visited);
+    }
+
+    /**
+     * Empaqueta la matriz booleana en una máscara de bits por fila.
+     * Los bits de relleno de la última palabra quedan en cero, por lo que nunca
+     * se consideran transitables.
+     *
+     * @param grid Matriz booleana del laberinto
+     * @param rows Número de filas
+     * @param cols Número de columnas
+     * @param words Número de palabras de 64 bits por fila
+     * @return Máscara de celdas transitables
+     */
+    private static long[][] pack(boolean[][] grid, int rows, int cols, int words) {
+        long[][] mask = new long[rows][words];
+        for (int r = 0; r < rows; r++) {
+            boolean[] line = grid[r];
+            long[] m = mask[r];
+            for (int c = 0; c < cols; c++) {
+                if (line[c]) m[c >>> 6] |= 1L << c;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Reconstruye el camino retrocediendo desde el destino: en cada paso se elige un
+     * vecino visitado cuyo nivel sea exactamente uno menos que el de la celda actual.
+     *
+     * @param seen Máscara de celdas visitadas
+     * @param dist Nivel en que se alcanzó cada celda
+     * @param rows Número de filas
+     * @param cols Número de columnas
+     * @param end Celda de destino
+     */
+    private void buildPath(long[][] seen, int[] dist, int rows, int cols, Cell end) {
+        int row = end.row;
+        int col = end.col;
+        int d = dist[row * cols + col];
+        Cell[] cells = new Cell[d + 1];
+        cells[d] = new Cell(row, col);
+        while (d > 0) {
+            for (int[] dir : directions) {
+                int nr = row + dir[0];
+                int nc = col + dir[1];
+                if (nr < 0 || nc < 0 || nr >= rows || nc >= cols) continue;
+                if (testBit(seen[nr], nc) && dist[nr * cols + nc] == d - 1) {
+                    row = nr;
+                    col = nc;
+                    break;
+                }
+            }
+            d--;
+            cells[d] = new Cell(row, col);
+        }
+        path = new ArrayList<>(Arrays.asList(cells));
+    }
+
+    /**
+     * Convierte la secuencia de índices visitados en un conjunto ordenado de celdas.
+     *
+     * @param order Índices de celdas en orden de visita
+     * @param count Número de celdas visitadas
+     * @param cols Número de columnas del laberinto
+     */
+    private void toCells(int[] order, int count, int cols) {
+        visited = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            visited.add(new Cell(order[i] / cols, order[i] % cols));
+        }
+    }
+
+    /**
+     * Activa el bit correspondiente a una columna dentro de una fila empaquetada.
+     *
+     * @param row Palabras de la fila
+     * @param col Columna a activar
+     */
+    private static void setBit(long[] row, int col) {
+        row[col >>> 6] |= 1L << col;
+    }
+
+    /**
+     * Consulta el bit correspondiente a una columna dentro de una fila empaquetada.
+     *
+     * @param row Palabras de la fila
+     * @param col Columna a consultar
+     * @return true si el bit está activo
+     */
+    private static boolean testBit(long[] row, int col) {
+        return (row[col >>> 6] & (1L << col)) != 0;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
@@ -0,0 +1,341 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+import solver.index.CorridorGraph;
+
+/**
+ * Implementación de Dijkstra sobre el grafo comprimido de corredores.
+ * Esta clase implementa la interfaz MazeSolver buscando el camino más corto entre los
+ * cruces del laberinto ({@link CorridorGraph}) en lugar de celda por celda, y expandiendo
+ * al final cada arista recorrida en las celdas del corredor que representa.
+ *
+ * Características del algoritmo:
+ * - Solo los nodos (cruces y callejones) entran al montículo; los corredores se saltan
+ *   de una vez con su peso
+ * - Si el inicio o el destino están dentro de un corredor, se conectan con los dos
+ *   extremos de su arista (y entre sí si comparten la misma arista)
+ * - El grafo se reutiliza mientras el laberinto no cambie; MazeController puede además
+ *   mantener su propio grafo y pasarlo directamente
+ * - Garantiza el camino más corto
+ * - Las celdas visitadas son los nodos en el orden en que se cerraron
+ *
+ * Complejidad temporal: O(N log N) por consulta donde N es el número de nodos, más
+ * O(V) para construir el grafo cuando el laberinto cambia
+ * Complejidad espacial: O(N) por consulta más el grafo
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverCorridorGraph implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye al final expandiendo las aristas del camino de nodos.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas de los nodos cerrados por Dijkstra.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Grafo del último laberinto resuelto con {@link #getPath(boolean[][], Cell, Cell)}.
+     */
+    private CorridorGraph graph;
+
+    /**
+     * Constructor que inicializa todas las estructuras de datos necesarias para el algoritmo.
+     * Prepara las colecciones vacías que serán utilizadas durante la ejecución del algoritmo.
+     */
+    public MazeSolverCorridorGraph() {
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Resuelve el laberinto construyendo (o reutilizando) su grafo de corredores.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         los nodos cerrados en orden
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        this.grid = grid;
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        if (graph == null || !graph.matches(grid)) {
+            graph = new CorridorGraph(grid);
+        }
+        return getPath(graph, start, end);
+    }
+
+    /**
+     * Implementación de Dijkstra sobre un grafo de corredores ya construido.
+     *
+     * Proceso del algoritmo:
+     * 1. Coloca en el montículo los nodos de salida: el propio inicio si es nodo, o los
+     *    dos extremos de su corredor con la distancia correspondiente
+     * 2. Extrae el nodo más cercano; si es un extremo de llegada, actualiza la mejor
+     *    distancia al destino; relaja sus aristas CSR
+     * 3. Se detiene cuando el nodo extraído ya no puede mejorar la mejor distancia
+     * 4. Expande el camino de nodos a celdas recorriendo las celdas de cada corredor
+     *
+     * @param graph Grafo de corredores del laberinto
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         los nodos cerrados en orden
+     */
+    public AlgorithmResult getPath(CorridorGraph graph, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+
+        // Validación de entrada
+        if (graph == null || start == null || end == null
+                || !graph.isOpen(start.row, start.col) || !graph.isOpen(end.row, end.col)) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int cols = graph.getCols();
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+        if (source == target) {
+            path.add(start);
+            visited.add(start);
+            return new AlgorithmResult(path, visited);
+        }
+
+        int nodes = graph.getNodeCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] edgeIds = graph.getEdgeIds();
+
+        int[] dist = new int[nodes];
+        int[] parent = new int[nodes];
+        int[] parentEdge = new int[nodes];
+        boolean[] closed = new boolean[nodes];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        IntBinaryHeap open = new IntBinaryHeap(nodes);
+
+        // Nodos de salida
+        int sourceEdge = graph.edgeAt(source);
+        int sourcePos = sourceEdge >= 0 ? graph.positionAt(source) : 0;
+        if (sourceEdge < 0) {
+            seed(graph.nodeAt(source), 0, dist, parent, parentEdge, open);
+        } else {
+            int weight = graph.getEdgeWeight(sourceEdge);
+            seed(graph.getEdgeFrom(sourceEdge), sourcePos + 1, dist, parent, parentEdge, open);
+            seed(graph.getEdgeTo(sourceEdge), weight - sourcePos - 1, dist, parent, parentEdge, open);
+        }
+
+        // Extremos de llegada y camino directo por el mismo corredor
+        int targetEdge = graph.edgeAt(target);
+        int targetPos = targetEdge >= 0 ? graph.positionAt(target) : 0;
+        int targetWeight = targetEdge >= 0 ? graph.getEdgeWeight(targetEdge) : 0;
+        long best = Long.MAX_VALUE;
+        int bestNode = -1;
+        if (sourceEdge >= 0 && sourceEdge == targetEdge) {
+            best = Math.abs(sourcePos - targetPos);
+        }
+
+        // Bucle principal de Dijkstra
+        while (!open.isEmpty()) {
+            int u = open.pop();
+            if (dist[u] >= best) break;
+            closed[u] = true;
+            visited.add(toCell(graph.getNodeCell(u), cols));
+
+            long arrival = arrivalCost(graph, u, target, targetEdge, targetPos, targetWeight);
+            if (arrival >= 0 && dist[u] + arrival < best) {
+                best = dist[u] + arrival;
+                bestNode = u;
+            }
+
+            for (int a = offsets[u]; a < offsets[u + 1]; a++) {
+                int v = targets[a];
+                if (closed[v]) continue;
+                int candidate = dist[u] + weights[a];
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    parent[v] = u;
+                    parentEdge[v] = edgeIds[a];
+                    open.push(v, candidate);
+                }
+            }
+        }
+
+        if (best == Long.MAX_VALUE) {
+            // No se encontró camino al destino
+            return new AlgorithmResult(path, visited);
+        }
+
+        int[] cells = new int[(int) best + 1];
+        if (bestNode < 0) {
+            // Inicio y destino en el mismo corredor, sin pasar por ningún nodo
+            int step = targetPos > sourcePos ? 1 : -1;
+            for (int i = 0, p = sourcePos; i < cells.length; i++, p += step) {
+                cells[i] = graph.getEdgeCell(sourceEdge, p);
+            }
+        } else {
+            expand(graph, cells, bestNode, parent, parentEdge, dist, source, sourceEdge, sourcePos,
+                    target, targetEdge, targetPos);
+        }
+        for (int index : cells) {
+            path.add(toCell(index, cols));
+        }
+        return new AlgorithmResult(path, visited);
+    }
+
+    /**
+     * Coloca un nodo de salida en el montículo si mejora su distancia actual.
+     *
+     * @param node Nodo de salida
+     * @param distance Pasos desde el inicio hasta el nodo
+     * @param dist Distancias actuales
+     * @param parent Nodo padre de cada nodo
+     * @param parentEdge Arista de llegada de cada nodo
+     * @param open Montículo de nodos abiertos
+     */
+    private static void seed(int node, int distance, int[] dist, int[] parent, int[] parentEdge,
+                             IntBinaryHeap open) {
+        if (distance >= dist[node]) return;
+        dist[node] = distance;
+        parent[node] = -1;
+        parentEdge[node] = -1;
+        open.push(node, distance);
+    }
+
+    /**
+     * Calcula los pasos restantes desde un nodo hasta el destino sin pasar por otro nodo.
+     *
+     * @param graph Grafo de corredores
+     * @param node Nodo cerrado
+     * @param target Celda de destino
+     * @param targetEdge Arista que contiene al destino, o -1 si el destino es nodo
+     * @param targetPos Posición del destino dentro de su arista
+     * @param targetWeight Peso de la arista del destino
+     * @return Pasos hasta el destino, o -1 si el nodo no es un extremo de llegada
+     */
+    private static long arrivalCost(CorridorGraph graph, int node, int target, int targetEdge,
+                                    int targetPos, int targetWeight) {
+        if (targetEdge < 0) {
+            return graph.getNodeCell(node) == target ? 0 : -1;
+        }
+        long cost = -1;
+        if (graph.getEdgeFrom(targetEdge) == node) cost = targetPos + 1;
+        if (graph.getEdgeTo(targetEdge) == node) {
+            long back = targetWeight - targetPos - 1;
+            if (cost < 0 || back < cost) cost = back;
+        }
+        return cost;
+    }
+
+    /**
+     * Expande el camino de nodos a celdas: tramo de salida desde el inicio, cada corredor
+     * entre nodos consecutivos y tramo de llegada hasta el destino.
+     *
+     * @param graph Grafo de corredores
+     * @param cells Arreglo de salida con tamaño igual a la distancia + 1
+     * @param last Último nodo antes del destino
+     * @param parent Nodo padre de cada nodo
+     * @param parentEdge Arista de llegada de cada nodo
+     * @param dist Distancia de cada nodo desde el inicio
+     * @param source Celda de inicio
+     * @param sourceEdge Arista del inicio, o -1 si el inicio es nodo
+     * @param sourcePos Posición del inicio dentro de su arista
+     * @param target Celda de destino
+     * @param targetEdge Arista del destino, o -1 si el destino es nodo
+     * @param targetPos Posición del destino dentro de su arista
+     */
+    private static void expand(CorridorGraph graph, int[] cells, int last, int[] parent, int[] parentEdge,
+                               int[] dist, int source, int sourceEdge, int sourcePos,
+                               int target, int targetEdge, int targetPos) {
+        // Tramo de llegada: del último nodo al destino, escrito desde el final
+        int at = cells.length - 1;
+        if (targetEdge >= 0) {
+            int weight = graph.getEdgeWeight(targetEdge);
+            boolean viaFrom = graph.getEdgeFrom(targetEdge) == last
+                    && (graph.getEdgeTo(targetEdge) != last || targetPos + 1 <= weight - targetPos - 1);
+            if (viaFrom) {
+                for (int p = targetPos; p >= 0; p--) cells[at--] = graph.getEdgeCell(targetEdge, p);
+            } else {
+                for (int p = targetPos; p <= weight - 2; p++) cells[at--] = graph.getEdgeCell(targetEdge, p);
+            }
+        }
+
+        // Corredores entre nodos, retrocediendo por los padres
+        int node = last;
+        while (true) {
+            cells[at--] = graph.getNodeCell(node);
+            int edge = parentEdge[node];
+            if (edge < 0) break;
+            int prev = parent[node];
+            int inner = graph.getEdgeWeight(edge) - 1;
+            if (graph.getEdgeTo(edge) == node && graph.getEdgeFrom(edge) == prev) {
+                for (int p = inner - 1; p >= 0; p--) cells[at--] = graph.getEdgeCell(edge, p);
+            } else {
+                for (int p = 0; p < inner; p++) cells[at--] = graph.getEdgeCell(edge, p);
+            }
+            node = prev;
+        }
+
+        // Tramo de salida: del inicio al primer nodo
+        if (sourceEdge >= 0) {
+            if (graph.getEdgeFrom(sourceEdge) == node && dist[node] == sourcePos + 1) {
+                for (int p = 0; p <= sourcePos; p++) cells[at--] = graph.getEdgeCell(sourceEdge, p);
+            } else {
+                int weight = graph.getEdgeWeight(sourceEdge);
+                for (int p = weight - 2; p >= sourcePos; p--) cells[at--] = graph.getEdgeCell(sourceEdge, p);
+            }
+        }
+    }
+
+    /**
+     * Convierte un índice lineal en la celda correspondiente.
+     *
+     * @param index Índice lineal (fila * columnas + columna)
+     * @param cols Número de columnas del laberinto
+     * @return Celda con la fila y columna del índice
+     */
+    private static Cell toCell(int index, int cols) {
+        return new Cell(index / cols, index % cols);
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
@@ -2,16 +2,17 @@
 package solver.solverImpl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.Stack;
 
 import models.Cell;
+import models.CellKeys;
 import models.AlgorithmResult;
-import solver.MazeSolver;
+import models.MazeGrid;
+import solver.SearchCursor;
+import solver.SteppableMazeSolver;
+import solver.collections.IntStack;
 
 /**
  * Implementación del algoritmo de búsqueda en profundidad (Depth-First Search) para resolver laberintos.
@@ -21,60 +22,38 @@ import solver.MazeSolver;
  * Características del algoritmo DFS:
  * - Explora en profundidad siguiendo un camino hasta que no puede continuar
  * - No garantiza encontrar el camino más corto (a diferencia de BFS)
- * - Utiliza una pila (Stack) para procesar las celdas en orden LIFO
+ * - Utiliza una pila para procesar las celdas en orden LIFO
  * - Puede ser más eficiente en memoria que BFS en laberintos profundos
- * - Mantiene un mapa de padres para reconstruir el camino encontrado
+ * - Guarda la dirección de llegada a cada celda (2 bits) para reconstruir el camino encontrado
+ * - Trabaja con claves enteras de celda ({@link CellKeys}): expandir una celda no crea objetos
  * - Marca las celdas como visitadas para evitar ciclos infinitos
+ * - Puede ejecutarse paso a paso con un {@link SearchCursor} que conserva la pila entre pasos
  * 
  * Complejidad temporal: O(V + E) donde V es el número de celdas y E el número de conexiones
- * Complejidad espacial: O(V) para almacenar la pila, visitados y padres
+ * Complejidad espacial: O(V) para almacenar la pila, visitados y direcciones de llegada
  * 
  * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
  * @version 1.0
  */
-public class MazeSolverDFS implements MazeSolver {
-    /**
-     * Matriz booleana que representa el laberinto.
-     * true indica una celda transitable, false indica una pared u obstáculo.
-     */
-    private boolean[][] grid;
-    
-    /**
-     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
-     * Se construye al final del algoritmo mediante backtracking usando el mapa de padres.
-     */
-    private List<Cell> path;
-    
-    /**
-     * Mapa que mantiene la relación padre-hijo entre celdas durante la búsqueda.
-     * Permite reconstruir el camino desde el destino hasta el inicio una vez
-     * que se encuentra la solución.
-     */
-    private Map<Cell, Cell> parents;
-    
-    /**
-     * Conjunto de celdas visitadas durante la ejecución del algoritmo.
-     * Se utiliza HashSet para verificación rápida de membresía y evitar ciclos.
-     */
-    private Set<Cell> visited;
-    
-    /**
-     * Celda de destino del laberinto. Se almacena para facilitar la comparación
-     * durante la búsqueda y determinar cuándo se ha alcanzado el objetivo.
-     */
-    private Cell end;
-    
+public class MazeSolverDFS implements SteppableMazeSolver {
     /**
      * Matriz que define las direcciones de movimiento posibles en el laberinto.
      * Representa los movimientos: arriba, abajo, izquierda, derecha.
      */
     private final int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
 
+    /**
+     * Conjunto de visitadas que se reutiliza entre llamadas a getPath, vaciado por
+     * generación en lugar de reservarse en cada búsqueda.
+     */
+    private final VisitedWorkspace workspace = new VisitedWorkspace();
+
     /**
      * Implementación del algoritmo DFS para encontrar un camino en el laberinto.
      * Este método utiliza una pila para explorar en profundidad desde el punto de inicio
      * hasta encontrar el destino. A diferencia de BFS, no garantiza el camino más corto,
      * pero puede ser más eficiente en memoria para laberintos muy grandes.
+     * Avanza un cursor de búsqueda hasta que termina.
      * 
      * Proceso del algoritmo:
      * 1. Inicializa las estructuras de datos y agrega el punto de inicio a la pila
@@ -93,82 +72,278 @@ public class MazeSolverDFS implements MazeSolver {
      */
     @Override
     public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
-        // Inicializar estructuras de datos para nueva búsqueda
-        this.grid = grid;
-        this.path = new ArrayList<>();
-        this.parents = new HashMap<>();
-        this.visited = new HashSet<>();
-        this.end = end;
-        
-        // Validación de entrada
-        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)) {
-            return new AlgorithmResult(new ArrayList<>(), new HashSet<>());
+        // Validación de entrada: el cursor trata el laberinto vacío como siempre
+        if (grid == null || grid.length == 0 || grid[0].length == 0) {
+            return startSearch(grid, start, end).runToCompletion();
         }
-        
-        // Inicializar DFS con pila y punto de inicio
-        Stack<Cell> stack = new Stack<>();
-        stack.push(start);
-        visited.add(start);
-        parents.put(start, null);
-
-        // Bucle principal de DFS
-        while (!stack.isEmpty()) {
-            Cell current = stack.pop();  // LIFO: Last In, First Out
-            
-            // Verificar si se alcanzó el destino
-            if (current.equals(end)) {
-                // Reconstruir camino mediante backtracking
-                Cell node = end;
-                while (node != null) {
-                    path.add(0, node);
-                    node = parents.get(node);
-                }
-                return new AlgorithmResult(path, visited);
-            }
-            
-            // Explorar celdas vecinas en todas las direcciones
-            for (int[] dir : directions) {
-                Cell nextCell = new Cell(current.row + dir[0], current.col + dir[1]);
-                if (isInMaze(nextCell) && isValid(nextCell)) {
-                    visited.add(nextCell);
-                    parents.put(nextCell, current);
-                    stack.push(nextCell);  // Agregar a la pila para exploración posterior
-                }
-            }
+
+        // Empaquetar el laberinto y resolver reutilizando el conjunto de visitadas
+        return getPath(MazeGrid.fromBooleanGrid(grid), start, end);
+    }
+
+    /**
+     * Variante de {@link #getPath(boolean[][], Cell, Cell)} que recorre directamente el
+     * laberinto empaquetado, sin convertirlo a una matriz booleana.
+     *
+     * @param grid Laberinto empaquetado a un bit por celda
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult con el camino encontrado y las celdas visitadas
+     */
+    @Override
+    public AlgorithmResult getPath(MazeGrid grid, Cell start, Cell end) {
+        if (grid == null) return startSearch(grid, start, end).runToCompletion();
+
+        // Reutilizar el conjunto de visitadas de la búsqueda anterior
+        VisitedCells marked = workspace.acquire(grid.getRows(), grid.getCols());
+        try {
+            return new Cursor(grid, start, end, marked).runToCompletion();
+        } finally {
+            workspace.release(marked);
         }
-        
-        // No se encontró camino al destino
-        return new AlgorithmResult(new ArrayList<>(), visited);
     }
 
     /**
-     * Verifica si una celda está dentro de los límites del laberinto.
-     * Comprueba que las coordenadas de fila y columna estén dentro del rango
-     * válido de la matriz del laberinto.
-     * 
-     * @param current Celda a verificar
-     * @return true si la celda está dentro de los límites del laberinto,
-     *         false si está fuera de los límites o si current es null
+     * Prepara una búsqueda DFS que se avanza por partes: cada expansión extrae la celda
+     * del tope de la pila y apila sus vecinas válidas.
+     *
+     * @param grid Laberinto empaquetado a un bit por celda
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return Cursor con la pila inicializada en el punto de inicio
      */
-    private boolean isInMaze(Cell current) {
-        return current != null && 
-               current.row >= 0 && 
-               current.col >= 0 && 
-               current.row < grid.length && 
-               current.col < grid[0].length;
+    @Override
+    public SearchCursor startSearch(MazeGrid grid, Cell start, Cell end) {
+        return new Cursor(grid, start, end, grid == null ? null : new VisitedCells(grid.getRows(), grid.getCols()));
     }
-    
+
     /**
-     * Verifica si una celda es válida para ser visitada.
-     * Una celda es válida si:
-     * - Es transitable (grid[row][col] == true)
-     * - No ha sido visitada previamente
-     * 
-     * @param current Celda a verificar
-     * @return true si la celda es transitable y no ha sido visitada,
-     *         false en caso contrario
+     * Estado de una búsqueda DFS en curso: pila, direcciones de llegada y celdas visitadas.
+     * Las celdas se manejan como claves enteras ({@link CellKeys}), de modo que expandir
+     * una celda no crea objetos; las celdas se materializan al pedir el resultado.
      */
-    private boolean isValid(Cell current) {
-        return grid[current.row][current.col] && !visited.contains(current);
+    private final class Cursor implements SearchCursor {
+        /**
+         * Laberinto empaquetado; un bit en 1 indica una celda transitable.
+         */
+        private final MazeGrid grid;
+
+        /**
+         * Número de columnas del laberinto.
+         */
+        private final int cols;
+
+        /**
+         * Clave de la celda de destino. Se almacena para facilitar la comparación
+         * durante la búsqueda y determinar cuándo se ha alcanzado el objetivo.
+         */
+        private final int target;
+
+        /**
+         * Pila de DFS con las claves pendientes de procesar en orden LIFO.
+         */
+        private final IntStack stack;
+
+        /**
+         * Clave de la celda de inicio, donde termina la reconstrucción del camino.
+         */
+        private final int source;
+
+        /**
+         * Dirección con la que se llegó a cada celda, a 2 bits por celda. Mantiene la
+         * relación padre-hijo durante la búsqueda y permite reconstruir el camino desde
+         * el destino hasta el inicio una vez que se encuentra la solución.
+         */
+        private final ParentDirections parents;
+
+        /**
+         * Celdas marcadas como visitadas, en orden de marcado.
+         */
+        private final VisitedCells marked;
+
+        /**
+         * Conjunto de celdas visitadas que se entrega en el resultado.
+         * Se utiliza HashSet, como en la versión original del algoritmo, y se completa a
+         * partir de {@link #marked} cada vez que se pide el resultado.
+         */
+        private final Set<Cell> visited;
+
+        /**
+         * Número de celdas de {@link #marked} ya copiadas a {@link #visited}.
+         */
+        private int materialized;
+
+        /**
+         * Posición en el orden de visita donde comenzó el último paso.
+         */
+        private int lastFrom;
+
+        /**
+         * Posición en el orden de visita donde terminó el último paso. El inicio, marcado
+         * al construir el cursor, queda antes de ella hasta el primer paso, que lo entrega.
+         */
+        private int lastTo;
+
+        /**
+         * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+         * Se construye al final del algoritmo recorriendo las direcciones de llegada
+         * desde el destino.
+         */
+        private List<Cell> path;
+
+        /**
+         * Indica si la búsqueda terminó.
+         */
+        private boolean finished;
+
+        /**
+         * Constructor que inicializa la pila con el punto de inicio.
+         *
+         * @param grid Laberinto empaquetado a resolver
+         * @param start Celda de inicio de la búsqueda
+         * @param end Celda de destino a alcanzar
+         * @param marked Conjunto de visitadas vacío para esta búsqueda (null si grid es null)
+         */
+        Cursor(MazeGrid grid, Cell start, Cell end, VisitedCells marked) {
+            this.grid = grid;
+            stack = new IntStack();
+            visited = new HashSet<>();
+            path = new ArrayList<>();
+
+            // Validación de entrada
+            if (grid == null || !isInMaze(grid, start) || !isInMaze(grid, end)) {
+                cols = 0;
+                target = -1;
+                source = -1;
+                parents = null;
+                this.marked = null;
+                finished = true;
+                return;
+            }
+
+            cols = grid.getCols();
+            target = CellKeys.of(end, cols);
+            parents = new ParentDirections(grid.getRows() * cols);
+            this.marked = marked;
+
+            // Inicializar DFS con pila y punto de inicio
+            source = CellKeys.of(start, cols);
+            stack.push(source);
+            marked.add(source);
+        }
+
+        /**
+         * Procesa como máximo maxExpansions celdas de la pila.
+         *
+         * @param maxExpansions Número máximo de celdas a extraer de la pila
+         * @return Número de celdas extraídas
+         */
+        @Override
+        public int step(int maxExpansions) {
+            lastFrom = lastTo;
+            int expanded = 0;
+
+            // Bucle principal de DFS
+            while (!finished && expanded < maxExpansions) {
+                if (stack.isEmpty()) {
+                    // No se encontró camino al destino
+                    finished = true;
+                    break;
+                }
+                int current = stack.pop();  // LIFO: Last In, First Out
+                expanded++;
+
+                // Verificar si se alcanzó el destino
+                if (current == target) {
+                    // Reconstruir camino mediante backtracking
+                    path = parents.buildPath(source, target, directions, cols);
+                    finished = true;
+                    break;
+                }
+
+                // Explorar celdas vecinas en todas las direcciones
+                int row = CellKeys.row(current, cols);
+                int col = current - row * cols;
+                for (int d = 0; d < directions.length; d++) {
+                    int[] dir = directions[d];
+                    int nextRow = row + dir[0];
+                    int nextCol = col + dir[1];
+                    // isOpen descarta también las posiciones fuera del laberinto
+                    if (!grid.isOpen(nextRow, nextCol)) continue;
+                    int next = CellKeys.of(nextRow, nextCol, cols);
+                    if (marked.add(next)) {
+                        parents.set(next, d);
+                        stack.push(next);  // Agregar a la pila para exploración posterior
+                    }
+                }
+            }
+            if (marked != null) lastTo = marked.size();
+            return expanded;
+        }
+
+        /**
+         * Obtiene las vecinas marcadas (y apiladas) durante el último paso; el primero
+         * entrega además la celda de inicio.
+         *
+         * @return Celdas visitadas en el último paso, en una lista nueva
+         */
+        @Override
+        public List<Cell> getLastVisited() {
+            List<Cell> last = new ArrayList<>();
+            if (marked != null) marked.copyTo(lastFrom, lastTo, last);
+            return last;
+        }
+
+        /**
+         * Indica si se alcanzó el destino o se vació la pila.
+         *
+         * @return true si la búsqueda terminó
+         */
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        /**
+         * Obtiene el camino encontrado, vacío hasta alcanzar el destino.
+         *
+         * @return Camino desde el inicio hasta el destino
+         */
+        @Override
+        public List<Cell> getPath() {
+            return path;
+        }
+
+        /**
+         * Obtiene el camino y las celdas visitadas hasta ahora.
+         *
+         * @return AlgorithmResult con el estado actual de la búsqueda
+         */
+        @Override
+        public AlgorithmResult getResult() {
+            if (marked != null) {
+                marked.copyTo(materialized, marked.size(), visited);
+                materialized = marked.size();
+            }
+            return new AlgorithmResult(path, visited);
+        }
+
+        /**
+         * Verifica si una celda está dentro de los límites del laberinto.
+         * Comprueba que las coordenadas de fila y columna estén dentro del rango
+         * válido de la matriz del laberinto.
+         * 
+         * @param grid Laberinto empaquetado
+         * @param current Celda a verificar
+         * @return true si la celda está dentro de los límites del laberinto,
+         *         false si está fuera de los límites o si current es null
+         */
+        private boolean isInMaze(MazeGrid grid, Cell current) {
+            return current != null && 
+                   current.row >= 0 && 
+                   current.col >= 0 && 
+                   current.row < grid.getRows() && 
+                   current.col < grid.getCols();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,377 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+
+/**
+ * Implementación de D* Lite para replanificar de forma incremental cuando cambian paredes.
+ * Esta clase implementa la interfaz MazeSolver conservando su estado de búsqueda (valores g
+ * y rhs y la cola de prioridad) entre llamadas. Cuando una celda cambia entre pared y
+ * transitable, solo se reparan los valores de las celdas afectadas en lugar de buscar
+ * de nuevo desde cero.
+ *
+ * Funcionamiento:
+ * - La búsqueda se hace desde el destino hacia el inicio: g(s) es la distancia conocida de
+ *   s al destino y rhs(s) la que se obtiene a partir de sus vecinos (1 + mínimo g vecino)
+ * - Una celda es inconsistente si g != rhs; solo esas entran a la cola de prioridad
+ * - Al cambiar una celda se recalcula rhs en ella y en sus vecinos, y la siguiente consulta
+ *   procesa únicamente las celdas inconsistentes necesarias para el inicio
+ * - Si el inicio se mueve, se acumula km con la heurística entre el inicio anterior y el nuevo
+ *   para no reordenar la cola (igual que en D* Lite original)
+ * - Si cambia el destino o las dimensiones del laberinto, el estado se reinicia
+ *
+ * Características del algoritmo:
+ * - Garantiza el camino más corto (igual que BFS)
+ * - Los cambios pueden notificarse con {@link #notifyCellChanged(int, int, boolean)}; además,
+ *   cada consulta compara el laberinto recibido con su copia y aplica las diferencias
+ * - Las celdas visitadas son las celdas expandidas en la última llamada, lo que muestra
+ *   cuánto trabajo costó la reparación
+ *
+ * Complejidad temporal: O(V log V) en la primera búsqueda; proporcional a la región
+ * afectada en las siguientes
+ * Complejidad espacial: O(V) para g, rhs y la cola, conservados entre llamadas
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverDStarLite implements MazeSolver {
+    /**
+     * Valor que representa una distancia infinita (sin camino conocido).
+     */
+    private static final int INFINITY = 1 << 29;
+
+    /**
+     * Copia del laberinto sobre la que se mantiene el estado de búsqueda.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye descendiendo por los valores g desde el inicio.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas expandidas en la última llamada.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Número de filas del laberinto del estado actual.
+     */
+    private int rows;
+
+    /**
+     * Número de columnas del laberinto del estado actual.
+     */
+    private int cols;
+
+    /**
+     * Distancia conocida de cada celda al destino.
+     */
+    private int[] g;
+
+    /**
+     * Distancia de cada celda al destino calculada a partir de sus vecinos.
+     */
+    private int[] rhs;
+
+    /**
+     * Cola de prioridad de celdas inconsistentes.
+     */
+    private IntBinaryHeap open;
+
+    /**
+     * Celda de destino (índice lineal) del estado actual, o -1 si no hay estado.
+     */
+    private int goal = -1;
+
+    /**
+     * Inicio (índice lineal) de la última consulta.
+     */
+    private int lastStart;
+
+    /**
+     * Corrección acumulada de las claves por los movimientos del inicio.
+     */
+    private int km;
+
+    /**
+     * Índices de las celdas expandidas en la llamada actual (una celda puede repetirse;
+     * solo se registran las primeras filas * columnas expansiones).
+     */
+    private int[] order;
+
+    /**
+     * Número de expansiones realizadas en la llamada actual.
+     */
+    private int expanded;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que inicializa todas las estructuras de datos necesarias para el algoritmo.
+     * El estado de búsqueda se crea en la primera llamada a getPath.
+     */
+    public MazeSolverDStarLite() {
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Implementación de D* Lite para encontrar el camino más corto.
+     *
+     * Proceso del algoritmo:
+     * 1. Si no hay estado, o cambiaron el destino o las dimensiones, reinicia la búsqueda
+     * 2. Si no, aplica las celdas que difieren de la copia interna y ajusta km si el
+     *    inicio se movió
+     * 3. Procesa las celdas inconsistentes hasta que el inicio quede consistente
+     * 4. Reconstruye el camino bajando por los valores g desde el inicio
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas expandidas en esta llamada
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Reinicializar estructuras de resultado para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || start == null || end == null
+                || start.row < 0 || start.col < 0 || start.row >= grid.length || start.col >= grid[0].length
+                || end.row < 0 || end.col < 0 || end.row >= grid.length || end.col >= grid[0].length
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int target = end.row * grid[0].length + end.col;
+        if (goal < 0 || grid.length != rows || grid[0].length != cols || target != goal) {
+            initialize(grid, target);
+        } else {
+            // Aplicar las diferencias con la copia interna (filas iguales se descartan rápido)
+            for (int r = 0; r < rows; r++) {
+                if (Arrays.equals(this.grid[r], grid[r])) continue;
+                for (int c = 0; c < cols; c++) {
+                    if (this.grid[r][c] != grid[r][c]) notifyCellChanged(r, c, grid[r][c]);
+                }
+            }
+        }
+
+        int source = start.row * cols + start.col;
+        km += heuristic(lastStart, source);
+        lastStart = source;
+
+        expanded = 0;
+        computeShortestPath(source);
+        for (int i = 0; i < Math.min(expanded, order.length); i++) {
+            visited.add(new Cell(order[i] / cols, order[i] % cols));
+        }
+        if (g[source] >= INFINITY) {
+            // No se encontró camino al destino
+            return new AlgorithmResult(path, visited);
+        }
+
+        // Reconstruir camino descendiendo por g desde el inicio
+        int current = source;
+        path.add(start);
+        while (current != goal) {
+            int row = current / cols;
+            int col = current % cols;
+            int best = -1;
+            for (int[] dir : directions) {
+                int nr = row + dir[0];
+                int nc = col + dir[1];
+                if (!isOpen(nr, nc)) continue;
+                int next = nr * cols + nc;
+                if (best < 0 || g[next] < g[best]) best = next;
+            }
+            current = best;
+            path.add(new Cell(current / cols, current % cols));
+        }
+        return new AlgorithmResult(path, visited);
+    }
+
+    /**
+     * Notifica que una celda cambió entre pared y transitable, reparando rhs en la celda y
+     * en sus vecinos. El trabajo de propagación se hace en la siguiente consulta.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param isOpen true si la celda quedó transitable, false si quedó como pared
+     */
+    public void notifyCellChanged(int row, int col, boolean isOpen) {
+        if (goal < 0 || row < 0 || col < 0 || row >= rows || col >= cols || grid[row][col] == isOpen) return;
+        grid[row][col] = isOpen;
+        int cell = row * cols + col;
+        updateVertex(cell);
+        for (int[] dir : directions) {
+            int nr = row + dir[0];
+            int nc = col + dir[1];
+            if (nr >= 0 && nc >= 0 && nr < rows && nc < cols) updateVertex(nr * cols + nc);
+        }
+    }
+
+    /**
+     * Obtiene el número de celdas expandidas en la última llamada a getPath.
+     *
+     * @return Cantidad de expansiones
+     */
+    public int getLastExpansions() {
+        return expanded;
+    }
+
+    /**
+     * Reinicia el estado de búsqueda para un laberinto y un destino nuevos.
+     *
+     * @param source Laberinto a copiar
+     * @param target Índice lineal del destino
+     */
+    private void initialize(boolean[][] source, int target) {
+        rows = source.length;
+        cols = source[0].length;
+        grid = new boolean[rows][];
+        for (int r = 0; r < rows; r++) {
+            grid[r] = Arrays.copyOf(source[r], cols);
+        }
+        int total = rows * cols;
+        if (g == null || g.length != total) {
+            g = new int[total];
+            rhs = new int[total];
+            order = new int[total];
+            open = new IntBinaryHeap(total);
+        } else {
+            open.clear();
+        }
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        km = 0;
+        goal = target;
+        lastStart = target;
+        rhs[goal] = 0;
+        open.push(goal, key(goal, target));
+    }
+
+    /**
+     * Procesa las celdas inconsistentes en orden de clave hasta que el inicio sea consistente
+     * y ninguna celda pendiente pueda mejorar su distancia.
+     *
+     * @param source Índice lineal del inicio
+     */
+    private void computeShortestPath(int source) {
+        while (!open.isEmpty()
+                && (open.peekKey() < key(source, source) || rhs[source] != g[source])) {
+            int u = open.peek();
+            long oldKey = open.peekKey();
+            long newKey = key(u, source);
+            if (oldKey < newKey) {
+                open.update(u, newKey);
+                continue;
+            }
+            open.pop();
+            if (expanded < order.length) order[expanded] = u;
+            expanded++;
+            int row = u / cols;
+            int col = u % cols;
+            if (g[u] > rhs[u]) {
+                // Sobreconsistente: fijar g y propagar la mejora a los vecinos
+                g[u] = rhs[u];
+                for (int[] dir : directions) {
+                    int nr = row + dir[0];
+                    int nc = col + dir[1];
+                    if (nr >= 0 && nc >= 0 && nr < rows && nc < cols) updateVertex(nr * cols + nc);
+                }
+            } else {
+                // Subconsistente: invalidar g y recalcular la celda y sus vecinos
+                g[u] = INFINITY;
+                updateVertex(u);
+                for (int[] dir : directions) {
+                    int nr = row + dir[0];
+                    int nc = col + dir[1];
+                    if (nr >= 0 && nc >= 0 && nr < rows && nc < cols) updateVertex(nr * cols + nc);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recalcula rhs de una celda a partir de sus vecinos y la coloca en la cola
+     * solo si queda inconsistente.
+     *
+     * @param u Índice lineal de la celda
+     */
+    private void updateVertex(int u) {
+        int row = u / cols;
+        int col = u % cols;
+        if (u != goal) {
+            int best = INFINITY;
+            if (grid[row][col]) {
+                for (int[] dir : directions) {
+                    int nr = row + dir[0];
+                    int nc = col + dir[1];
+                    if (!isOpen(nr, nc)) continue;
+                    int candidate = g[nr * cols + nc] + 1;
+                    if (candidate < best) best = candidate;
+                }
+            }
+            rhs[u] = Math.min(best, INFINITY);
+        }
+        if (g[u] != rhs[u]) {
+            open.update(u, key(u, lastStart));
+        } else {
+            open.remove(u);
+        }
+    }
+
+    /**
+     * Calcula la clave de una celda: [min(g, rhs) + h + km ; min(g, rhs)], combinada en un long
+     * con el primer componente en los 32 bits altos.
+     *
+     * @param u Índice lineal de la celda
+     * @param source Índice lineal del inicio actual
+     * @return Clave compuesta para la cola de prioridad
+     */
+    private long key(int u, int source) {
+        long m = Math.min(g[u], rhs[u]);
+        return ((m + heuristic(u, source) + km) << 32) | m;
+    }
+
+    /**
+     * Calcula la distancia Manhattan entre dos celdas.
+     *
+     * @param a Índice lineal de la primera celda
+     * @param b Índice lineal de la segunda celda
+     * @return Número mínimo de pasos sin considerar paredes
+     */
+    private int heuristic(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    /**
+     * Verifica si una posición está dentro del laberinto y es transitable.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida y no es pared
+     */
+    private boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && grid[row][col];
+    }
+}
@@ -0,0 +1,117 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import models.DeadEndFillingResult;
+import solver.MazeSolver;
+import solver.index.DeadEndFilling;
+
+/**
+ * Implementación del algoritmo de relleno de callejones sin salida (dead-end filling).
+ * Esta clase implementa la interfaz MazeSolver sellando primero todos los callejones del
+ * laberinto (celdas transitables con tres o más lados bloqueados) y buscando después el
+ * camino solo entre las celdas que quedan.
+ *
+ * Características del algoritmo:
+ * - El relleno se calcula una vez por laberinto mediante {@link DeadEndFilling} y se
+ *   reutiliza mientras el laberinto no cambie, para cualquier par inicio/destino
+ * - El inicio y el destino nunca se eliminan: sus ramas se recorren hasta el núcleo
+ * - Garantiza el camino más corto
+ * - El resultado es un {@link DeadEndFillingResult} que informa cuántas celdas se eliminaron
+ * - Las celdas visitadas son primero las eliminadas y luego las del núcleo exploradas
+ *
+ * Complejidad temporal: O(V) para el relleno (una vez por laberinto) y O(V) por consulta
+ * Complejidad espacial: O(V) para el relleno guardado
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverDeadEndFilling implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas eliminadas y exploradas.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Relleno del último laberinto resuelto; se reutiliza mientras el laberinto no cambie.
+     */
+    private DeadEndFilling filling;
+
+    /**
+     * Constructor que inicializa todas las estructuras de datos necesarias para el algoritmo.
+     * Prepara las colecciones vacías que serán utilizadas durante la ejecución del algoritmo.
+     */
+    public MazeSolverDeadEndFilling() {
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Implementación del relleno de callejones para encontrar el camino más corto.
+     *
+     * Proceso del algoritmo:
+     * 1. Si el laberinto cambió desde la última consulta, recalcula el relleno
+     * 2. Sube desde el inicio y desde el destino por las ramas selladas hasta el núcleo
+     * 3. Une ambos extremos por el punto de encuentro o con una búsqueda en el núcleo
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return DeadEndFillingResult que contiene el camino más corto encontrado,
+     *         las celdas visitadas y el número de celdas eliminadas
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        this.grid = grid;
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new DeadEndFillingResult(path, visited, 0);
+        }
+
+        if (filling == null || !filling.matches(grid)) {
+            filling = new DeadEndFilling(grid);
+        }
+        DeadEndFillingResult result = filling.solve(start, end);
+        path = result.getPath();
+        visited = result.getVisited();
+        return result;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
@@ -0,0 +1,209 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import models.WeightedGrid;
+import solver.MazeSolver;
+
+/**
+ * Implementación de Dijkstra sobre laberintos con costo por celda usando la cola de
+ * cubetas de Dial.
+ * Esta clase implementa la interfaz MazeSolver para laberintos booleanos (todas las
+ * celdas cuestan 1) y ofrece además una versión sobre {@link WeightedGrid}, donde entrar
+ * en una celda cuesta su valor de terreno (1 a 255).
+ *
+ * Características del algoritmo:
+ * - Encuentra el camino de menor costo total (con costo 1 en todas las celdas, es el
+ *   camino más corto igual que BFS)
+ * - Los costos son enteros pequeños, por lo que la lista abierta es un arreglo circular
+ *   de C + 1 cubetas en lugar de un montículo: cada operación es O(1)
+ * - El costo de un camino es la suma de los costos de las celdas a las que se entra
+ *   (la celda de inicio no se cuenta)
+ *
+ * Complejidad temporal: O(V + E + D), donde D es el costo del camino más barato
+ * Complejidad espacial: O(V + C)
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverDial implements MazeSolver {
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye al final del algoritmo recorriendo el arreglo de padres.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas cerradas durante la ejecución del algoritmo.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Costo total del último camino encontrado, o -1 si no se encontró camino.
+     */
+    private int lastCost;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que inicializa las estructuras de datos necesarias para el algoritmo.
+     */
+    public MazeSolverDial() {
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        lastCost = -1;
+    }
+
+    /**
+     * Resuelve un laberinto booleano tratándolo como una grilla ponderada de costo 1.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         el conjunto de celdas cerradas durante la búsqueda
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        if (grid == null || grid.length == 0 || grid[0].length == 0) {
+            lastCost = -1;
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return getPath(WeightedGrid.fromBooleanGrid(grid), start, end);
+    }
+
+    /**
+     * Implementación de Dijkstra con cola de cubetas sobre una grilla ponderada.
+     *
+     * Proceso del algoritmo:
+     * 1. Coloca el inicio en la cubeta de costo 0
+     * 2. Mientras la cola no esté vacía:
+     *    - Extrae una celda de la primera cubeta no vacía (su costo ya es definitivo)
+     *    - Si es el destino, reconstruye y retorna el camino
+     *    - Si no, relaja sus vecinos transitables con el costo de entrar en ellos
+     * 3. Si la cola se vacía sin encontrar el destino, retorna un camino vacío
+     *
+     * @param grid Grilla con el costo de cada celda (0 = pared)
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino de menor costo encontrado y
+     *         el conjunto de celdas cerradas durante la búsqueda
+     */
+    public AlgorithmResult getPath(WeightedGrid grid, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        lastCost = -1;
+
+        // Validación de entrada
+        if (grid == null || start == null || end == null
+                || !grid.isOpen(start.row, start.col) || !grid.isOpen(end.row, end.col)) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int cols = grid.getCols();
+        int total = grid.getRows() * cols;
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+
+        // Costos acumulados, padres y estado cerrado indexados por celda
+        int[] cost = new int[total];
+        int[] parent = new int[total];
+        boolean[] closed = new boolean[total];
+        int[] order = new int[total];
+        int expanded = 0;
+        Arrays.fill(cost, Integer.MAX_VALUE);
+
+        IntBucketQueue open = new IntBucketQueue(total, grid.getMaxCost());
+        cost[source] = 0;
+        parent[source] = -1;
+        open.push(source, 0);
+
+        // Bucle principal de Dijkstra
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            closed[current] = true;
+            order[expanded++] = current;
+
+            // Verificar si se alcanzó el destino
+            if (current == target) {
+                lastCost = cost[target];
+                buildPath(parent, target, cols);
+                return new AlgorithmResult(path, toCells(order, expanded, cols));
+            }
+
+            // Relajar celdas vecinas con el costo de entrar en ellas
+            int row = current / cols;
+            int col = current - row * cols;
+            for (int[] dir : directions) {
+                int nr = row + dir[0];
+                int nc = col + dir[1];
+                if (!grid.isOpen(nr, nc)) continue;
+                int next = nr * cols + nc;
+                int nextCost = cost[current] + grid.getCost(next);
+                if (closed[next] || nextCost >= cost[next]) continue;
+                cost[next] = nextCost;
+                parent[next] = current;
+                open.push(next, nextCost);
+            }
+        }
+
+        // No se encontró camino al destino
+        return new AlgorithmResult(new ArrayList<>(), toCells(order, expanded, cols));
+    }
+
+    /**
+     * Obtiene el costo total del camino encontrado en la última búsqueda.
+     *
+     * @return Suma de los costos de las celdas del camino sin contar el inicio,
+     *         o -1 si la última búsqueda no encontró camino
+     */
+    public int getLastCost() {
+        return lastCost;
+    }
+
+    /**
+     * Reconstruye el camino desde el destino hasta el inicio siguiendo el arreglo de padres
+     * y lo almacena en orden desde el inicio hasta el destino.
+     *
+     * @param parent Arreglo de padres indexado por celda
+     * @param target Índice lineal del destino
+     * @param cols Número de columnas del laberinto
+     */
+    private void buildPath(int[] parent, int target, int cols) {
+        int length = 0;
+        for (int node = target; node != -1; node = parent[node]) length++;
+        Cell[] cells = new Cell[length];
+        for (int node = target, i = length - 1; node != -1; node = parent[node], i--) {
+            cells[i] = new Cell(node / cols, node % cols);
+        }
+        path = new ArrayList<>(Arrays.asList(cells));
+    }
+
+    /**
+     * Convierte la secuencia de índices cerrados en un conjunto ordenado de celdas.
+     *
+     * @param order Índices de celdas en orden de cierre
+     * @param count Número de celdas cerradas
+     * @param cols Número de columnas del laberinto
+     * @return Conjunto de celdas visitadas en orden de cierre
+     */
+    private Set<Cell> toCells(int[] order, int count, int cols) {
+        visited = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            visited.add(new Cell(order[i] / cols, order[i] % cols));
+        }
+        return visited;
+    }
+}
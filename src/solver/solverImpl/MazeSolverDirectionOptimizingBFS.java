@@ -0,0 +1,297 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+
+/**
+ * Implementación de la búsqueda en anchura con optimización de dirección (top-down / bottom-up).
+ * Esta clase implementa la interfaz MazeSolver alternando, nivel por nivel, entre dos
+ * formas de calcular el siguiente frente:
+ *
+ * - Top-down (clásica): cada celda del frente revisa sus vecinos y reclama los no visitados
+ * - Bottom-up: cada celda transitable aún no visitada revisa si alguno de sus vecinos
+ *   pertenece al frente; en cuanto encuentra uno, deja de revisar
+ *
+ * Cuando el frente es muy grande (salas abiertas), bottom-up revisa muchas menos
+ * conexiones porque cada celda pendiente se detiene en el primer vecino del frente.
+ * Cuando el frente vuelve a ser pequeño, top-down es más barato.
+ *
+ * Heurística de cambio (configurable):
+ * - Pasar a bottom-up si frente > pendientes / alpha
+ * - Volver a top-down si frente < transitables / beta
+ *
+ * Características del algoritmo:
+ * - Garantiza el camino más corto (igual que BFS)
+ * - La lista de celdas pendientes se compacta en cada nivel bottom-up
+ * - Registra el número de conexiones revisadas y de niveles bottom-up para comparar
+ * - Las celdas visitadas se entregan nivel por nivel
+ *
+ * Complejidad temporal: O(V + E) en el peor caso
+ * Complejidad espacial: O(V) para distancias, direcciones, cola y lista de pendientes
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverDirectionOptimizingBFS implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye al final siguiendo las direcciones de llegada desde el destino.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas visitadas, nivel por nivel.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Factor para pasar a bottom-up: se cambia cuando frente > pendientes / alpha.
+     */
+    private final int alpha;
+
+    /**
+     * Factor para volver a top-down: se cambia cuando frente < transitables / beta.
+     */
+    private final int beta;
+
+    /**
+     * Número de conexiones (celda, vecino) revisadas en la última búsqueda.
+     */
+    private long edgeChecks;
+
+    /**
+     * Número de niveles resueltos en modo bottom-up en la última búsqueda.
+     */
+    private int bottomUpLevels;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor con los factores de cambio recomendados (alpha = 14, beta = 24).
+     */
+    public MazeSolverDirectionOptimizingBFS() {
+        this(14, 24);
+    }
+
+    /**
+     * Constructor con factores de cambio personalizados.
+     *
+     * @param alpha Factor para pasar a bottom-up (mayor = cambia antes)
+     * @param beta Factor para volver a top-down (mayor = vuelve más tarde)
+     */
+    public MazeSolverDirectionOptimizingBFS(int alpha, int beta) {
+        if (alpha <= 0 || beta <= 0) {
+            throw new IllegalArgumentException("Los factores alpha y beta deben ser positivos");
+        }
+        this.alpha = alpha;
+        this.beta = beta;
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Implementación de BFS con optimización de dirección.
+     *
+     * Proceso del algoritmo:
+     * 1. Coloca el inicio como único elemento del frente
+     * 2. Para cada nivel, decide el modo según el tamaño del frente y de los pendientes,
+     *    y calcula el siguiente frente en ese modo
+     * 3. Si el destino recibe distancia, reconstruye el camino
+     * 4. Si el frente queda vacío, no existe camino
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas visitadas nivel por nivel
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        this.grid = grid;
+        edgeChecks = 0;
+        bottomUpLevels = 0;
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int rows = grid.length;
+        int cols = grid[0].length;
+        int total = rows * cols;
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+
+        int openCells = 0;
+        for (boolean[] line : grid) {
+            for (boolean cell : line) {
+                if (cell) openCells++;
+            }
+        }
+
+        int[] dist = new int[total];
+        byte[] parentDir = new byte[total];
+        int[] queue = new int[total];
+        int[] pending = null;
+        int pendingSize = 0;
+        Arrays.fill(dist, -1);
+
+        dist[source] = 0;
+        queue[0] = source;
+        int from = 0;
+        int to = 1;
+        int level = 0;
+        boolean bottomUp = false;
+
+        // Bucle principal: un nivel por iteración
+        while (from < to && dist[target] < 0) {
+            int frontier = to - from;
+            int unvisited = openCells - to;
+            if (!bottomUp && frontier > unvisited / alpha) {
+                bottomUp = true;
+            } else if (bottomUp && frontier < openCells / beta) {
+                bottomUp = false;
+            }
+
+            int tail = to;
+            if (!bottomUp) {
+                // Top-down: el frente reclama a sus vecinos
+                for (int i = from; i < to; i++) {
+                    int current = queue[i];
+                    int row = current / cols;
+                    int col = current - row * cols;
+                    for (int d = 0; d < directions.length; d++) {
+                        int nr = row + directions[d][0];
+                        int nc = col + directions[d][1];
+                        if (nr < 0 || nc < 0 || nr >= rows || nc >= cols || !grid[nr][nc]) continue;
+                        edgeChecks++;
+                        int next = nr * cols + nc;
+                        if (dist[next] >= 0) continue;
+                        dist[next] = level + 1;
+                        parentDir[next] = (byte) d;
+                        queue[tail++] = next;
+                    }
+                }
+            } else {
+                // Bottom-up: cada celda pendiente busca un padre en el frente
+                if (pending == null) {
+                    pending = new int[openCells];
+                    for (int index = 0; index < total; index++) {
+                        if (dist[index] < 0 && grid[index / cols][index % cols]) {
+                            pending[pendingSize++] = index;
+                        }
+                    }
+                }
+                bottomUpLevels++;
+                int kept = 0;
+                for (int i = 0; i < pendingSize; i++) {
+                    int current = pending[i];
+                    if (dist[current] >= 0) continue;
+                    int row = current / cols;
+                    int col = current - row * cols;
+                    boolean claimed = false;
+                    for (int d = 0; d < directions.length; d++) {
+                        // El padre está en la dirección opuesta al movimiento d
+                        int pr = row - directions[d][0];
+                        int pc = col - directions[d][1];
+                        if (pr < 0 || pc < 0 || pr >= rows || pc >= cols) continue;
+                        edgeChecks++;
+                        if (dist[pr * cols + pc] == level) {
+                            dist[current] = level + 1;
+                            parentDir[current] = (byte) d;
+                            queue[tail++] = current;
+                            claimed = true;
+                            break;
+                        }
+                    }
+                    if (!claimed) pending[kept++] = current;
+                }
+                pendingSize = kept;
+            }
+
+            from = to;
+            to = tail;
+            level++;
+        }
+
+        for (int i = 0; i < to; i++) {
+            visited.add(new Cell(queue[i] / cols, queue[i] % cols));
+        }
+        if (dist[target] < 0) {
+            // No se encontró camino al destino
+            return new AlgorithmResult(new ArrayList<>(), visited);
+        }
+
+        // Reconstruir camino retrocediendo por las direcciones de llegada
+        int distance = dist[target];
+        Cell[] cells = new Cell[distance + 1];
+        int row = end.row;
+        int col = end.col;
+        for (int i = distance; i > 0; i--) {
+            cells[i] = new Cell(row, col);
+            int[] dir = directions[parentDir[row * cols + col]];
+            row -= dir[0];
+            col -= dir[1];
+        }
+        cells[0] = new Cell(row, col);
+        path = new ArrayList<>(Arrays.asList(cells));
+        return new AlgorithmResult(path, visited);
+    }
+
+    /**
+     * Obtiene el número de conexiones revisadas en la última búsqueda.
+     * Permite comparar el trabajo realizado con el de un BFS clásico.
+     *
+     * @return Número de pares (celda, vecino) examinados
+     */
+    public long getEdgeChecks() {
+        return edgeChecks;
+    }
+
+    /**
+     * Obtiene el número de niveles que se resolvieron en modo bottom-up en la última búsqueda.
+     *
+     * @return Cantidad de niveles bottom-up
+     */
+    public int getBottomUpLevels() {
+        return bottomUpLevels;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
@@ -0,0 +1,305 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+import solver.index.ClusterAbstraction;
+
+/**
+ * Implementación de HPA* (Hierarchical Pathfinding A*) para laberintos muy grandes.
+ * Esta clase implementa la interfaz MazeSolver buscando primero sobre el grafo abstracto de
+ * un {@link ClusterAbstraction} (celdas de transición entre clústeres) y refinando después
+ * cada tramo abstracto con una búsqueda local dentro de su clúster.
+ *
+ * Características del algoritmo:
+ * - El inicio y el destino se conectan temporalmente a los nodos de su clúster
+ * - La búsqueda abstracta es A* con heurística Manhattan sobre las celdas de transición
+ * - El refinamiento solo recorre un clúster por tramo, nunca el laberinto completo
+ * - La abstracción se reutiliza entre consultas; MazeController mantiene la suya y la
+ *   actualiza de forma incremental cuando se cambia una pared
+ * - El camino es casi óptimo: las entradas largas solo tienen transiciones en sus extremos,
+ *   por lo que puede ser algo más largo que el de BFS
+ * - Las celdas visitadas son los nodos abstractos en el orden en que se cerraron
+ *
+ * Complejidad temporal: O(N log N) para la búsqueda abstracta (N = nodos abstractos) más
+ * O(K * S^2) para el refinamiento (K = tramos, S = tamaño de clúster)
+ * Complejidad espacial: O(V) para los arreglos reutilizables de la búsqueda abstracta
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverHPAStar implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye refinando cada tramo del camino abstracto.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas de transición cerradas por la búsqueda abstracta.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Lado de los clústeres de la abstracción que construye este solver.
+     */
+    private final int clusterSize;
+
+    /**
+     * Abstracción del último laberinto resuelto con {@link #getPath(boolean[][], Cell, Cell)}.
+     */
+    private ClusterAbstraction abstraction;
+
+    /**
+     * Costo acumulado de cada celda en la búsqueda abstracta (válido si su sello es el actual).
+     */
+    private int[] cost;
+
+    /**
+     * Celda anterior de cada celda en el camino abstracto.
+     */
+    private int[] parent;
+
+    /**
+     * Sello de generación de las celdas alcanzadas; negativo si además están cerradas.
+     */
+    private int[] stamp;
+
+    /**
+     * Generación actual de la búsqueda abstracta.
+     */
+    private int generation;
+
+    /**
+     * Montículo reutilizable de la búsqueda abstracta.
+     */
+    private IntBinaryHeap open;
+
+    /**
+     * Constructor que utiliza el tamaño de clúster por defecto.
+     */
+    public MazeSolverHPAStar() {
+        this(ClusterAbstraction.DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * Constructor que utiliza un tamaño de clúster específico.
+     *
+     * @param clusterSize Lado de cada clúster en celdas (mayor que 0)
+     */
+    public MazeSolverHPAStar(int clusterSize) {
+        if (clusterSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de clúster debe ser positivo");
+        }
+        this.clusterSize = clusterSize;
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Resuelve el laberinto construyendo (o reutilizando) su abstracción por clústeres.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino refinado y las celdas
+     *         de transición cerradas en orden
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        this.grid = grid;
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        if (abstraction == null || !abstraction.matches(grid)) {
+            abstraction = new ClusterAbstraction(grid, clusterSize);
+        }
+        return getPath(abstraction, start, end);
+    }
+
+    /**
+     * Implementación de HPA* sobre una abstracción ya construida.
+     *
+     * Proceso del algoritmo:
+     * 1. Calcula, dentro de su clúster, la distancia del inicio y del destino a cada nodo
+     * 2. Ejecuta A* sobre el grafo abstracto: aristas internas con su distancia precalculada,
+     *    aristas externas de peso 1 y aristas temporales hacia el destino
+     * 3. Refina cada tramo del camino abstracto con una búsqueda local en su clúster
+     *
+     * @param abstraction Abstracción por clústeres del laberinto
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino refinado y las celdas
+     *         de transición cerradas en orden
+     */
+    public AlgorithmResult getPath(ClusterAbstraction abstraction, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+
+        // Validación de entrada
+        if (abstraction == null || start == null || end == null
+                || !abstraction.isOpen(start.row, start.col) || !abstraction.isOpen(end.row, end.col)) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int cols = abstraction.getCols();
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+        prepare(abstraction.getRows() * cols);
+
+        int sourceCluster = abstraction.clusterOf(source);
+        int targetCluster = abstraction.clusterOf(target);
+        int[] sourceDist = abstraction.distancesInCluster(source);
+        int[] targetDist = abstraction.distancesInCluster(target);
+        int direct = -1;
+        if (sourceCluster == targetCluster) {
+            int[] local = abstraction.localPath(source, target);
+            if (local != null) direct = local.length - 1;
+        }
+
+        int current = nextGeneration();
+        relax(source, -1, 0, end, cols, current);
+
+        // Bucle principal de A* sobre el grafo abstracto
+        boolean found = false;
+        while (!open.isEmpty()) {
+            int u = open.pop();
+            stamp[u] = -current;
+            if (u == target) {
+                found = true;
+                break;
+            }
+            visited.add(new Cell(u / cols, u % cols));
+
+            if (u == source) {
+                int[] sourceNodes = abstraction.getClusterNodes(sourceCluster);
+                for (int i = 0; i < sourceNodes.length; i++) {
+                    if (sourceDist[i] >= 0) relax(sourceNodes[i], u, sourceDist[i], end, cols, current);
+                }
+                if (direct >= 0) relax(target, u, direct, end, cols, current);
+            }
+
+            int local = abstraction.localIndexOf(u);
+            if (local < 0) continue;
+            int cluster = abstraction.clusterOf(u);
+            int[] clusterNodes = abstraction.getClusterNodes(cluster);
+            for (int j = 0; j < clusterNodes.length; j++) {
+                int d = abstraction.getIntraDistance(cluster, local, j);
+                if (d > 0) relax(clusterNodes[j], u, d, end, cols, current);
+            }
+            for (int partner : abstraction.getPartners(cluster, local)) {
+                relax(partner, u, 1, end, cols, current);
+            }
+            if (cluster == targetCluster && targetDist[local] >= 0) {
+                relax(target, u, targetDist[local], end, cols, current);
+            }
+        }
+        open.clear();
+
+        if (!found) {
+            // No se encontró camino al destino
+            return new AlgorithmResult(path, visited);
+        }
+
+        // Reconstruir el camino abstracto y refinar cada tramo
+        int hops = 0;
+        for (int node = target; node != -1; node = parent[node]) hops++;
+        int[] waypoints = new int[hops];
+        for (int node = target, i = hops - 1; node != -1; node = parent[node], i--) {
+            waypoints[i] = node;
+        }
+        path.add(start);
+        for (int i = 1; i < hops; i++) {
+            int a = waypoints[i - 1];
+            int b = waypoints[i];
+            if (abstraction.clusterOf(a) != abstraction.clusterOf(b)) {
+                path.add(new Cell(b / cols, b % cols));
+                continue;
+            }
+            int[] segment = abstraction.localPath(a, b);
+            for (int k = 1; k < segment.length; k++) {
+                path.add(new Cell(segment[k] / cols, segment[k] % cols));
+            }
+        }
+        return new AlgorithmResult(path, visited);
+    }
+
+    /**
+     * Relaja la arista abstracta (from, node) con el peso dado.
+     *
+     * @param node Celda de llegada
+     * @param from Celda de salida, o -1 para el inicio
+     * @param weight Peso de la arista
+     * @param end Celda de destino, para la heurística
+     * @param cols Número de columnas del laberinto
+     * @param current Generación actual
+     */
+    private void relax(int node, int from, int weight, Cell end, int cols, int current) {
+        if (stamp[node] == -current) return;
+        int g = (from < 0 ? 0 : cost[from]) + weight;
+        if (stamp[node] == current && g >= cost[node]) return;
+        stamp[node] = current;
+        cost[node] = g;
+        parent[node] = from;
+        long h = Math.abs(node / cols - end.row) + Math.abs(node % cols - end.col);
+        open.push(node, ((g + h) << 32) | h);
+    }
+
+    /**
+     * Reserva los arreglos de la búsqueda abstracta si cambió el tamaño del laberinto.
+     *
+     * @param total Número de celdas del laberinto
+     */
+    private void prepare(int total) {
+        if (cost != null && cost.length == total) return;
+        cost = new int[total];
+        parent = new int[total];
+        stamp = new int[total];
+        open = new IntBinaryHeap(total);
+        generation = 0;
+    }
+
+    /**
+     * Avanza la generación de la búsqueda, reiniciando los sellos solo si se desborda.
+     *
+     * @return Nuevo valor de generación
+     */
+    private int nextGeneration() {
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        return generation;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
@@ -0,0 +1,516 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+
+/**
+ * Implementación de IDA* (Iterative Deepening A*) para laberintos muy grandes con poca memoria.
+ * Esta clase implementa la interfaz MazeSolver con búsquedas en profundidad sucesivas
+ * acotadas por f = g + h (heurística Manhattan). Cada iteración aumenta la cota al menor
+ * f que la superó en la iteración anterior, por lo que el primer camino encontrado es el
+ * más corto.
+ *
+ * Características del algoritmo:
+ * - No guarda nada por celda del laberinto: solo la pila del camino actual (celda y
+ *   siguiente dirección a probar) y una tabla hash con las celdas de ese camino para
+ *   evitar ciclos, así que la memoria es O(longitud del camino)
+ * - La pila es explícita (sin recursión), por lo que admite caminos de cualquier longitud
+ * - En cada celda prueba primero las direcciones que acercan al destino
+ * - Opcionalmente usa una tabla de transposición de tamaño fijo (mapeo directo, con
+ *   reemplazo en colisiones) que poda las celdas ya alcanzadas en la misma iteración con
+ *   un costo menor o igual; reduce mucho las reexpansiones sin superar el tamaño configurado
+ * - El registro de celdas visitadas para la animación es opcional, ya que ocupa O(V)
+ * - Informa las expansiones, las iteraciones y el pico de memoria de sus estructuras
+ *
+ * Complejidad temporal: exponencial en el peor caso (reexpande caminos distintos hacia
+ * la misma celda); la tabla de transposición la acerca a O(V) por iteración
+ * Complejidad espacial: O(L + T), con L la longitud del camino y T el tamaño de la tabla,
+ * más O(V) si se registran las celdas visitadas
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverIDAStar implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas expandidas, si se registran.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Número de entradas de la tabla de transposición (0 = sin tabla).
+     */
+    private final int transpositionCapacity;
+
+    /**
+     * Indica si se registran las celdas expandidas en el resultado.
+     */
+    private final boolean recordVisited;
+
+    /**
+     * Expansiones de la última búsqueda (sumando todas las iteraciones).
+     */
+    private long lastExpansions;
+
+    /**
+     * Iteraciones (cotas distintas) de la última búsqueda.
+     */
+    private int lastIterations;
+
+    /**
+     * Pico de memoria de las estructuras de búsqueda de la última ejecución, en bytes.
+     */
+    private long peakMemoryBytes;
+
+    /**
+     * Celdas de la pila del camino actual.
+     */
+    private int[] stackCell;
+
+    /**
+     * Siguiente dirección a probar en cada nivel de la pila.
+     */
+    private byte[] stackDir;
+
+    /**
+     * Tabla hash de direccionamiento abierto con las celdas del camino actual (-1 = libre).
+     */
+    private int[] pathTable;
+
+    /**
+     * Número de celdas almacenadas en la tabla del camino.
+     */
+    private int pathSize;
+
+    /**
+     * Celda guardada en cada entrada de la tabla de transposición.
+     */
+    private int[] ttCell;
+
+    /**
+     * Menor costo g con el que se alcanzó la celda de cada entrada.
+     */
+    private int[] ttCost;
+
+    /**
+     * Iteración en la que se escribió cada entrada (las de iteraciones previas no cuentan).
+     */
+    private int[] ttIteration;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Bytes estimados por celda registrada en el conjunto de visitadas: la entrada del
+     * LinkedHashSet (40), el objeto Cell (24) y la parte de la tabla hash con factor de
+     * carga 0.75 (8), con referencias comprimidas.
+     */
+    private static final int VISITED_ENTRY_BYTES = 72;
+
+    /**
+     * Orden de prueba de las direcciones según el signo de la diferencia de filas y de
+     * columnas hacia el destino (índice = (signoFila + 1) * 3 + signoColumna + 1).
+     * Las direcciones que acercan al destino van primero.
+     */
+    private static final byte[][] ORDER = {
+        {0, 3, 1, 2}, {0, 1, 3, 2}, {0, 1, 3, 2},
+        {3, 0, 2, 1}, {0, 1, 2, 3}, {1, 0, 2, 3},
+        {2, 3, 1, 0}, {2, 1, 3, 0}, {2, 1, 3, 0}
+    };
+
+    /**
+     * Constructor sin tabla de transposición y con registro de celdas visitadas.
+     */
+    public MazeSolverIDAStar() {
+        this(0, true);
+    }
+
+    /**
+     * Constructor con tabla de transposición acotada y registro de celdas visitadas.
+     *
+     * @param transpositionCapacity Número de entradas de la tabla (0 = sin tabla)
+     */
+    public MazeSolverIDAStar(int transpositionCapacity) {
+        this(transpositionCapacity, true);
+    }
+
+    /**
+     * Constructor con todas las opciones.
+     *
+     * @param transpositionCapacity Número de entradas de la tabla (0 = sin tabla)
+     * @param recordVisited true para incluir las celdas expandidas en el resultado;
+     *                      false para mantener la memoria en O(longitud del camino)
+     */
+    public MazeSolverIDAStar(int transpositionCapacity, boolean recordVisited) {
+        if (transpositionCapacity < 0) {
+            throw new IllegalArgumentException("El tamaño de la tabla de transposición no puede ser negativo");
+        }
+        this.transpositionCapacity = transpositionCapacity;
+        this.recordVisited = recordVisited;
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Implementación de IDA* para encontrar el camino más corto en el laberinto.
+     *
+     * Proceso del algoritmo:
+     * 1. La cota inicial es la distancia Manhattan del inicio al destino
+     * 2. Búsqueda en profundidad desde el inicio que descarta toda celda con f mayor que
+     *    la cota (recordando el menor f descartado) y las celdas del camino actual
+     * 3. Si alcanza el destino, el camino es el contenido de la pila
+     * 4. Si no, la nueva cota es el menor f descartado y se repite; si no se descartó
+     *    ninguna celda, no existe camino
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas expandidas (si se registran)
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        this.grid = grid;
+        lastExpansions = 0;
+        lastIterations = 0;
+        peakMemoryBytes = 0;
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int cols = grid[0].length;
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+
+        stackCell = new int[64];
+        stackDir = new byte[64];
+        pathTable = new int[128];
+        pathSize = 0;
+        if (transpositionCapacity > 0) {
+            ttCell = new int[transpositionCapacity];
+            ttCost = new int[transpositionCapacity];
+            ttIteration = new int[transpositionCapacity];
+        }
+        updatePeakMemory();
+
+        int threshold = heuristic(source, target, cols);
+        while (true) {
+            lastIterations++;
+            int next = search(source, target, cols, threshold);
+            if (next < 0) break;
+            if (next == Integer.MAX_VALUE) {
+                // Ninguna celda superó la cota: no hay camino
+                return result(new ArrayList<>());
+            }
+            threshold = next;
+        }
+
+        // Camino encontrado: el contenido de la pila desde la base
+        int depth = pathSize - 1;
+        Cell[] cells = new Cell[depth + 1];
+        for (int i = 0; i <= depth; i++) {
+            cells[i] = new Cell(stackCell[i] / cols, stackCell[i] % cols);
+        }
+        return result(new ArrayList<>(Arrays.asList(cells)));
+    }
+
+    /**
+     * Ejecuta una iteración de búsqueda en profundidad acotada por f.
+     * Si encuentra el destino deja el camino en la pila (con pathSize celdas).
+     *
+     * @param source Índice lineal del inicio
+     * @param target Índice lineal del destino
+     * @param cols Número de columnas del laberinto
+     * @param threshold Cota de f de esta iteración
+     * @return -1 si encontró el destino; si no, el menor f que superó la cota
+     *         (Integer.MAX_VALUE si ninguno)
+     */
+    private int search(int source, int target, int cols, int threshold) {
+        int rows = grid.length;
+        int nextThreshold = Integer.MAX_VALUE;
+        Arrays.fill(pathTable, -1);
+        pathSize = 0;
+
+        int depth = 0;
+        stackCell[0] = source;
+        stackDir[0] = 0;
+        pathAdd(source);
+        expand(source, cols);
+        if (source == target) return -1;
+
+        while (depth >= 0) {
+            int current = stackCell[depth];
+            int k = stackDir[depth];
+            if (k == directions.length) {
+                // Todas las direcciones probadas: retroceder
+                pathRemove(current);
+                depth--;
+                continue;
+            }
+            stackDir[depth]++;
+
+            int row = current / cols;
+            int col = current - row * cols;
+            int targetRow = target / cols;
+            int targetCol = target - targetRow * cols;
+            int dir = ORDER[(Integer.signum(targetRow - row) + 1) * 3 + Integer.signum(targetCol - col) + 1][k];
+            int nr = row + directions[dir][0];
+            int nc = col + directions[dir][1];
+            if (nr < 0 || nc < 0 || nr >= rows || nc >= cols || !grid[nr][nc]) continue;
+            int next = nr * cols + nc;
+            if (pathContains(next)) continue;
+
+            int g = depth + 1;
+            int f = g + Math.abs(nr - targetRow) + Math.abs(nc - targetCol);
+            if (f > threshold) {
+                nextThreshold = Math.min(nextThreshold, f);
+                continue;
+            }
+            if (ttCell != null && !transpositionAccepts(next, g)) continue;
+
+            // Avanzar a la celda vecina
+            depth = g;
+            if (depth == stackCell.length) growStack();
+            stackCell[depth] = next;
+            stackDir[depth] = 0;
+            pathAdd(next);
+            expand(next, cols);
+            if (next == target) return -1;
+        }
+        return nextThreshold;
+    }
+
+    /**
+     * Consulta y actualiza la tabla de transposición para una celda alcanzada con costo g.
+     *
+     * @param cell Índice lineal de la celda
+     * @param g Costo con el que se alcanzó
+     * @return false si en esta iteración ya se alcanzó con un costo menor o igual
+     */
+    private boolean transpositionAccepts(int cell, int g) {
+        int slot = (int) (((cell * 0x9E3779B9L) & 0xFFFFFFFFL) % transpositionCapacity);
+        if (ttIteration[slot] == lastIterations && ttCell[slot] == cell && ttCost[slot] <= g) {
+            return false;
+        }
+        ttCell[slot] = cell;
+        ttCost[slot] = g;
+        ttIteration[slot] = lastIterations;
+        return true;
+    }
+
+    /**
+     * Cuenta una expansión y, si corresponde, registra la celda como visitada.
+     *
+     * @param cell Índice lineal de la celda
+     * @param cols Número de columnas del laberinto
+     */
+    private void expand(int cell, int cols) {
+        lastExpansions++;
+        if (recordVisited) visited.add(new Cell(cell / cols, cell % cols));
+    }
+
+    /**
+     * Agrega una celda a la tabla del camino actual, duplicando la tabla si se llena a la mitad.
+     *
+     * @param cell Índice lineal de la celda
+     */
+    private void pathAdd(int cell) {
+        if ((pathSize + 1) * 2 > pathTable.length) {
+            int[] old = pathTable;
+            pathTable = new int[old.length * 2];
+            Arrays.fill(pathTable, -1);
+            for (int value : old) {
+                if (value >= 0) pathInsert(value);
+            }
+            updatePeakMemory();
+        }
+        pathInsert(cell);
+        pathSize++;
+    }
+
+    /**
+     * Inserta una celda en la tabla del camino con sondeo lineal.
+     *
+     * @param cell Índice lineal de la celda
+     */
+    private void pathInsert(int cell) {
+        int mask = pathTable.length - 1;
+        int i = hash(cell) & mask;
+        while (pathTable[i] >= 0) i = (i + 1) & mask;
+        pathTable[i] = cell;
+    }
+
+    /**
+     * Verifica si una celda forma parte del camino actual.
+     *
+     * @param cell Índice lineal de la celda
+     * @return true si la celda está en la pila
+     */
+    private boolean pathContains(int cell) {
+        int mask = pathTable.length - 1;
+        for (int i = hash(cell) & mask; pathTable[i] >= 0; i = (i + 1) & mask) {
+            if (pathTable[i] == cell) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retira una celda de la tabla del camino, desplazando hacia atrás las entradas
+     * siguientes para no dejar huecos en sus secuencias de sondeo.
+     *
+     * @param cell Índice lineal de la celda
+     */
+    private void pathRemove(int cell) {
+        int mask = pathTable.length - 1;
+        int i = hash(cell) & mask;
+        while (pathTable[i] != cell) i = (i + 1) & mask;
+        pathTable[i] = -1;
+        pathSize--;
+        for (int j = (i + 1) & mask; pathTable[j] >= 0; j = (j + 1) & mask) {
+            int value = pathTable[j];
+            int home = hash(value) & mask;
+            // Mover la entrada si su posición ideal no está entre el hueco y j
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                pathTable[i] = value;
+                pathTable[j] = -1;
+                i = j;
+            }
+        }
+    }
+
+    /**
+     * Mezcla los bits de un índice de celda para la tabla del camino.
+     *
+     * @param cell Índice lineal de la celda
+     * @return Valor hash no negativo
+     */
+    private static int hash(int cell) {
+        int h = cell * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & Integer.MAX_VALUE;
+    }
+
+    /**
+     * Duplica la capacidad de la pila del camino.
+     */
+    private void growStack() {
+        stackCell = Arrays.copyOf(stackCell, stackCell.length * 2);
+        stackDir = Arrays.copyOf(stackDir, stackDir.length * 2);
+        updatePeakMemory();
+    }
+
+    /**
+     * Actualiza el pico de memoria con el tamaño actual de las estructuras de búsqueda:
+     * pila (int + byte por nivel), tabla del camino, tabla de transposición y, si se
+     * registra, el conjunto de celdas visitadas.
+     */
+    private void updatePeakMemory() {
+        long bytes = stackCell.length * 4L + stackDir.length + pathTable.length * 4L
+                + transpositionCapacity * 12L + (long) visited.size() * VISITED_ENTRY_BYTES;
+        peakMemoryBytes = Math.max(peakMemoryBytes, bytes);
+    }
+
+    /**
+     * Calcula la distancia Manhattan entre dos celdas.
+     *
+     * @param from Índice lineal de la primera celda
+     * @param to Índice lineal de la segunda celda
+     * @param cols Número de columnas del laberinto
+     * @return Número mínimo de pasos sin considerar paredes
+     */
+    private static int heuristic(int from, int to, int cols) {
+        return Math.abs(from / cols - to / cols) + Math.abs(from % cols - to % cols);
+    }
+
+    /**
+     * Arma el resultado y libera las estructuras de búsqueda.
+     *
+     * @param found Camino encontrado (vacío si no hay)
+     * @return AlgorithmResult con el camino y las celdas visitadas registradas
+     */
+    private AlgorithmResult result(List<Cell> found) {
+        // Las estructuras no se reducen durante la búsqueda, así que su tamaño final con
+        // todas las visitadas registradas es el pico
+        updatePeakMemory();
+        path = found;
+        stackCell = null;
+        stackDir = null;
+        pathTable = null;
+        ttCell = null;
+        ttCost = null;
+        ttIteration = null;
+        return new AlgorithmResult(path, visited);
+    }
+
+    /**
+     * Obtiene el número de expansiones de la última búsqueda, sumando todas las iteraciones.
+     *
+     * @return Celdas expandidas (con repeticiones)
+     */
+    public long getLastExpansions() {
+        return lastExpansions;
+    }
+
+    /**
+     * Obtiene el número de iteraciones de profundización de la última búsqueda.
+     *
+     * @return Número de cotas distintas probadas
+     */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * Obtiene el pico de memoria de las estructuras de la última búsqueda: la pila del
+     * camino, la tabla de celdas del camino, la tabla de transposición y, si se registra,
+     * el conjunto de celdas visitadas (estimado con {@link #VISITED_ENTRY_BYTES} por celda).
+     * No incluye el camino retornado.
+     *
+     * @return Bytes ocupados como máximo por las estructuras de búsqueda
+     */
+    public long getPeakMemoryBytes() {
+        return peakMemoryBytes;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
@@ -0,0 +1,354 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+
+/**
+ * Implementación de Jump Point Search (JPS) para laberintos de 4 direcciones.
+ * Esta clase implementa la interfaz MazeSolver sobre A*, pero en lugar de insertar en la
+ * lista abierta cada celda vecina, avanza en línea recta ("salta") hasta encontrar un
+ * punto de salto y solo ese punto entra en el montículo.
+ *
+ * Reglas de poda utilizadas (orden canónico: primero vertical, luego horizontal):
+ * - Un movimiento horizontal solo puede girar a vertical si el giro es forzado, es decir,
+ *   si la celda vecina vertical está libre pero la celda detrás de ella está bloqueada
+ * - Un movimiento vertical siempre puede continuar de forma horizontal, por lo que el salto
+ *   vertical se detiene en cualquier fila donde un barrido horizontal encuentre un punto
+ *   de salto
+ * - El destino siempre es un punto de salto
+ *
+ * Características del algoritmo:
+ * - Garantiza el camino más corto (igual que A* y BFS)
+ * - En salas abiertas con pocas paredes realiza órdenes de magnitud menos operaciones
+ *   sobre el montículo que una búsqueda celda por celda
+ * - Al final expande los tramos rectos entre puntos de salto para obtener el camino completo
+ * - Las celdas visitadas son los puntos de salto expandidos, en orden de expansión
+ *
+ * Complejidad temporal: O(V log V) en el peor caso
+ * Complejidad espacial: O(V) para los arreglos de costos, padres y el montículo
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverJPS implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye al final rellenando los tramos rectos entre puntos de salto.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de puntos de salto expandidos durante la búsqueda.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Número de filas del laberinto de la búsqueda actual.
+     */
+    private int rows;
+
+    /**
+     * Número de columnas del laberinto de la búsqueda actual.
+     */
+    private int cols;
+
+    /**
+     * Fila del destino de la búsqueda actual.
+     */
+    private int endRow;
+
+    /**
+     * Columna del destino de la búsqueda actual.
+     */
+    private int endCol;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda. El índice de
+     * cada dirección se usa como bit en la máscara de llegada de cada celda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Máscara especial que indica que la celda es el inicio y se expande en las 4 direcciones.
+     */
+    private static final int ALL_DIRECTIONS = 0xF;
+
+    /**
+     * Constructor que inicializa todas las estructuras de datos necesarias para el algoritmo.
+     * Prepara las colecciones vacías que serán utilizadas durante la ejecución del algoritmo.
+     */
+    public MazeSolverJPS() {
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Implementación de Jump Point Search para encontrar el camino más corto.
+     *
+     * Proceso del algoritmo:
+     * 1. Coloca el inicio en la lista abierta con las 4 direcciones habilitadas
+     * 2. Mientras la lista abierta no esté vacía:
+     *    - Extrae el punto de salto con menor f = g + h
+     *    - Si es el destino, reconstruye el camino
+     *    - Si no, salta en cada dirección no podada según la dirección de llegada
+     *      e inserta los puntos de salto encontrados
+     * 3. Si la lista abierta se vacía, no existe camino
+     *
+     * Una celda puede alcanzarse con el mismo costo desde direcciones distintas; en ese
+     * caso se acumulan las direcciones de llegada y la celda se expande de nuevo solo con
+     * las direcciones que faltaban, lo que preserva la optimalidad de la poda.
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         los puntos de salto expandidos durante la búsqueda
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        this.grid = grid;
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        rows = grid.length;
+        cols = grid[0].length;
+        endRow = end.row;
+        endCol = end.col;
+        int total = rows * cols;
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+
+        int[] cost = new int[total];
+        int[] parent = new int[total];
+        byte[] arrived = new byte[total];
+        byte[] pending = new byte[total];
+        Arrays.fill(cost, Integer.MAX_VALUE);
+
+        IntBinaryHeap open = new IntBinaryHeap(total);
+        cost[source] = 0;
+        parent[source] = -1;
+        arrived[source] = ALL_DIRECTIONS;
+        pending[source] = ALL_DIRECTIONS;
+        open.push(source, priority(0, heuristic(start.row, start.col)));
+
+        // Bucle principal sobre puntos de salto
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            int row = current / cols;
+            int col = current - row * cols;
+            visited.add(new Cell(row, col));
+
+            if (current == target) {
+                buildPath(parent, target);
+                return new AlgorithmResult(path, visited);
+            }
+
+            int mask = successorMask(row, col, pending[current]);
+            pending[current] = 0;
+            for (int d = 0; d < directions.length; d++) {
+                if ((mask & (1 << d)) == 0) continue;
+                int jump = directions[d][0] == 0
+                        ? jumpHorizontal(row, col, directions[d][1])
+                        : jumpVertical(row, col, directions[d][0]);
+                if (jump < 0) continue;
+
+                int jr = jump / cols;
+                int jc = jump - jr * cols;
+                int nextCost = cost[current] + Math.abs(jr - row) + Math.abs(jc - col);
+                int bit = 1 << d;
+                if (nextCost < cost[jump]) {
+                    cost[jump] = nextCost;
+                    parent[jump] = current;
+                    arrived[jump] = (byte) bit;
+                    pending[jump] = (byte) bit;
+                    open.push(jump, priority(nextCost, heuristic(jr, jc)));
+                } else if (nextCost == cost[jump] && (arrived[jump] & bit) == 0) {
+                    // Mismo costo desde otra dirección: habilitar sus sucesores
+                    arrived[jump] = (byte) (arrived[jump] | bit);
+                    pending[jump] = (byte) (pending[jump] | bit);
+                    open.push(jump, priority(nextCost, heuristic(jr, jc)));
+                }
+            }
+        }
+
+        // No se encontró camino al destino
+        return new AlgorithmResult(new ArrayList<>(), visited);
+    }
+
+    /**
+     * Calcula las direcciones en las que se debe saltar desde una celda según las
+     * direcciones por las que se llegó a ella.
+     *
+     * - Llegada vertical: se continúa en la misma dirección y se abren ambas horizontales
+     * - Llegada horizontal: se continúa en la misma dirección y solo se abren las
+     *   verticales forzadas por una pared detrás
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param arrivedMask Máscara de direcciones de llegada (bit = índice en directions)
+     * @return Máscara de direcciones en las que se debe saltar
+     */
+    private int successorMask(int row, int col, int arrivedMask) {
+        if (arrivedMask == ALL_DIRECTIONS) return ALL_DIRECTIONS;
+        int result = 0;
+        for (int d = 0; d < directions.length; d++) {
+            if ((arrivedMask & (1 << d)) == 0) continue;
+            int dr = directions[d][0];
+            int dc = directions[d][1];
+            result |= 1 << d;
+            if (dr != 0) {
+                // Llegada vertical: ambas horizontales son naturales
+                result |= (1 << 1) | (1 << 3);
+            } else {
+                // Llegada horizontal: verticales solo si son forzadas
+                if (isOpen(row - 1, col) && !isOpen(row - 1, col - dc)) result |= 1 << 0;
+                if (isOpen(row + 1, col) && !isOpen(row + 1, col - dc)) result |= 1 << 2;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Avanza horizontalmente desde una celda hasta encontrar un punto de salto.
+     * Se detiene en el destino o en una celda con un vecino vertical forzado.
+     *
+     * @param row Fila desde la que se salta
+     * @param col Columna desde la que se salta
+     * @param dc Dirección horizontal (+1 derecha, -1 izquierda)
+     * @return Índice lineal del punto de salto, o -1 si se encuentra una pared o el borde
+     */
+    private int jumpHorizontal(int row, int col, int dc) {
+        while (true) {
+            col += dc;
+            if (!isOpen(row, col)) return -1;
+            if (row == endRow && col == endCol) return row * cols + col;
+            if ((isOpen(row - 1, col) && !isOpen(row - 1, col - dc))
+                    || (isOpen(row + 1, col) && !isOpen(row + 1, col - dc))) {
+                return row * cols + col;
+            }
+        }
+    }
+
+    /**
+     * Avanza verticalmente desde una celda hasta encontrar un punto de salto.
+     * Se detiene en el destino o en cualquier fila desde la cual un barrido horizontal
+     * (en cualquiera de los dos sentidos) encuentre un punto de salto.
+     *
+     * @param row Fila desde la que se salta
+     * @param col Columna desde la que se salta
+     * @param dr Dirección vertical (+1 abajo, -1 arriba)
+     * @return Índice lineal del punto de salto, o -1 si se encuentra una pared o el borde
+     */
+    private int jumpVertical(int row, int col, int dr) {
+        while (true) {
+            row += dr;
+            if (!isOpen(row, col)) return -1;
+            if (row == endRow && col == endCol) return row * cols + col;
+            if (jumpHorizontal(row, col, 1) >= 0 || jumpHorizontal(row, col, -1) >= 0) {
+                return row * cols + col;
+            }
+        }
+    }
+
+    /**
+     * Verifica si una posición está dentro del laberinto y es transitable.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida y no es pared
+     */
+    private boolean isOpen(int row, int col) {
+        return row >= 0 && col >= 0 && row < rows && col < cols && grid[row][col];
+    }
+
+    /**
+     * Calcula la distancia Manhattan entre una celda y el destino.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Número mínimo de pasos sin considerar paredes
+     */
+    private int heuristic(int row, int col) {
+        return Math.abs(row - endRow) + Math.abs(col - endCol);
+    }
+
+    /**
+     * Combina f = g + h y h en una sola clave para el montículo,
+     * prefiriendo en empates la celda más cercana al destino.
+     *
+     * @param g Costo real desde el inicio
+     * @param h Estimación de costo hasta el destino
+     * @return Prioridad compuesta para el montículo
+     */
+    private static long priority(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    /**
+     * Reconstruye el camino recorriendo los padres entre puntos de salto y rellenando
+     * cada tramo recto con todas las celdas intermedias.
+     *
+     * @param parent Arreglo de padres entre puntos de salto
+     * @param target Índice lineal del destino
+     */
+    private void buildPath(int[] parent, int target) {
+        path = new ArrayList<>();
+        int node = target;
+        int row = node / cols;
+        int col = node % cols;
+        path.add(new Cell(row, col));
+        while (parent[node] != -1) {
+            int prev = parent[node];
+            int pr = prev / cols;
+            int pc = prev % cols;
+            int dr = Integer.signum(pr - row);
+            int dc = Integer.signum(pc - col);
+            while (row != pr || col != pc) {
+                row += dr;
+                col += dc;
+                path.add(new Cell(row, col));
+            }
+            node = prev;
+        }
+        Collections.reverse(path);
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
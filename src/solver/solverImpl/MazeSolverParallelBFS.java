@@ -0,0 +1,347 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+
+/**
+ * Implementación de una búsqueda en anchura paralela sincronizada por niveles.
+ * Esta clase implementa la interfaz MazeSolver procesando cada nivel del frente en bloques
+ * paralelos sobre un {@link ForkJoinPool}, lo que permite usar todos los núcleos en
+ * laberintos muy grandes.
+ *
+ * Características del algoritmo:
+ * - Todos los niveles se almacenan consecutivos en un único arreglo de enteros (la cola),
+ *   que al final también sirve como orden de visita
+ * - Cada celda se reclama con un CAS sobre un mapa de bits atómico de palabras long;
+ *   solo el hilo que gana el CAS escribe su dirección de llegada
+ * - Las direcciones de llegada se guardan en un arreglo de bytes compartido y el camino
+ *   se reconstruye retrocediendo desde el destino
+ * - Los niveles pequeños se procesan en el hilo actual para evitar la sobrecarga de tareas
+ * - Garantiza la misma longitud de camino más corto que MazeSolverBFS; dentro de un mismo
+ *   nivel el orden de visita puede variar entre ejecuciones
+ *
+ * Complejidad temporal: O((V + E) / P + D) donde P es el número de hilos y D la distancia
+ * Complejidad espacial: O(V) para la cola, las direcciones y el mapa de bits
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverParallelBFS implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena el camino encontrado desde el inicio hasta el destino.
+     * Se construye al final siguiendo las direcciones de llegada desde el destino.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas visitadas, nivel por nivel.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Pool de hilos donde se ejecutan los bloques de cada nivel.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Número de columnas del laberinto de la búsqueda actual.
+     */
+    private int cols;
+
+    /**
+     * Número de filas del laberinto de la búsqueda actual.
+     */
+    private int rows;
+
+    /**
+     * Cola de celdas descubiertas; cada nivel ocupa un tramo contiguo.
+     */
+    private int[] queue;
+
+    /**
+     * Posición libre siguiente de la cola, compartida por todos los hilos de un nivel.
+     */
+    private AtomicInteger tail;
+
+    /**
+     * Mapa de bits de celdas reclamadas (un bit por celda).
+     */
+    private AtomicLongArray seen;
+
+    /**
+     * Índice en directions del movimiento con el que se llegó a cada celda.
+     */
+    private byte[] parentDir;
+
+    /**
+     * Tamaño de frente por debajo del cual un nivel se procesa en el hilo actual.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    /**
+     * Número máximo de celdas del frente que procesa una tarea hoja.
+     */
+    private static final int LEAF_SIZE = 1024;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto.
+     * Representa los movimientos: arriba, derecha, abajo, izquierda.
+     */
+    private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+
+    /**
+     * Constructor que utiliza el pool común de la JVM.
+     */
+    public MazeSolverParallelBFS() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor que utiliza un pool de hilos específico, útil para controlar
+     * el grado de paralelismo (por ejemplo, en pruebas de escalabilidad).
+     *
+     * @param pool Pool de hilos donde se procesarán los niveles
+     */
+    public MazeSolverParallelBFS(ForkJoinPool pool) {
+        this.pool = pool;
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+    }
+
+    /**
+     * Implementación de BFS paralelo por niveles para encontrar el camino más corto.
+     *
+     * Proceso del algoritmo:
+     * 1. Coloca el inicio en la cola y lo reclama en el mapa de bits
+     * 2. Para cada nivel, reparte su tramo de la cola entre tareas paralelas; cada tarea
+     *    reclama vecinos con CAS y los agrega al final de la cola
+     * 3. Al terminar un nivel, si el destino fue reclamado, reconstruye el camino
+     * 4. Si un nivel queda vacío, no existe camino
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene el camino más corto encontrado y
+     *         las celdas visitadas nivel por nivel
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+
+        int distance = distance(grid, start, end);
+        if (queue == null) return new AlgorithmResult(path, visited);
+
+        int count = tail.get();
+        for (int i = 0; i < count; i++) {
+            visited.add(new Cell(queue[i] / cols, queue[i] % cols));
+        }
+        if (distance < 0) {
+            // No se encontró camino al destino
+            return new AlgorithmResult(new ArrayList<>(), visited);
+        }
+
+        // Reconstruir camino retrocediendo por las direcciones de llegada
+        Cell[] cells = new Cell[distance + 1];
+        int row = end.row;
+        int col = end.col;
+        for (int i = distance; i > 0; i--) {
+            cells[i] = new Cell(row, col);
+            int[] dir = directions[parentDir[row * cols + col]];
+            row -= dir[0];
+            col -= dir[1];
+        }
+        cells[0] = new Cell(row, col);
+        for (Cell cell : cells) path.add(cell);
+        return new AlgorithmResult(path, visited);
+    }
+
+    /**
+     * Ejecuta la búsqueda paralela y retorna únicamente la longitud del camino más corto,
+     * sin construir las celdas del resultado. Útil para comparar con otros algoritmos y
+     * para medir la escalabilidad del recorrido en sí.
+     *
+     * @param grid Matriz booleana que representa el laberinto
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return Número de pasos del camino más corto, o -1 si no existe camino
+     *         o los parámetros no son válidos
+     */
+    public int distance(boolean[][] grid, Cell start, Cell end) {
+        this.grid = grid;
+        queue = null;
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return -1;
+        }
+
+        rows = grid.length;
+        cols = grid[0].length;
+        int total = rows * cols;
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+
+        queue = new int[total];
+        tail = new AtomicInteger();
+        seen = new AtomicLongArray((total + 63) >>> 6);
+        parentDir = new byte[total];
+
+        claim(source);
+        queue[tail.getAndIncrement()] = source;
+        if (source == target) return 0;
+
+        int from = 0;
+        int level = 0;
+        // Bucle principal: un nivel completo por iteración
+        while (true) {
+            int to = tail.get();
+            if (from == to) return -1;
+            level++;
+
+            if (to - from < SEQUENTIAL_THRESHOLD) {
+                expand(from, to);
+            } else {
+                pool.invoke(new LevelTask(from, to));
+            }
+
+            if (isClaimed(target)) return level;
+            from = to;
+        }
+    }
+
+    /**
+     * Expande un tramo del frente: reclama los vecinos transitables no visitados,
+     * registra su dirección de llegada y los agrega al final de la cola en un solo bloque.
+     *
+     * @param from Posición inicial (incluida) del tramo en la cola
+     * @param to Posición final (excluida) del tramo en la cola
+     */
+    private void expand(int from, int to) {
+        int[] local = new int[(to - from) * directions.length];
+        int found = 0;
+        for (int i = from; i < to; i++) {
+            int current = queue[i];
+            int row = current / cols;
+            int col = current - row * cols;
+            for (int d = 0; d < directions.length; d++) {
+                int nr = row + directions[d][0];
+                int nc = col + directions[d][1];
+                if (nr < 0 || nc < 0 || nr >= rows || nc >= cols || !grid[nr][nc]) continue;
+                int next = nr * cols + nc;
+                if (claim(next)) {
+                    parentDir[next] = (byte) d;
+                    local[found++] = next;
+                }
+            }
+        }
+        int at = tail.getAndAdd(found);
+        System.arraycopy(local, 0, queue, at, found);
+    }
+
+    /**
+     * Intenta reclamar una celda marcando su bit con CAS.
+     *
+     * @param index Índice lineal de la celda
+     * @return true si este hilo reclamó la celda, false si ya estaba reclamada
+     */
+    private boolean claim(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        while (true) {
+            long current = seen.get(word);
+            if ((current & bit) != 0) return false;
+            if (seen.compareAndSet(word, current, current | bit)) return true;
+        }
+    }
+
+    /**
+     * Consulta si una celda ya fue reclamada.
+     *
+     * @param index Índice lineal de la celda
+     * @return true si su bit está activo
+     */
+    private boolean isClaimed(int index) {
+        return (seen.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Tarea que divide un tramo del frente en mitades hasta llegar a bloques de
+     * tamaño LEAF_SIZE, que se expanden en paralelo.
+     */
+    private final class LevelTask extends RecursiveAction {
+        /**
+         * Versión de serialización exigida por {@link RecursiveAction}.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Posición inicial (incluida) del tramo en la cola.
+         */
+        private final int from;
+
+        /**
+         * Posición final (excluida) del tramo en la cola.
+         */
+        private final int to;
+
+        /**
+         * Crea una tarea para el tramo indicado de la cola.
+         *
+         * @param from Posición inicial (incluida)
+         * @param to Posición final (excluida)
+         */
+        LevelTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Expande el tramo directamente o lo divide en dos subtareas.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                expand(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new LevelTask(from, mid), new LevelTask(mid, to));
+        }
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
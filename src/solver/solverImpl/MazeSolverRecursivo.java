@@ -8,7 +8,10 @@ import java.util.Set;
 
 import models.Cell;
 import models.AlgorithmResult;
-import solver.MazeSolver;
+import models.CellKeys;
+import models.MazeGrid;
+import solver.SearchCursor;
+import solver.SteppableMazeSolver;
 
 /**
  * Implementación del algoritmo de resolución recursiva básica para laberintos.
@@ -22,6 +25,9 @@ import solver.MazeSolver;
  * - Marca las celdas como visitadas para evitar ciclos infinitos
  * - Construye el camino agregando celdas cuando encuentra una ruta exitosa
  * - No implementa backtracking: las celdas visitadas permanecen marcadas
+ * - Por defecto se ejecuta con una pila explícita en el heap, sin límite de profundidad
+ *   impuesto por la pila de la JVM (el modo recursivo sigue disponible)
+ * - En modo iterativo puede ejecutarse paso a paso con un {@link SearchCursor}
  * 
  * Este algoritmo es ideal para casos donde se requiere una solución rápida
  * y simple, aunque puede no encontrar el camino óptimo debido a su exploración limitada.
@@ -32,12 +38,11 @@ import solver.MazeSolver;
  * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
  * @version 1.0
  */
-public class MazeSolverRecursivo implements MazeSolver {
+public class MazeSolverRecursivo implements SteppableMazeSolver {
     /**
-     * Matriz booleana que representa el laberinto.
-     * true indica una celda transitable, false indica una pared u obstáculo.
+     * Laberinto empaquetado a un bit por celda; un bit en 1 indica una celda transitable.
      */
-    private boolean[][] grid;
+    private MazeGrid grid;
     
     /**
      * Lista que almacena el camino encontrado desde el inicio hasta el destino.
@@ -54,10 +59,28 @@ public class MazeSolverRecursivo implements MazeSolver {
     private Set<Cell> visited;
     
     /**
-     * Celda de destino del laberinto. Se utiliza para determinar cuándo
-     * se ha alcanzado el objetivo durante la búsqueda recursiva.
+     * Clave de la celda de destino ({@link CellKeys}), o -1 si está fuera del laberinto.
+     * Se utiliza para determinar cuándo se ha alcanzado el objetivo durante la búsqueda
+     * recursiva.
      */
-    private Cell end;
+    private int target;
+
+    /**
+     * Número de columnas del laberinto, para calcular las claves de celda.
+     */
+    private int cols;
+
+    /**
+     * Celdas visitadas por clave durante la búsqueda recursiva, tomadas de
+     * {@link #workspace}; se copian a {@link #visited} al terminar.
+     */
+    private VisitedCells marked;
+
+    /**
+     * Conjunto de visitadas que se reutiliza entre llamadas a getPath, vaciado por
+     * generación en lugar de reservarse en cada búsqueda.
+     */
+    private final VisitedWorkspace workspace = new VisitedWorkspace();
     
     /**
      * Matriz que define las direcciones de movimiento limitadas para este algoritmo básico.
@@ -66,12 +89,31 @@ public class MazeSolverRecursivo implements MazeSolver {
      */
     private static final int[][] directions = {{-1, 0}, {0, 1}}; // arriba, derecha
 
+    /**
+     * Indica si la búsqueda se ejecuta con una pila explícita en el heap (true) o con
+     * recursión sobre la pila de la JVM (false). Ambos modos exploran las celdas en el
+     * mismo orden y producen el mismo camino y el mismo conjunto de visitadas, pero solo
+     * el modo iterativo soporta laberintos grandes sin StackOverflowError.
+     */
+    private final boolean iterative;
+
     /**
      * Constructor que inicializa todas las estructuras de datos necesarias.
      * Prepara las colecciones vacías que serán utilizadas durante la búsqueda recursiva básica.
+     * Utiliza por defecto el modo iterativo con pila explícita.
      */
     public MazeSolverRecursivo() {
-        grid = new boolean[][] {};
+        this(true);
+    }
+
+    /**
+     * Constructor que permite elegir el modo de ejecución de la búsqueda.
+     * 
+     * @param iterative true para usar una pila explícita en el heap (recomendado para
+     *                  laberintos grandes), false para usar recursión sobre la pila de la JVM
+     */
+    public MazeSolverRecursivo(boolean iterative) {
+        this.iterative = iterative;
         path = new ArrayList<>();
         visited = new LinkedHashSet<>();
     }
@@ -93,17 +135,52 @@ public class MazeSolverRecursivo implements MazeSolver {
      */
     @Override
     public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || grid[0].length == 0) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+
+        // Empaquetar el laberinto y resolver sobre la representación de bits
+        return getPath(MazeGrid.fromBooleanGrid(grid), start, end);
+    }
+
+    /**
+     * Variante de {@link #getPath(boolean[][], Cell, Cell)} que recorre directamente el
+     * laberinto empaquetado, tanto en modo iterativo como recursivo.
+     *
+     * @param grid Laberinto empaquetado a un bit por celda
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult con el camino encontrado y las celdas visitadas
+     */
+    @Override
+    public AlgorithmResult getPath(MazeGrid grid, Cell start, Cell end) {
         // Reinicializar estructuras de datos para nueva búsqueda
         path = new ArrayList<>();
         visited = new LinkedHashSet<>();
         this.grid = grid;
-        this.end = end;
         
         // Validación de entrada
-        if (grid == null || grid.length == 0) return new AlgorithmResult(path, visited);
+        if (grid == null) return new AlgorithmResult(path, visited);
         
+        // Modo iterativo: avanzar un cursor de búsqueda hasta que termine
+        if (iterative) return ExplorationCursor.run(workspace, grid, start, end, directions, false, true);
+
+        // Claves enteras y marcas por celda: la recursión no crea objetos por vecina
+        cols = grid.getCols();
+        target = end != null && grid.isOpen(end.row, end.col) ? CellKeys.of(end, cols) : -1;
+        marked = workspace.acquire(grid.getRows(), cols);
+
         // Iniciar búsqueda recursiva básica
-        if (findPath(start)) {
+        boolean found;
+        try {
+            found = start != null && findPath(start.row, start.col);
+            marked.copyTo(0, marked.size(), visited);
+        } finally {
+            workspace.release(marked);
+            marked = null;
+        }
+        if (found) {
             return new AlgorithmResult(path, visited);
         }
         
@@ -132,28 +209,30 @@ public class MazeSolverRecursivo implements MazeSolver {
      * 5. Si alguna dirección lleva al éxito, agrega la celda actual al camino
      * 6. Si ninguna dirección funciona, retorna falso sin modificar el camino
      * 
-     * @param current Celda actual siendo explorada en la recursión
+     * @param row Fila de la celda actual siendo explorada en la recursión
+     * @param col Columna de la celda actual
      * @return true si desde esta celda se puede alcanzar el destino, false en caso contrario
      */
-    private boolean findPath(Cell current) {
+    private boolean findPath(int row, int col) {
         // Verificar validez de la celda actual (límites y transitabilidad)
-        if (!isInMaze(current) || !grid[current.row][current.col]) return false;
+        if (!grid.isOpen(row, col)) return false;
+        int current = CellKeys.of(row, col, cols);
         
         // Marcar celda como visitada
-        visited.add(current);
+        marked.add(current);
         
         // Caso base: se alcanzó el destino
-        if (current.equals(end)) {
-            path.add(current);  // Agregar destino al camino
+        if (current == target) {
+            path.add(new Cell(row, col));  // Agregar destino al camino
             return true;
         }
         
         // Explorar recursivamente solo direcciones limitadas (arriba y derecha)
         for (int i = 0; i < 2; i++) {
             int[] dir = directions[i];
-            if (findPath(new Cell(current.row + dir[0], current.col + dir[1]))) {
+            if (findPath(row + dir[0], col + dir[1])) {
                 // Si se encontró un camino válido, agregar celda actual al path
-                path.add(current);
+                path.add(new Cell(row, col));
                 return true;
             }
         }
@@ -163,20 +242,19 @@ public class MazeSolverRecursivo implements MazeSolver {
     }
 
     /**
-     * Verifica si una celda está dentro de los límites del laberinto.
-     * Este método auxiliar comprueba que las coordenadas de fila y columna
-     * estén dentro del rango válido de la matriz del laberinto.
-     * 
-     * @param current Celda a verificar
-     * @return true si la celda está dentro de los límites del laberinto,
-     *         false si está fuera de los límites o si current es null
+     * Prepara la búsqueda básica con una pila explícita de marcos en el heap, que
+     * visita las celdas en el mismo orden que {@link #findPath(int, int)} y construye el camino
+     * igual. Como en la versión recursiva, solo explora arriba y derecha y no consulta
+     * el conjunto de visitadas antes de entrar en una celda.
+     *
+     * @param grid Laberinto empaquetado a un bit por celda
+     * @param start Celda desde la cual comenzar la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return Cursor que avanza la búsqueda celda por celda
      */
-    private boolean isInMaze(Cell current) {
-        return current != null && 
-               current.row >= 0 && 
-               current.col >= 0 && 
-               current.row < grid.length && 
-               current.col < grid[0].length;
+    @Override
+    public SearchCursor startSearch(MazeGrid grid, Cell start, Cell end) {
+        return new ExplorationCursor(grid, start, end, directions, false, true);
     }
     
 }
\ No newline at end of file
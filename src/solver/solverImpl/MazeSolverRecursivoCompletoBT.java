@@ -8,7 +8,10 @@ import java.util.Set;
 
 import models.Cell;
 import models.AlgorithmResult;
-import solver.MazeSolver;
+import models.CellKeys;
+import models.MazeGrid;
+import solver.SearchCursor;
+import solver.SteppableMazeSolver;
 
 /**
  * Implementación del algoritmo de resolución recursiva con backtracking completo para laberintos.
@@ -22,6 +25,9 @@ import solver.MazeSolver;
  * - Construye el camino dinámicamente agregando y removiendo celdas según sea necesario
  * - Explora sistemáticamente todas las direcciones posibles desde cada celda
  * - Garantiza encontrar una solución si existe, aunque no necesariamente la más corta
+ * - Por defecto se ejecuta con una pila explícita en el heap, sin límite de profundidad
+ *   impuesto por la pila de la JVM (el modo recursivo sigue disponible)
+ * - En modo iterativo puede ejecutarse paso a paso con un {@link SearchCursor}
  * 
  * La diferencia principal con otros algoritmos recursivos es que este implementa
  * backtracking completo, removiendo celdas del camino cuando no conducen a la solución.
@@ -32,12 +38,11 @@ import solver.MazeSolver;
  * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
  * @version 1.0
  */
-public class MazeSolverRecursivoCompletoBT implements MazeSolver {
+public class MazeSolverRecursivoCompletoBT implements SteppableMazeSolver {
     /**
-     * Matriz booleana que representa el laberinto.
-     * true indica una celda transitable, false indica una pared u obstáculo.
+     * Laberinto empaquetado a un bit por celda; un bit en 1 indica una celda transitable.
      */
-    private boolean[][] grid;
+    private MazeGrid grid;
     
     /**
      * Lista que almacena el camino siendo construido dinámicamente durante la búsqueda.
@@ -54,10 +59,28 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
     private Set<Cell> visited;
     
     /**
-     * Celda de destino del laberinto. Se utiliza para determinar cuándo
-     * se ha alcanzado el objetivo durante la búsqueda recursiva.
+     * Clave de la celda de destino ({@link CellKeys}), o -1 si está fuera del laberinto.
+     * Se utiliza para determinar cuándo se ha alcanzado el objetivo durante la búsqueda
+     * recursiva.
      */
-    private Cell end;
+    private int target;
+
+    /**
+     * Número de columnas del laberinto, para calcular las claves de celda.
+     */
+    private int cols;
+
+    /**
+     * Celdas visitadas por clave durante la búsqueda recursiva, tomadas de
+     * {@link #workspace}; se copian a {@link #visited} al terminar.
+     */
+    private VisitedCells marked;
+
+    /**
+     * Conjunto de visitadas que se reutiliza entre llamadas a getPath, vaciado por
+     * generación en lugar de reservarse en cada búsqueda.
+     */
+    private final VisitedWorkspace workspace = new VisitedWorkspace();
     
     /**
      * Matriz que define las direcciones de movimiento posibles en el laberinto.
@@ -65,12 +88,31 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
      */
     private static final int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
 
+    /**
+     * Indica si la búsqueda se ejecuta con una pila explícita en el heap (true) o con
+     * recursión sobre la pila de la JVM (false). Ambos modos exploran las celdas en el
+     * mismo orden y producen el mismo camino y el mismo conjunto de visitadas, pero solo
+     * el modo iterativo soporta laberintos grandes sin StackOverflowError.
+     */
+    private final boolean iterative;
+
     /**
      * Constructor que inicializa todas las estructuras de datos necesarias.
      * Prepara las colecciones vacías que serán utilizadas durante la búsqueda recursiva.
+     * Utiliza por defecto el modo iterativo con pila explícita.
      */
     public MazeSolverRecursivoCompletoBT() {
-        grid = new boolean[][] {};
+        this(true);
+    }
+
+    /**
+     * Constructor que permite elegir el modo de ejecución de la búsqueda.
+     * 
+     * @param iterative true para usar una pila explícita en el heap (recomendado para
+     *                  laberintos grandes), false para usar recursión sobre la pila de la JVM
+     */
+    public MazeSolverRecursivoCompletoBT(boolean iterative) {
+        this.iterative = iterative;
         path = new ArrayList<>();
         visited = new LinkedHashSet<>();
     }
@@ -92,17 +134,52 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
      */
     @Override
     public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || grid[0].length == 0) {
+            return new AlgorithmResult(new ArrayList<>(), new LinkedHashSet<>());
+        }
+
+        // Empaquetar el laberinto y resolver sobre la representación de bits
+        return getPath(MazeGrid.fromBooleanGrid(grid), start, end);
+    }
+
+    /**
+     * Variante de {@link #getPath(boolean[][], Cell, Cell)} que recorre directamente el
+     * laberinto empaquetado, tanto en modo iterativo como recursivo.
+     *
+     * @param grid Laberinto empaquetado a un bit por celda
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult con el camino encontrado y las celdas visitadas
+     */
+    @Override
+    public AlgorithmResult getPath(MazeGrid grid, Cell start, Cell end) {
         // Reinicializar estructuras de datos para nueva búsqueda
         path = new ArrayList<>();
         visited = new LinkedHashSet<>();
         this.grid = grid;
-        this.end = end;
         
         // Validación de entrada
-        if (grid == null || grid.length == 0) return new AlgorithmResult(path, visited);
+        if (grid == null) return new AlgorithmResult(path, visited);
         
+        // Modo iterativo: avanzar un cursor de búsqueda hasta que termine
+        if (iterative) return ExplorationCursor.run(workspace, grid, start, end, directions, true, false);
+
+        // Claves enteras y marcas por celda: la recursión no crea objetos por vecina
+        cols = grid.getCols();
+        target = end != null && grid.isOpen(end.row, end.col) ? CellKeys.of(end, cols) : -1;
+        marked = workspace.acquire(grid.getRows(), cols);
+
         // Iniciar búsqueda recursiva con backtracking
-        if (findPath(start)) {
+        boolean found;
+        try {
+            found = start != null && findPath(start.row, start.col);
+            marked.copyTo(0, marked.size(), visited);
+        } finally {
+            workspace.release(marked);
+            marked = null;
+        }
+        if (found) {
             return new AlgorithmResult(path, visited);
         }
         
@@ -126,71 +203,73 @@ public class MazeSolverRecursivoCompletoBT implements MazeSolver {
      * El backtracking se implementa removiendo la celda del camino cuando no conduce
      * a una solución, permitiendo explorar otras rutas alternativas.
      * 
-     * @param current Celda actual siendo explorada en la recursión
+     * @param row Fila de la celda actual siendo explorada en la recursión
+     * @param col Columna de la celda actual
      * @return true si desde esta celda se puede alcanzar el destino, false en caso contrario
      */
-    private boolean findPath(Cell current) {
+    private boolean findPath(int row, int col) {
         // Verificar validez de la celda actual
-        if (!isInMaze(current) || !isValid(current)) return false;
+        if (!isValid(row, col)) return false;
+        int current = CellKeys.of(row, col, cols);
         
         // Marcar celda como visitada
-        visited.add(current);
+        marked.add(current);
         
         // Caso base: se alcanzó el destino
-        if (current.equals(end)) {
+        if (current == target) {
             return true;
         }
         
         // Explorar recursivamente todas las direcciones
         for (int[] dir : directions) {
-            Cell next = new Cell(current.row + dir[0], current.col + dir[1]);
-            if (findPath(next)) {
+            if (findPath(row + dir[0], col + dir[1])) {
                 // Si se encontró un camino válido, agregar celda actual al path
-                path.add(current);
+                path.add(new Cell(row, col));
                 return true;
             }
         }
         
         // Backtracking: remover celda del camino si no conduce a solución
-        if (!path.isEmpty() && path.get(path.size()-1).equals(current)) {
-            path.remove(path.size()-1);
+        if (!path.isEmpty()) {
+            Cell last = path.get(path.size() - 1);
+            if (last.row == row && last.col == col) path.remove(path.size() - 1);
         }
         
         return false;
     }
 
     /**
-     * Verifica si una celda está dentro de los límites del laberinto.
-     * Comprueba que las coordenadas de fila y columna estén dentro del rango
-     * válido de la matriz del laberinto.
-     * 
-     * @param current Celda a verificar
-     * @return true si la celda está dentro de los límites del laberinto,
-     *         false si está fuera de los límites o si current es null
-     */
-    private boolean isInMaze(Cell current) {
-        return current != null && 
-               current.row >= 0 && 
-               current.col >= 0 && 
-               current.row < grid.length && 
-               current.col < grid[0].length;
+     * Prepara la búsqueda con backtracking con una pila explícita de marcos en el heap, que
+     * visita las celdas en el mismo orden que {@link #findPath(int, int)} y construye el camino
+     * igual. Como en la versión recursiva, explora las cuatro direcciones, no entra en
+     * celdas ya visitadas y el camino no incluye el destino.
+     *
+     * @param grid Laberinto empaquetado a un bit por celda
+     * @param start Celda desde la cual comenzar la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return Cursor que avanza la búsqueda celda por celda
+     */
+    @Override
+    public SearchCursor startSearch(MazeGrid grid, Cell start, Cell end) {
+        return new ExplorationCursor(grid, start, end, directions, true, false);
     }
-    
+
     /**
      * Verifica si una celda es válida para ser visitada durante la búsqueda.
      * Una celda es válida si:
-     * - Es transitable (grid[row][col] == true)
+     * - Está dentro del laberinto y es transitable (su bit vale 1)
      * - No ha sido visitada previamente en la búsqueda actual
      * 
      * Esta verificación es crucial para evitar ciclos infinitos en la recursión
      * y asegurar que solo se exploren celdas que pueden formar parte de un camino válido.
      * 
-     * @param current Celda a verificar
+     * @param row Fila de la celda a verificar
+     * @param col Columna de la celda a verificar
      * @return true si la celda es transitable y no ha sido visitada,
      *         false en caso contrario
      */
-    private boolean isValid(Cell current) {
-        return grid[current.row][current.col] && !visited.contains(current);
+    private boolean isValid(int row, int col) {
+        return grid.isOpen(row, col) && !marked.contains(CellKeys.of(row, col, cols));
     }
 
 }
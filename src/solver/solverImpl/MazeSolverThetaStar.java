@@ -0,0 +1,353 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import models.Cell;
+import models.AlgorithmResult;
+import solver.MazeSolver;
+import solver.MovementModel;
+
+/**
+ * Implementación de Theta* para obtener caminos de cualquier ángulo.
+ * Esta clase implementa la interfaz MazeSolver con una variante de A* en la que cada
+ * celda puede tomar como padre a una celda lejana siempre que exista línea de vista entre
+ * ambas, por lo que el camino resultante es una secuencia de segmentos rectos en lugar de
+ * una escalera de pasos de la grilla.
+ *
+ * Características del algoritmo:
+ * - Al relajar un vecino, si el padre de la celda actual lo ve directamente, el vecino
+ *   cuelga de ese padre (ruta 2); si no, cuelga de la celda actual como en A* (ruta 1)
+ * - La línea de vista se traza con Bresenham sobre la grilla y cada paso del trazo debe
+ *   estar permitido por el {@link MovementModel} (incluida la regla de esquinas), de modo
+ *   que cada segmento del camino es realmente transitable
+ * - Los costos son distancias euclidianas y la heurística es la distancia euclidiana al
+ *   destino
+ * - El camino retornado contiene solo los puntos de giro (inicio, giros y destino);
+ *   {@link #toGridPath(List)} lo convierte en la secuencia de celdas recorridas
+ * - En salas abiertas produce caminos más cortos que A* de 4 u 8 direcciones y con muchos
+ *   menos puntos de paso
+ *
+ * Complejidad temporal: O(V log V) expansiones, cada una con trazos de línea de vista
+ * de longitud O(√V) en el peor caso
+ * Complejidad espacial: O(V) para los arreglos de costos, padres y el montículo
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+public class MazeSolverThetaStar implements MazeSolver {
+    /**
+     * Matriz booleana que representa el laberinto.
+     * true indica una celda transitable, false indica una pared u obstáculo.
+     */
+    private boolean[][] grid;
+
+    /**
+     * Lista que almacena los puntos de giro del camino, desde el inicio hasta el destino.
+     */
+    private List<Cell> path;
+
+    /**
+     * Conjunto ordenado de celdas expandidas durante la ejecución del algoritmo.
+     */
+    private Set<Cell> visited;
+
+    /**
+     * Longitud euclidiana del último camino encontrado, o -1 si no se encontró camino.
+     */
+    private double lastLength;
+
+    /**
+     * Modelo de movimiento que define los vecinos y los pasos válidos de cada segmento.
+     */
+    private final MovementModel movement;
+
+    /**
+     * Matriz que define las direcciones de movimiento posibles en el laberinto,
+     * tomadas del modelo de movimiento.
+     */
+    private final int[][] directions;
+
+    /**
+     * Constructor que usa el movimiento de 8 direcciones sin cortar esquinas.
+     */
+    public MazeSolverThetaStar() {
+        this(MovementModel.EIGHT_CONNECTED);
+    }
+
+    /**
+     * Constructor con un modelo de movimiento personalizado.
+     * Con {@link MovementModel#FOUR_CONNECTED} solo hay línea de vista en segmentos
+     * horizontales o verticales.
+     *
+     * @param movement Modelo de movimiento de las expansiones y de la línea de vista
+     */
+    public MazeSolverThetaStar(MovementModel movement) {
+        this.movement = movement;
+        directions = movement.getDirections();
+        grid = new boolean[][] {};
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        lastLength = -1;
+    }
+
+    /**
+     * Implementación de Theta* para encontrar un camino de cualquier ángulo en el laberinto.
+     *
+     * Proceso del algoritmo:
+     * 1. Coloca el inicio en la lista abierta como su propio padre
+     * 2. Mientras la lista abierta no esté vacía:
+     *    - Extrae la celda con menor f = g + h
+     *    - Si es el destino, reconstruye y retorna los puntos de giro
+     *    - Para cada vecino permitido, prueba colgarlo del padre de la celda actual si
+     *      hay línea de vista y, si no, de la celda actual
+     * 3. Si la lista abierta se vacía sin encontrar el destino, retorna un camino vacío
+     *
+     * @param grid Matriz booleana que representa el laberinto donde true indica
+     *             celda transitable y false indica pared
+     * @param start Celda de inicio de la búsqueda
+     * @param end Celda de destino a alcanzar
+     * @return AlgorithmResult que contiene los puntos de giro del camino encontrado y
+     *         el conjunto de celdas expandidas durante la búsqueda
+     */
+    @Override
+    public AlgorithmResult getPath(boolean[][] grid, Cell start, Cell end) {
+        // Reinicializar estructuras de datos para nueva búsqueda
+        path = new ArrayList<>();
+        visited = new LinkedHashSet<>();
+        lastLength = -1;
+        this.grid = grid;
+
+        // Validación de entrada
+        if (grid == null || grid.length == 0 || !isInMaze(start) || !isInMaze(end)
+                || !grid[start.row][start.col] || !grid[end.row][end.col]) {
+            return new AlgorithmResult(path, visited);
+        }
+
+        int cols = grid[0].length;
+        int total = grid.length * cols;
+        int source = start.row * cols + start.col;
+        int target = end.row * cols + end.col;
+
+        // Costos euclidianos, padres y estado cerrado indexados por celda
+        double[] cost = new double[total];
+        int[] parent = new int[total];
+        boolean[] closed = new boolean[total];
+        int[] order = new int[total];
+        int expanded = 0;
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+
+        IntBinaryHeap open = new IntBinaryHeap(total);
+        cost[source] = 0;
+        parent[source] = source;
+        open.push(source, priority(heuristic(start.row, start.col, end)));
+
+        // Bucle principal de Theta*
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            closed[current] = true;
+            order[expanded++] = current;
+
+            // Verificar si se alcanzó el destino
+            if (current == target) {
+                lastLength = cost[target];
+                buildPath(parent, target, cols);
+                return new AlgorithmResult(path, toCells(order, expanded, cols));
+            }
+
+            // Relajar celdas vecinas
+            int row = current / cols;
+            int col = current - row * cols;
+            int grandParent = parent[current];
+            for (int[] dir : directions) {
+                if (!movement.canMove(grid, row, col, dir[0], dir[1])) continue;
+                int nr = row + dir[0];
+                int nc = col + dir[1];
+                int next = nr * cols + nc;
+                if (closed[next]) continue;
+
+                // Ruta 2: colgar del padre si lo ve; ruta 1: colgar de la celda actual
+                int from;
+                double nextCost;
+                int pr = grandParent / cols;
+                int pc = grandParent - pr * cols;
+                if (grandParent != current && hasLineOfSight(pr, pc, nr, nc)) {
+                    from = grandParent;
+                    nextCost = cost[grandParent] + Math.hypot(nr - pr, nc - pc);
+                } else {
+                    from = current;
+                    nextCost = cost[current] + Math.hypot(dir[0], dir[1]);
+                }
+                if (nextCost >= cost[next]) continue;
+                cost[next] = nextCost;
+                parent[next] = from;
+                open.push(next, priority(nextCost + heuristic(nr, nc, end)));
+            }
+        }
+
+        // No se encontró camino al destino
+        return new AlgorithmResult(new ArrayList<>(), toCells(order, expanded, cols));
+    }
+
+    /**
+     * Obtiene la longitud euclidiana del camino encontrado en la última búsqueda.
+     *
+     * @return Suma de las longitudes de los segmentos, o -1 si no se encontró camino
+     */
+    public double getLastLength() {
+        return lastLength;
+    }
+
+    /**
+     * Convierte los puntos de giro de un camino de cualquier ángulo en la secuencia de
+     * celdas que recorre, trazando cada segmento con Bresenham en el mismo sentido en que
+     * se verificó la línea de vista.
+     *
+     * @param waypoints Puntos de giro desde el inicio hasta el destino
+     * @return Celdas recorridas, sin repetir los puntos de unión entre segmentos
+     */
+    public static List<Cell> toGridPath(List<Cell> waypoints) {
+        List<Cell> cells = new ArrayList<>();
+        if (waypoints == null || waypoints.isEmpty()) return cells;
+        cells.add(waypoints.get(0));
+        for (int i = 1; i < waypoints.size(); i++) {
+            Cell from = waypoints.get(i - 1);
+            Cell to = waypoints.get(i);
+            int dc = Math.abs(to.col - from.col);
+            int dr = -Math.abs(to.row - from.row);
+            int sc = Integer.signum(to.col - from.col);
+            int sr = Integer.signum(to.row - from.row);
+            int err = dc + dr;
+            int row = from.row;
+            int col = from.col;
+            while (row != to.row || col != to.col) {
+                int e2 = 2 * err;
+                if (e2 >= dr) {
+                    err += dr;
+                    col += sc;
+                }
+                if (e2 <= dc) {
+                    err += dc;
+                    row += sr;
+                }
+                cells.add(new Cell(row, col));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Verifica la línea de vista entre dos celdas trazando el segmento con Bresenham.
+     * Cada paso del trazo (recto o diagonal) debe estar permitido por el modelo de
+     * movimiento, así que el segmento se puede recorrer celda a celda.
+     *
+     * @param r0 Fila de la celda de origen
+     * @param c0 Columna de la celda de origen
+     * @param r1 Fila de la celda de destino
+     * @param c1 Columna de la celda de destino
+     * @return true si todos los pasos del trazo son válidos
+     */
+    private boolean hasLineOfSight(int r0, int c0, int r1, int c1) {
+        int dc = Math.abs(c1 - c0);
+        int dr = -Math.abs(r1 - r0);
+        int sc = Integer.signum(c1 - c0);
+        int sr = Integer.signum(r1 - r0);
+        int err = dc + dr;
+        int row = r0;
+        int col = c0;
+        while (row != r1 || col != c1) {
+            int e2 = 2 * err;
+            int stepCol = 0;
+            int stepRow = 0;
+            if (e2 >= dr) {
+                err += dr;
+                stepCol = sc;
+            }
+            if (e2 <= dc) {
+                err += dc;
+                stepRow = sr;
+            }
+            if (!movement.canMove(grid, row, col, stepRow, stepCol)) return false;
+            row += stepRow;
+            col += stepCol;
+        }
+        return true;
+    }
+
+    /**
+     * Calcula la distancia euclidiana entre una celda y el destino.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param end Celda de destino
+     * @return Distancia en línea recta sin considerar paredes
+     */
+    private static double heuristic(int row, int col, Cell end) {
+        return Math.hypot(row - end.row, col - end.col);
+    }
+
+    /**
+     * Convierte f = g + h en una clave para el montículo. Para valores no negativos,
+     * el orden de los bits de un double coincide con el orden numérico.
+     *
+     * @param f Costo total estimado
+     * @return Prioridad para el montículo
+     */
+    private static long priority(double f) {
+        return Double.doubleToLongBits(f);
+    }
+
+    /**
+     * Reconstruye los puntos de giro desde el destino hasta el inicio siguiendo el
+     * arreglo de padres y los almacena en orden desde el inicio hasta el destino.
+     *
+     * @param parent Arreglo de padres indexado por celda (el inicio es su propio padre)
+     * @param target Índice lineal del destino
+     * @param cols Número de columnas del laberinto
+     */
+    private void buildPath(int[] parent, int target, int cols) {
+        int length = 1;
+        for (int node = target; parent[node] != node; node = parent[node]) length++;
+        Cell[] cells = new Cell[length];
+        int node = target;
+        for (int i = length - 1; i >= 0; i--) {
+            cells[i] = new Cell(node / cols, node % cols);
+            node = parent[node];
+        }
+        path = new ArrayList<>(Arrays.asList(cells));
+    }
+
+    /**
+     * Convierte la secuencia de índices expandidos en un conjunto ordenado de celdas.
+     *
+     * @param order Índices de celdas en orden de expansión
+     * @param count Número de celdas expandidas
+     * @param cols Número de columnas del laberinto
+     * @return Conjunto de celdas visitadas en orden de expansión
+     */
+    private Set<Cell> toCells(int[] order, int count, int cols) {
+        visited = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            visited.add(new Cell(order[i] / cols, order[i] % cols));
+        }
+        return visited;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     *
+     * @param current Celda a verificar
+     * @return true si la celda está dentro de los límites del laberinto,
+     *         false si está fuera de los límites o si current es null
+     */
+    private boolean isInMaze(Cell current) {
+        return current != null &&
+               current.row >= 0 &&
+               current.col >= 0 &&
+               current.row < grid.length &&
+               current.col < grid[0].length;
+    }
+}
@@ -0,0 +1,97 @@
+package solver.solverImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import models.Cell;
+import models.CellKeys;
+
+/**
+ * Arreglo denso de padres para búsquedas en grilla de cuatro direcciones. En lugar de
+ * guardar la celda padre, guarda en 2 bits el índice de la dirección con la que se llegó
+ * a cada celda; el padre se obtiene restando esa dirección. Un laberinto de 4 millones de
+ * celdas ocupa 1 MB, frente a las tres entradas de objeto por celda de un
+ * {@code HashMap<Cell, Cell>}.
+ *
+ * El origen no necesita marca propia: la reconstrucción se detiene al llegar a él.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+class ParentDirections {
+    /**
+     * Direcciones de 2 bits, 32 celdas por palabra.
+     */
+    private final long[] bits;
+
+    /**
+     * Constructor que reserva espacio para el número de celdas indicado.
+     *
+     * @param cells Número de celdas del laberinto (filas * columnas)
+     */
+    ParentDirections(int cells) {
+        bits = new long[(cells + 31) >>> 5];
+    }
+
+    /**
+     * Registra la dirección con la que se llegó a una celda.
+     *
+     * @param key Clave de la celda
+     * @param direction Índice de la dirección (0 a 3) en el arreglo de direcciones de la búsqueda
+     */
+    void set(int key, int direction) {
+        int word = key >>> 5;
+        int shift = (key & 31) << 1;
+        bits[word] = (bits[word] & ~(3L << shift)) | ((long) direction << shift);
+    }
+
+    /**
+     * Obtiene la dirección con la que se llegó a una celda.
+     *
+     * @param key Clave de la celda
+     * @return Índice de la dirección (0 a 3)
+     */
+    int get(int key) {
+        return (int) (bits[key >>> 5] >>> ((key & 31) << 1)) & 3;
+    }
+
+    /**
+     * Reconstruye el camino desde el origen hasta el destino restando las direcciones
+     * registradas. Las celdas se colocan de atrás hacia adelante en un arreglo, sin
+     * insertar al inicio de la lista.
+     *
+     * @param source Clave del origen
+     * @param target Clave del destino
+     * @param directions Direcciones de la búsqueda, en el orden de los índices registrados
+     * @param cols Número de columnas del laberinto
+     * @return Camino desde el origen hasta el destino
+     */
+    List<Cell> buildPath(int source, int target, int[][] directions, int cols) {
+        int length = 1;
+        for (int node = target; node != source; length++) {
+            node = parentOf(node, directions, cols);
+        }
+        Cell[] cells = new Cell[length];
+        int node = target;
+        for (int i = length - 1; i > 0; i--) {
+            cells[i] = CellKeys.toCell(node, cols);
+            node = parentOf(node, directions, cols);
+        }
+        cells[0] = CellKeys.toCell(source, cols);
+        return new ArrayList<>(Arrays.asList(cells));
+    }
+
+    /**
+     * Calcula la clave del padre de una celda.
+     *
+     * @param key Clave de la celda (distinta del origen)
+     * @param directions Direcciones de la búsqueda
+     * @param cols Número de columnas del laberinto
+     * @return Clave de la celda padre
+     */
+    private int parentOf(int key, int[][] directions, int cols) {
+        int[] dir = directions[get(key)];
+        return key - CellKeys.of(dir[0], dir[1], cols);
+    }
+}
@@ -0,0 +1,129 @@
+package solver.solverImpl;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import models.Cell;
+import models.CellKeys;
+
+/**
+ * Conjunto de celdas visitadas indexado por clave ({@code fila * columnas + columna}),
+ * que además recuerda el orden de la primera visita. Reemplaza a los
+ * {@code Set<Cell>} en los bucles de búsqueda: marcar o consultar una celda no crea
+ * objetos, y las celdas se materializan solo al construir el resultado.
+ *
+ * Cada celda guarda la generación en la que fue visitada: una celda está en el conjunto
+ * si su marca es igual a la generación actual. {@link #reset(int, int)} vacía el conjunto
+ * incrementando la generación, sin recorrer ni reservar los arreglos mientras el
+ * laberinto no crezca, por lo que una misma instancia puede reutilizarse en miles de
+ * búsquedas seguidas (ver {@link VisitedWorkspace}).
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+class VisitedCells {
+    /**
+     * Número de columnas del laberinto, para convertir claves en celdas.
+     */
+    private int cols;
+
+    /**
+     * Generación en la que se visitó cada celda, indexada por clave.
+     */
+    private int[] stamp;
+
+    /**
+     * Generación de la búsqueda actual (siempre mayor que 0).
+     */
+    private int generation;
+
+    /**
+     * Claves en orden de primera visita.
+     */
+    private int[] order;
+
+    /**
+     * Número de celdas visitadas.
+     */
+    private int size;
+
+    /**
+     * Constructor que crea un conjunto vacío para un laberinto de rows x cols celdas.
+     *
+     * @param rows Número de filas del laberinto
+     * @param cols Número de columnas del laberinto
+     */
+    VisitedCells(int rows, int cols) {
+        stamp = new int[0];
+        order = new int[0];
+        reset(rows, cols);
+    }
+
+    /**
+     * Vacía el conjunto para una nueva búsqueda en un laberinto de rows x cols celdas.
+     * Solo reserva memoria si el laberinto tiene más celdas que cualquiera anterior, y
+     * solo recorre las marcas cuando la generación se desborda.
+     *
+     * @param rows Número de filas del laberinto
+     * @param cols Número de columnas del laberinto
+     */
+    void reset(int rows, int cols) {
+        int total = rows * cols;
+        if (stamp.length < total) {
+            stamp = new int[total];
+            order = new int[total];
+            generation = 0;
+        }
+        if (generation == Integer.MAX_VALUE) {
+            // Desborde de la generación: reiniciar las marcas una sola vez
+            Arrays.fill(stamp, 0);
+            generation = 0;
+        }
+        generation++;
+        this.cols = cols;
+        size = 0;
+    }
+
+    /**
+     * Verifica si una celda ya fue visitada.
+     *
+     * @param key Clave de la celda
+     * @return true si la celda está en el conjunto
+     */
+    boolean contains(int key) {
+        return stamp[key] == generation;
+    }
+
+    /**
+     * Marca una celda como visitada si no lo estaba.
+     *
+     * @param key Clave de la celda
+     * @return true si la celda es nueva en el conjunto
+     */
+    boolean add(int key) {
+        if (stamp[key] == generation) return false;
+        stamp[key] = generation;
+        order[size++] = key;
+        return true;
+    }
+
+    /**
+     * Obtiene el número de celdas visitadas.
+     *
+     * @return Tamaño del conjunto
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Agrega a una colección las celdas visitadas entre dos posiciones del orden de visita.
+     *
+     * @param from Primera posición (incluida)
+     * @param to Última posición (excluida)
+     * @param out Colección que recibe las celdas
+     */
+    void copyTo(int from, int to, Collection<Cell> out) {
+        CellKeys.addCells(order, from, to, cols, out);
+    }
+}
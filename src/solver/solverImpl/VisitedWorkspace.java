@@ -0,0 +1,48 @@
+package solver.solverImpl;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Espacio de trabajo que conserva un {@link VisitedCells} entre búsquedas de un mismo
+ * algoritmo. Cada {@code getPath} toma el conjunto, lo vacía por generación y lo devuelve
+ * al terminar, de modo que las consultas repetidas sobre laberintos del mismo tamaño no
+ * reservan ni limpian arreglos de visitadas.
+ *
+ * Si dos búsquedas del mismo algoritmo se ejecutan a la vez (por ejemplo desde hilos
+ * distintos), la segunda no encuentra el conjunto libre y crea uno propio; nunca se
+ * comparte un conjunto entre búsquedas en curso. Los cursores paso a paso de
+ * {@code startSearch} no usan este espacio, porque su vida no está acotada a una llamada.
+ *
+ * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
+ * @version 1.0
+ */
+class VisitedWorkspace {
+    /**
+     * Conjunto libre para la siguiente búsqueda, o null si está en uso.
+     */
+    private final AtomicReference<VisitedCells> idle = new AtomicReference<>();
+
+    /**
+     * Toma el conjunto libre (o crea uno nuevo si está en uso) y lo vacía para un
+     * laberinto de rows x cols celdas.
+     *
+     * @param rows Número de filas del laberinto
+     * @param cols Número de columnas del laberinto
+     * @return Conjunto vacío reservado para quien lo toma
+     */
+    VisitedCells acquire(int rows, int cols) {
+        VisitedCells cells = idle.getAndSet(null);
+        if (cells == null) return new VisitedCells(rows, cols);
+        cells.reset(rows, cols);
+        return cells;
+    }
+
+    /**
+     * Devuelve un conjunto para que lo use la siguiente búsqueda.
+     *
+     * @param cells Conjunto obtenido con {@link #acquire(int, int)}
+     */
+    void release(VisitedCells cells) {
+        idle.set(cells);
+    }
+}
@@ -38,7 +38,7 @@ public class MazeFrame extends JFrame {
     
     /**
      * ComboBox que permite seleccionar el algoritmo de resolución a utilizar.
-     * Contiene las opciones: Recursivo, Completo, Completo BT, BFS, DFS.
+     * Contiene las opciones: Recursivo, Completo, Completo BT, BFS, DFS, A*, BFS Bidireccional, JPS, BFS Bit-paralelo, BFS Paralelo, BFS Top-down/Bottom-up, Relleno de Callejones, Grafo de Corredores, HPA*, A* ALT, D* Lite, Dijkstra (Terreno), A* 8 direcciones, Theta*, IDA*, ARA*.
      */
     JComboBox<String> methods;
     
@@ -159,6 +159,7 @@ public class MazeFrame extends JFrame {
         topToolBar.add(createModeButton("Set Start"));
         topToolBar.add(createModeButton("Set End"));
         topToolBar.add(createModeButton("Toggle Wall"));
+        topToolBar.add(createModeButton("Paint Terrain"));
 
         mainPanel.add(topToolBar, BorderLayout.NORTH);
 
@@ -171,7 +172,7 @@ public class MazeFrame extends JFrame {
         bottomToolBar.setFloatable(false);
 
         // Selector de algoritmo
-        methods = new JComboBox<>(new String[]{"Recursivo", "Completo", "Completo BT", "BFS", "DFS"});
+        methods = new JComboBox<>(new String[]{"Recursivo", "Completo", "Completo BT", "BFS", "DFS", "A*", "BFS Bidireccional", "JPS", "BFS Bit-paralelo", "BFS Paralelo", "BFS Top-down/Bottom-up", "Relleno de Callejones", "Grafo de Corredores", "HPA*", "A* ALT", "D* Lite", "Dijkstra (Terreno)", "A* 8 direcciones", "Theta*", "IDA*", "ARA*"});
         bottomToolBar.add(new JLabel("Algoritmo:"));
         bottomToolBar.add(methods);
 
@@ -180,6 +181,7 @@ public class MazeFrame extends JFrame {
         bottomToolBar.add(createMazeButton("Resolver"));
         bottomToolBar.add(createMazeButton("Paso a paso"));
         bottomToolBar.add(createMazeButton("Limpiar"));
+        bottomToolBar.add(createMazeButton("Campo de Flujo"));
 
         mainPanel.add(bottomToolBar, BorderLayout.SOUTH);
         add(mainPanel);
@@ -188,7 +190,7 @@ public class MazeFrame extends JFrame {
     /**
      * Crea botones para cambiar el modo de edición del laberinto.
      * Estos botones permiten al usuario cambiar entre diferentes modos:
-     * establecer punto de inicio, punto final, o alternar paredes.
+     * establecer punto de inicio, punto final, alternar paredes o pintar terreno.
      * 
      * @param text Texto del botón que determina su funcionalidad
      * @return JButton configurado con el ActionListener apropiado
@@ -209,6 +211,9 @@ public class MazeFrame extends JFrame {
                     case "Toggle Wall":
                         mazePanel.setMode(MazePanel.Mode.TOGGLE_WALL);
                         break;
+                    case "Paint Terrain":
+                        mazePanel.setMode(MazePanel.Mode.PAINT_TERRAIN);
+                        break;
                 }
             }
         });
@@ -225,6 +230,7 @@ public class MazeFrame extends JFrame {
      * - Resolver: Ejecuta el algoritmo seleccionado de forma completa
      * - Paso a paso: Ejecuta el algoritmo con visualización gradual
      * - Limpiar: Reinicia el laberinto a su estado inicial
+     * - Campo de Flujo: Muestra u oculta las flechas hacia el destino
      * 
      * @param text Texto del botón que determina su funcionalidad
      * @return JButton configurado con el ActionListener apropiado
@@ -254,6 +260,9 @@ public class MazeFrame extends JFrame {
                     case "Limpiar":
                         mazePanel.clearMaze();
                         break;
+                    case "Campo de Flujo":
+                        mazePanel.toggleFlowField();
+                        break;
                 }
             }
         });
@@ -6,14 +6,20 @@ import controllers.MazeController;
 import models.Cell;
 import models.CellState;
 import models.SolveResults;
+import models.WeightedGrid;
+import solver.SearchCursor;
+import solver.index.FlowField;
 import models.AlgorithmResult;
 
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Panel personalizado que maneja la visualización y edición interactiva del laberinto.
@@ -26,6 +32,9 @@ import java.util.Set;
  * - Ejecución de algoritmos de resolución con visualización de resultados
  * - Animaciones para mostrar el proceso de búsqueda paso a paso
  * - Modo de resolución automática y modo paso a paso
+ * - Resolución anytime con ARA*: muestra el mejor camino disponible y lo reemplaza
+ *   cuando llega uno mejor
+ * - Superposición opcional del campo de flujo hacia el destino (flechas por celda)
  * - Limpieza y reinicio del laberinto
  * 
  * Estados de celda soportados:
@@ -35,11 +44,14 @@ import java.util.Set;
  * - END: Punto de destino (rojo)
  * - VISITED: Celda explorada durante búsqueda (gris claro)
  * - PATH: Celda que forma parte del camino solución (azul)
+ * - MUD: Terreno de barro, transitable con costo 3 (marrón)
+ * - STAIRS: Escaleras, transitables con costo 5 (naranja)
  * 
  * Modos de edición:
  * - SET_START: Permite establecer el punto de inicio
  * - SET_END: Permite establecer el punto de destino
  * - TOGGLE_WALL: Permite alternar entre pared y celda vacía
+ * - PAINT_TERRAIN: Permite alternar el terreno de una celda libre (normal, barro, escaleras)
  * 
  * @author [Valeria Guamán, Jamileth Kumpanam, Sebastián López, Andrés Villalta]
  * @version 1.0
@@ -55,7 +67,9 @@ public class MazePanel extends JPanel {
         /** Modo para establecer el punto de destino del laberinto */
         SET_END, 
         /** Modo para alternar entre pared y celda vacía */
-        TOGGLE_WALL 
+        TOGGLE_WALL,
+        /** Modo para alternar el terreno de una celda libre: normal, barro y escaleras */
+        PAINT_TERRAIN
     }
     
     /**
@@ -98,6 +112,13 @@ public class MazePanel extends JPanel {
      */
     private CellState[][] grid;
 
+    /**
+     * Terreno de cada celda (EMPTY, MUD o STAIRS), independiente de lo que se muestre
+     * encima. Permite restaurar el terreno al limpiar la visualización o al mover el
+     * inicio y el destino, y construir la grilla ponderada para Dijkstra (Terreno).
+     */
+    private CellState[][] terrain;
+
     /**
      * Almacena el resultado del algoritmo para el modo de resolución paso a paso.
      * Permite continuar la visualización desde donde se quedó.
@@ -110,6 +131,33 @@ public class MazePanel extends JPanel {
      */
     private String methodBySteps;
 
+    /**
+     * Búsqueda en curso del modo paso a paso para los algoritmos que pueden avanzarse
+     * por partes, o null si el algoritmo se ejecutó completo de antemano.
+     */
+    private SearchCursor cursorBySteps;
+
+    /**
+     * Indica si se dibujan las flechas del campo de flujo hacia el destino.
+     */
+    private boolean showFlowField;
+
+    /**
+     * Campo de flujo que se dibuja sobre el laberinto, o null si está oculto o no hay destino.
+     */
+    private FlowField flowField;
+
+    /**
+     * Tiempo que ARA* dispone para mejorar su camino, en milisegundos.
+     */
+    private static final long ANYTIME_BUDGET_MILLIS = 1000;
+
+    /**
+     * Resolución con ARA* en segundo plano, o null si no hay ninguna en curso.
+     * Publica cada camino mejorado para reemplazar el que se está mostrando.
+     */
+    private SwingWorker<AlgorithmResult, List<Cell>> anytimeWorker;
+
     /**
      * Constructor que inicializa el panel del laberinto con las dimensiones especificadas.
      * Configura todos los componentes necesarios incluyendo el controlador, la grilla,
@@ -123,6 +171,7 @@ public class MazePanel extends JPanel {
         this.rows = rows;
         this.cols = cols;
         this.grid = new CellState[rows][cols];
+        this.terrain = new CellState[rows][cols];
         initializeGrid();
         setBackground(Color.WHITE);
         setBorder(BorderFactory.createLineBorder(Color.BLACK));
@@ -155,6 +204,7 @@ public class MazePanel extends JPanel {
         for (int row = 0; row < rows; row++) {
             for (int col = 0; col < cols; col++) {
                 grid[row][col] = CellState.EMPTY;
+                terrain[row][col] = CellState.EMPTY;
             }
         }
     }
@@ -202,6 +252,42 @@ public class MazePanel extends JPanel {
                 else if (grid[row][col] == CellState.END) g.setColor(Color.WHITE);
             }
         }
+
+        // Dibujar las flechas del campo de flujo sobre las celdas
+        if (flowField != null) {
+            paintFlowField(g, cellw, cellh, offsetCol, offsetRow);
+        }
+    }
+
+    /**
+     * Dibuja una flecha por celda con la dirección del siguiente paso hacia el destino.
+     * Las celdas sin dirección (destino, paredes y celdas sin camino) no se dibujan.
+     * 
+     * @param g Contexto gráfico donde se dibuja
+     * @param cellw Ancho de cada celda en píxeles
+     * @param cellh Alto de cada celda en píxeles
+     * @param offsetCol Desplazamiento horizontal del laberinto
+     * @param offsetRow Desplazamiento vertical del laberinto
+     */
+    private void paintFlowField(Graphics g, int cellw, int cellh, int offsetCol, int offsetRow) {
+        g.setColor(Color.DARK_GRAY);
+        int length = Math.min(cellw, cellh) * 3 / 8;
+        int head = Math.max(2, length / 2);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int dir = flowField.getDirection(row, col);
+                if (dir < 0) continue;
+                int[] delta = FlowField.getDelta(dir);
+                int cx = offsetCol + col * cellw + cellw / 2;
+                int cy = offsetRow + row * cellh + cellh / 2;
+                int tipX = cx + delta[1] * length;
+                int tipY = cy + delta[0] * length;
+                // Cuerpo de la flecha y punta con dos trazos perpendiculares
+                g.drawLine(cx - delta[1] * length, cy - delta[0] * length, tipX, tipY);
+                g.drawLine(tipX, tipY, tipX - delta[1] * head + delta[0] * head, tipY - delta[0] * head + delta[1] * head);
+                g.drawLine(tipX, tipY, tipX - delta[1] * head - delta[0] * head, tipY - delta[0] * head - delta[1] * head);
+            }
+        }
     }
     
     /**
@@ -215,7 +301,15 @@ public class MazePanel extends JPanel {
      * - SET_END: Establece la celda clickeada como punto de destino,
      *            removiendo el punto de destino anterior si existe
      * - TOGGLE_WALL: Alterna entre pared y celda vacía, solo si la celda
-     *                no es punto de inicio o destino
+     *                no es punto de inicio o destino (al quitar la pared se
+     *                restaura el terreno de la celda)
+     * - PAINT_TERRAIN: Alterna el terreno de una celda libre entre normal,
+     *                  barro y escaleras
+     * 
+     * Antes de la acción se detiene cualquier resolución con ARA* en curso, cuyos caminos
+     * ya no corresponderían al laberinto. Después de la acción se notifica al controlador
+     * el estado de la celda, para que la abstracción de HPA* y D* Lite reparen solo la
+     * región afectada.
      * 
      * @param mouseX Coordenada X del clic del mouse en píxeles
      * @param mouseY Coordenada Y del clic del mouse en píxeles
@@ -227,19 +321,25 @@ public class MazePanel extends JPanel {
         
         // Verificar que las coordenadas estén dentro del laberinto
         if (col >= cols || row >= rows) return;
+
+        // Detener una resolución con ARA* en curso: sus caminos son del laberinto anterior
+        if (anytimeWorker != null) {
+            anytimeWorker.cancel(true);
+            anytimeWorker = null;
+        }
         
         // Ejecutar acción según el modo actual
         switch (currentMode) {
             case SET_START:
                 // Limpiar punto de inicio anterior si existe
-                if (start != null) grid[start.row][start.col] = CellState.EMPTY;
+                if (start != null) grid[start.row][start.col] = terrain[start.row][start.col];
                 start = new Cell(row, col);
                 grid[row][col] = CellState.START;
                 break;
 
             case SET_END:
                 // Limpiar punto de destino anterior si existe
-                if (end != null) grid[end.row][end.col] = CellState.EMPTY;
+                if (end != null) grid[end.row][end.col] = terrain[end.row][end.col];
                 end = new Cell(row, col);
                 grid[row][col] = CellState.END;
                 break;
@@ -247,20 +347,67 @@ public class MazePanel extends JPanel {
             case TOGGLE_WALL:
                 // Alternar entre pared y celda vacía
                 if (grid[row][col] == CellState.WALL) {
-                    grid[row][col] = CellState.EMPTY;
-                } else if (grid[row][col] == CellState.EMPTY) {
+                    grid[row][col] = terrain[row][col];
+                } else if (grid[row][col] == terrain[row][col]) {
                     grid[row][col] = CellState.WALL;
                 }
                 break;
+
+            case PAINT_TERRAIN:
+                // Alternar terreno: normal -> barro -> escaleras -> normal
+                if (grid[row][col] == terrain[row][col]) {
+                    if (terrain[row][col] == CellState.EMPTY) terrain[row][col] = CellState.MUD;
+                    else if (terrain[row][col] == CellState.MUD) terrain[row][col] = CellState.STAIRS;
+                    else terrain[row][col] = CellState.EMPTY;
+                    grid[row][col] = terrain[row][col];
+                }
+                break;
         }
+        // Notificar el estado de la celda para actualizar los índices incrementales
+        controller.updateCell(row, col, grid[row][col] != CellState.WALL);
+        refreshFlowField();
         repaint(); // Actualizar la visualización
     }
 
+    /**
+     * Muestra u oculta las flechas del campo de flujo hacia el destino.
+     * El campo se recalcula al editar el laberinto mientras está visible.
+     */
+    public void toggleFlowField() {
+        showFlowField = !showFlowField;
+        refreshFlowField();
+        repaint();
+    }
+
+    /**
+     * Obtiene del controlador el campo de flujo del laberinto actual si la superposición
+     * está activa y hay un destino; en otro caso lo descarta.
+     */
+    private void refreshFlowField() {
+        flowField = showFlowField && end != null ? controller.obtainFlowField(buildBooleanGrid(), end) : null;
+    }
+
+    /**
+     * Convierte la grilla visual de estados de celda a la matriz booleana que usan los
+     * algoritmos (true = transitable, false = pared).
+     * 
+     * @return Matriz booleana del laberinto
+     */
+    private boolean[][] buildBooleanGrid() {
+        boolean[][] mazeBool = new boolean[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                mazeBool[row][col] = grid[row][col] != CellState.WALL;
+            }
+        }
+        return mazeBool;
+    }
+
     /**
      * Establece el modo de edición del panel.
      * Este modo determina qué acción se ejecuta cuando el usuario hace clic en una celda.
      * 
-     * @param mode Nuevo modo de edición (SET_START, SET_END, o TOGGLE_WALL)
+     * @param mode Nuevo modo de edición (SET_START, SET_END, TOGGLE_WALL o PAINT_TERRAIN)
      */
     public void setMode(Mode mode) {
         this.currentMode = mode;
@@ -270,21 +417,17 @@ public class MazePanel extends JPanel {
      * Ejecuta el algoritmo de resolución especificado y retorna el resultado.
      * Convierte la grilla visual de estados de celda a una matriz booleana
      * que pueden usar los algoritmos, y delega la resolución al controlador apropiado.
+     * Dijkstra (Terreno) recibe en cambio una grilla ponderada con el costo del terreno
+     * de cada celda.
      * 
      * @param method Nombre del algoritmo a utilizar:
-     *               "Recursivo", "Completo", "Completo BT", "BFS", o "DFS"
+     *               "Recursivo", "Completo", "Completo BT", "BFS", "DFS", "A*", "BFS Bidireccional", "JPS", "BFS Bit-paralelo", "BFS Paralelo", "BFS Top-down/Bottom-up", "Relleno de Callejones", "Grafo de Corredores", "HPA*", "A* ALT", "D* Lite", "Dijkstra (Terreno)", "A* 8 direcciones", "Theta*", "IDA*" o "ARA*"
      * @return AlgorithmResult con el camino encontrado y las celdas visitadas,
      *         o null si el método no es reconocido
      */
     private AlgorithmResult getResult(String method) {
         // Convertir grilla de estados a matriz booleana para los algoritmos
-        boolean[][] mazeBool = new boolean[rows][cols];
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                // true = transitable, false = pared
-                mazeBool[row][col] = grid[row][col] != CellState.WALL;
-            }
-        }
+        boolean[][] mazeBool = buildBooleanGrid();
         
         // Ejecutar el algoritmo seleccionado
         AlgorithmResult solve = null;
@@ -304,12 +447,80 @@ public class MazePanel extends JPanel {
             case "DFS":
                 solve = controller.obtainDFSSolve(mazeBool, start, end);
                 break;
+            case "A*":
+                solve = controller.obtainAStarSolve(mazeBool, start, end);
+                break;
+            case "BFS Bidireccional":
+                solve = controller.obtainBidirectionalBFSSolve(mazeBool, start, end);
+                break;
+            case "JPS":
+                solve = controller.obtainJPSSolve(mazeBool, start, end);
+                break;
+            case "BFS Bit-paralelo":
+                solve = controller.obtainBitParallelBFSSolve(mazeBool, start, end);
+                break;
+            case "BFS Paralelo":
+                solve = controller.obtainParallelBFSSolve(mazeBool, start, end);
+                break;
+            case "BFS Top-down/Bottom-up":
+                solve = controller.obtainDirectionOptimizingBFSSolve(mazeBool, start, end);
+                break;
+            case "Relleno de Callejones":
+                solve = controller.obtainDeadEndFillingSolve(mazeBool, start, end);
+                break;
+            case "Grafo de Corredores":
+                solve = controller.obtainCorridorGraphSolve(mazeBool, start, end);
+                break;
+            case "HPA*":
+                solve = controller.obtainHPAStarSolve(mazeBool, start, end);
+                break;
+            case "A* ALT":
+                solve = controller.obtainALTSolve(mazeBool, start, end);
+                break;
+            case "D* Lite":
+                solve = controller.obtainDStarLiteSolve(mazeBool, start, end);
+                break;
+            case "Dijkstra (Terreno)":
+                solve = controller.obtainWeightedSolve(getWeightedGrid(), start, end);
+                break;
+            case "A* 8 direcciones":
+                solve = controller.obtainAStarEightSolve(mazeBool, start, end);
+                break;
+            case "Theta*":
+                solve = controller.obtainThetaStarSolve(mazeBool, start, end);
+                // Dibujar las celdas que recorren los segmentos, no solo los puntos de giro
+                solve.setPath(controller.expandAnyAnglePath(solve.getPath()));
+                break;
+            case "IDA*":
+                solve = controller.obtainIDAStarSolve(mazeBool, start, end);
+                break;
+            case "ARA*":
+                solve = controller.obtainARAStarSolve(mazeBool, start, end);
+                break;
             default:
                 break;
         }
         return solve;
     }
 
+    /**
+     * Construye la grilla ponderada del laberinto a partir del terreno de cada celda.
+     * Las paredes cuestan 0; el resto, el costo de su terreno (el inicio y el destino
+     * conservan el terreno sobre el que se colocaron).
+     * 
+     * @return WeightedGrid con el costo de entrar en cada celda
+     */
+    private WeightedGrid getWeightedGrid() {
+        WeightedGrid weighted = new WeightedGrid(rows, cols);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int cost = grid[row][col] == CellState.WALL ? WeightedGrid.WALL : terrain[row][col].getCost();
+                weighted.setCost(row, col, cost);
+            }
+        }
+        return weighted;
+    }
+
     /**
      * Resuelve el laberinto con el algoritmo especificado y muestra el resultado con animación.
      * Limpia cualquier resolución anterior, ejecuta el algoritmo y visualiza
@@ -320,7 +531,13 @@ public class MazePanel extends JPanel {
     public void solveMaze(String method) {
         clearMaze(); // Limpiar resultados anteriores
         solveBySteps = null; // Resetear modo paso a paso
+        cursorBySteps = null;
         methodBySteps = null;
+
+        if (method.equals("ARA*")) {
+            solveAnytime(); // Mostrar cada camino mejorado en cuanto llega
+            return;
+        }
         
         AlgorithmResult solve = getResult(method);
         setPath(solve); // Iniciar animación de resultados
@@ -382,11 +599,82 @@ public class MazePanel extends JPanel {
         visitTimer.start();
     }
 
+    /**
+     * Resuelve el laberinto con ARA* en segundo plano durante {@link #ANYTIME_BUDGET_MILLIS}
+     * milisegundos. Muestra el primer camino en cuanto se encuentra y lo reemplaza cada
+     * vez que llega uno mejor; al terminar avisa si no existe camino.
+     */
+    private void solveAnytime() {
+        // Copia propia del laberinto: el hilo de fondo no lee el estado que edita la interfaz
+        boolean[][] mazeBool = buildBooleanGrid();
+        Cell from = start;
+        Cell to = end;
+        // El índice de conectividad solo se consulta y modifica desde este hilo
+        if (controller.isUnreachable(mazeBool, from, to)) {
+            JOptionPane.showMessageDialog(null, "Camino No Encontrado", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        long deadline = System.nanoTime() + ANYTIME_BUDGET_MILLIS * 1_000_000L;
+
+        anytimeWorker = new SwingWorker<>() {
+            @Override
+            protected AlgorithmResult doInBackground() {
+                return controller.obtainAnytimeSolve(mazeBool, from, to, deadline, (path, epsilon) -> publish(path));
+            }
+
+            @Override
+            protected void process(List<List<Cell>> paths) {
+                // Solo interesa el camino más reciente, que es el mejor
+                if (!isCancelled()) showBestPath(paths.get(paths.size() - 1));
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) return;
+                try {
+                    if (get().getPath().isEmpty()) {
+                        JOptionPane.showMessageDialog(null, "Camino No Encontrado", "Error", JOptionPane.ERROR_MESSAGE);
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    JOptionPane.showMessageDialog(null, ex.getCause().getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        };
+        anytimeWorker.execute();
+    }
+
+    /**
+     * Reemplaza el camino mostrado por uno nuevo: las celdas del camino anterior vuelven a
+     * su terreno y se colorean las del nuevo.
+     *
+     * @param path Nuevo camino desde el inicio hasta el destino
+     */
+    private void showBestPath(List<Cell> path) {
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (grid[row][col] == CellState.PATH) grid[row][col] = terrain[row][col];
+            }
+        }
+        for (Cell c : path) {
+            // Solo colorear si no es inicio o fin
+            if (grid[c.row][c.col] != CellState.START && grid[c.row][c.col] != CellState.END) {
+                grid[c.row][c.col] = CellState.PATH;
+            }
+        }
+        repaint();
+    }
+
     /**
      * Ejecuta la resolución del laberinto en modo paso a paso.
      * Permite al usuario avanzar manualmente a través del proceso de resolución,
      * mostrando una celda visitada o una celda del camino en cada invocación.
      * 
+     * Los algoritmos recursivos, BFS y DFS avanzan la búsqueda real una expansión por
+     * invocación mediante un {@link SearchCursor}, sin resolver todo de antemano; el
+     * resto de los algoritmos se ejecuta completo y luego se reproduce celda por celda.
+     * 
      * Comportamiento:
      * - Si es la primera vez o cambió el método: inicia nueva resolución
      * - Si continúa el mismo método: muestra el siguiente paso
@@ -401,9 +689,12 @@ public class MazePanel extends JPanel {
      * @param method Nombre del algoritmo a utilizar para resolver el laberinto
      */
     public void solveMazeBySteps(String method) {
-        if (solveBySteps != null) {
+        if (solveBySteps != null || cursorBySteps != null) {
             // Continuar con el proceso paso a paso existente
             if (method.equals(methodBySteps)) {
+                // Avanzar la búsqueda en vivo mientras no termine
+                if (cursorBySteps != null && advanceCursor()) return;
+
                 // Mostrar celdas visitadas primero
                 if (solveBySteps.getVisited().size() > 0) {
                     Set<Cell> visited = solveBySteps.getVisited();
@@ -439,19 +730,78 @@ public class MazePanel extends JPanel {
             } else {
                 // Cambió el método: iniciar nueva resolución
                 clearMaze();
-                solveBySteps = getResult(method);
-                methodBySteps = method;
+                startSteps(method);
                 solveMazeBySteps(method); // Recursión para mostrar primer paso
             }
         } else {
             // Iniciar nueva resolución paso a paso
             clearMaze();
-            solveBySteps = getResult(method);
-            methodBySteps = method;
+            startSteps(method);
             solveMazeBySteps(method); // Recursión para mostrar primer paso
         }
     }
 
+    /**
+     * Inicia el modo paso a paso: crea un cursor de búsqueda si el algoritmo lo admite o,
+     * si no, ejecuta el algoritmo completo para reproducir su resultado.
+     *
+     * @param method Nombre del algoritmo a utilizar para resolver el laberinto
+     */
+    private void startSteps(String method) {
+        cursorBySteps = getCursor(method);
+        solveBySteps = cursorBySteps == null ? getResult(method) : null;
+        methodBySteps = method;
+    }
+
+    /**
+     * Crea el cursor de búsqueda de los algoritmos que pueden avanzarse por partes.
+     *
+     * @param method Nombre del algoritmo
+     * @return Cursor de la búsqueda, o null si el algoritmo no lo admite
+     */
+    private SearchCursor getCursor(String method) {
+        boolean[][] mazeBool = buildBooleanGrid();
+        switch (method) {
+            case "Recursivo":
+                return controller.obtainRecursiveCursor(mazeBool, start, end);
+            case "Completo":
+                return controller.obtainCompleteCursor(mazeBool, start, end);
+            case "Completo BT":
+                return controller.obtainCompleteBTCursor(mazeBool, start, end);
+            case "BFS":
+                return controller.obtainBFSCursor(mazeBool, start, end);
+            case "DFS":
+                return controller.obtainDFSCursor(mazeBool, start, end);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Avanza la búsqueda en vivo una expansión y colorea las celdas que marcó.
+     * Cuando la búsqueda termina, deja su camino listo para mostrarse celda por celda.
+     *
+     * @return true si se avanzó la búsqueda, false si ya había terminado
+     */
+    private boolean advanceCursor() {
+        while (!cursorBySteps.isFinished()) {
+            if (cursorBySteps.step(1) == 0) continue;
+            for (Cell c : cursorBySteps.getLastVisited()) {
+                // Solo colorear si no es inicio o fin
+                if (grid[c.row][c.col] != CellState.START && grid[c.row][c.col] != CellState.END) {
+                    grid[c.row][c.col] = CellState.VISITED;
+                }
+            }
+            repaint();
+            return true;
+        }
+
+        // Búsqueda terminada: mostrar el camino con el proceso existente
+        solveBySteps = new AlgorithmResult(new ArrayList<>(cursorBySteps.getPath()), new LinkedHashSet<>());
+        cursorBySteps = null;
+        return false;
+    }
+
     /**
      * Limpia el laberinto de todos los resultados de resolución.
      * Remueve las celdas visitadas y el camino encontrado, manteniendo
@@ -466,16 +816,22 @@ public class MazePanel extends JPanel {
      * - VISITED: Celdas exploradas durante búsqueda
      * - PATH: Celdas del camino solución
      * 
-     * Las celdas limpiadas vuelven al estado EMPTY (transitable).
+     * Las celdas limpiadas vuelven a su terreno (EMPTY, MUD o STAIRS). También detiene
+     * una resolución con ARA* que esté en curso.
      */
     public void clearMaze() {
+        // Detener una resolución con ARA* que siga publicando caminos
+        if (anytimeWorker != null) {
+            anytimeWorker.cancel(true);
+            anytimeWorker = null;
+        }
         for (int row = 0; row < rows; row++) {
             for (int col = 0; col < cols; col++) {
                 // Preservar solo inicio, fin y paredes
                 if (grid[row][col] != CellState.START && 
                     grid[row][col] != CellState.END && 
                     grid[row][col] != CellState.WALL) {
-                    grid[row][col] = CellState.EMPTY;
+                    grid[row][col] = terrain[row][col];
                 }
             }
         }